@@ -31,6 +31,7 @@ import io.zeebe.broker.system.configuration.BackpressureCfg;
 import io.zeebe.broker.system.configuration.BrokerCfg;
 import io.zeebe.broker.system.configuration.ClusterCfg;
 import io.zeebe.broker.system.configuration.NetworkCfg;
+import io.zeebe.broker.system.configuration.ProcessingCfg;
 import io.zeebe.broker.system.configuration.SocketBindingCfg;
 import io.zeebe.broker.system.management.LeaderManagementRequestHandler;
 import io.zeebe.broker.system.management.deployment.PushDeploymentRequestHandler;
@@ -40,8 +41,10 @@ import io.zeebe.broker.system.partitions.TypedRecordProcessorsFactory;
 import io.zeebe.broker.system.partitions.ZeebePartition;
 import io.zeebe.broker.system.partitions.impl.AtomixPartitionMessagingService;
 import io.zeebe.broker.transport.backpressure.PartitionAwareRequestLimiter;
+import io.zeebe.broker.transport.backpressure.SchedulerSaturation;
 import io.zeebe.broker.transport.commandapi.CommandApiService;
 import io.zeebe.engine.processor.ProcessingContext;
+import io.zeebe.engine.processor.workflow.EngineConfiguration;
 import io.zeebe.engine.processor.workflow.EngineProcessors;
 import io.zeebe.engine.processor.workflow.message.command.SubscriptionCommandSender;
 import io.zeebe.engine.state.ZeebeState;
@@ -63,7 +66,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 
@@ -93,6 +99,7 @@ public final class Broker implements AutoCloseable {
   private ServerTransport serverTransport;
   private BrokerHealthCheckService healthCheckService;
   private Map<Integer, ZeebeIndexAdapter> partitionIndexes;
+  private ExecutorService deploymentResourceParser;
 
   public Broker(final SystemContext systemContext) {
     this.brokerContext = systemContext;
@@ -179,6 +186,8 @@ public final class Broker implements AutoCloseable {
     startContext.addStep("metric's server", () -> monitoringServerStep(networkCfg, localBroker));
     startContext.addStep(
         "leader management request handler", () -> managementRequestStep(localBroker));
+    startContext.addStep(
+        "deployment resource parser", () -> deploymentResourceParserStep(brokerCfg));
     startContext.addStep(
         "zeebe partitions", () -> partitionsStep(brokerCfg, clusterCfg, localBroker));
 
@@ -244,7 +253,10 @@ public final class Broker implements AutoCloseable {
     if (backpressure.isEnabled()) {
       limiter =
           PartitionAwareRequestLimiter.newLimiter(
-              backpressure.getAlgorithm(), backpressure.useWindowed());
+              backpressure.getAlgorithm(),
+              backpressure.useWindowed(),
+              SchedulerSaturation.of(
+                  brokerContext.getScheduler().getCpuBoundThreadGroup(), backpressure));
     }
 
     commandHandler = new CommandApiService(serverTransport, localBroker, limiter);
@@ -300,6 +312,27 @@ public final class Broker implements AutoCloseable {
     return managementRequestHandler;
   }
 
+  private AutoCloseable deploymentResourceParserStep(final BrokerCfg brokerCfg) {
+    final int threadCount = Math.max(1, brokerCfg.getThreads().getDeploymentParserThreadCount());
+    final AtomicInteger threadId = new AtomicInteger();
+
+    deploymentResourceParser =
+        Executors.newFixedThreadPool(
+            threadCount,
+            runnable -> {
+              final Thread thread =
+                  new Thread(runnable, "zb-deployment-parser-" + threadId.getAndIncrement());
+              thread.setDaemon(true);
+              return thread;
+            });
+
+    return () -> {
+      deploymentResourceParser.shutdownNow();
+      deploymentResourceParser.awaitTermination(
+          brokerContext.getStepTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    };
+  }
+
   private AutoCloseable partitionsStep(
       final BrokerCfg brokerCfg, final ClusterCfg clusterCfg, final BrokerInfo localBroker)
       throws Exception {
@@ -336,7 +369,12 @@ public final class Broker implements AutoCloseable {
                     brokerCfg,
                     commandHandler,
                     partitionIndexes.get(partitionId),
-                    createFactory(topologyManager, clusterCfg, atomix, managementRequestHandler));
+                    createFactory(
+                        topologyManager,
+                        clusterCfg,
+                        brokerCfg.getProcessing(),
+                        atomix,
+                        managementRequestHandler));
             scheduleActor(zeebePartition);
             healthCheckService.registerMonitoredPartition(
                 owningPartition.id().id(), zeebePartition);
@@ -349,6 +387,7 @@ public final class Broker implements AutoCloseable {
   private TypedRecordProcessorsFactory createFactory(
       final TopologyManagerImpl topologyManager,
       final ClusterCfg clusterCfg,
+      final ProcessingCfg processingCfg,
       final Atomix atomix,
       final LeaderManagementRequestHandler requestHandler) {
     return (ActorControl actor, ZeebeState zeebeState, ProcessingContext processingContext) -> {
@@ -371,7 +410,8 @@ public final class Broker implements AutoCloseable {
           requestHandler.getPushDeploymentRequestHandler();
 
       final LongPollingJobNotification jobsAvailableNotification =
-          new LongPollingJobNotification(atomix.getEventService());
+          new LongPollingJobNotification(
+              atomix.getEventService(), actor, processingCfg.getJobsAvailableNotificationWindow());
 
       return EngineProcessors.createEngineProcessors(
           processingContext,
@@ -379,7 +419,10 @@ public final class Broker implements AutoCloseable {
           subscriptionCommandSender,
           deploymentDistributor,
           deploymentRequestHandler,
-          jobsAvailableNotification::onJobsAvailable);
+          jobsAvailableNotification::onJobsAvailable,
+          new EngineConfiguration()
+              .setDeploymentResourceParserExecutor(deploymentResourceParser)
+              .setMaxExpiredMessagesPerCheck(processingCfg.getMaxExpiredMessagesPerCheck()));
     };
   }
 
@@ -0,0 +1,51 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.engine.impl;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+
+public final class DeploymentDistributionMetrics {
+
+  private static final Histogram DISTRIBUTION_LATENCY =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("deployment_distribution_latency")
+          .help("Time until a deployment is distributed to all partitions (in seconds)")
+          .buckets(.01, .05, .1, .25, .5, 1, 2.5, 5, 10, 30, 60)
+          .register();
+
+  private static final Counter PUSH_REQUESTS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("deployment_distribution_push_requests_total")
+          .help("Number of requests which push a deployment to a broker")
+          .labelNames("result")
+          .register();
+
+  private static final Histogram PUSH_REQUEST_PARTITIONS =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("deployment_distribution_push_request_partitions")
+          .help("Number of partitions which are addressed by one push deployment request")
+          .buckets(1, 2, 4, 8, 16, 32, 64)
+          .register();
+
+  public void deploymentDistributed(final long startTimeMs, final long endTimeMs) {
+    DISTRIBUTION_LATENCY.observe((endTimeMs - startTimeMs) / 1000f);
+  }
+
+  public void pushRequestSent(final int partitionCount) {
+    PUSH_REQUESTS.labels("sent").inc();
+    PUSH_REQUEST_PARTITIONS.observe(partitionCount);
+  }
+
+  public void pushRequestFailed() {
+    PUSH_REQUESTS.labels("failed").inc();
+  }
+}
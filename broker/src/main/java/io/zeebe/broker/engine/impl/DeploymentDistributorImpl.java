@@ -8,10 +8,13 @@
 package io.zeebe.broker.engine.impl;
 
 import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
+import io.atomix.cluster.messaging.MessagingException.RemoteHandlerFailure;
 import io.atomix.core.Atomix;
 import io.zeebe.broker.Loggers;
 import io.zeebe.broker.clustering.topology.TopologyPartitionListenerImpl;
 import io.zeebe.broker.system.configuration.ClusterCfg;
+import io.zeebe.broker.system.management.deployment.PushDeploymentBatchRequest;
 import io.zeebe.broker.system.management.deployment.PushDeploymentRequest;
 import io.zeebe.broker.system.management.deployment.PushDeploymentResponse;
 import io.zeebe.engine.processor.workflow.deployment.distribute.DeploymentDistributor;
@@ -22,6 +25,7 @@ import io.zeebe.protocol.impl.encoding.ErrorResponse;
 import io.zeebe.protocol.record.ErrorCode;
 import io.zeebe.util.buffer.BufferUtil;
 import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
 import java.nio.ByteOrder;
@@ -32,15 +36,28 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2IntHashMap;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.collections.IntArrayList;
+import org.agrona.collections.Long2LongHashMap;
 import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 
+/**
+ * Distributes a deployment to the other partitions. All partitions which are led by the same broker
+ * are pushed with one {@link PushDeploymentBatchRequest}.
+ *
+ * <p>Brokers of an older version don't handle batch requests. If a broker fails to handle a batch
+ * request, then the deployment is pushed to this broker with one {@link PushDeploymentRequest} per
+ * partition instead, and further deployments are pushed to this broker without batching for a
+ * while. Afterwards, batch requests are sent again, since the broker may be updated in the
+ * meantime.
+ */
 public final class DeploymentDistributorImpl implements DeploymentDistributor {
 
   public static final Duration PUSH_REQUEST_TIMEOUT = Duration.ofSeconds(15);
   public static final Duration RETRY_DELAY = Duration.ofMillis(100);
+  private static final long UNBATCHED_MEMBER_TIMEOUT = Duration.ofMinutes(1).toMillis();
   private static final Logger LOG = Loggers.WORKFLOW_REPOSITORY_LOGGER;
   private final PushDeploymentResponse pushDeploymentResponse = new PushDeploymentResponse();
 
@@ -56,6 +73,10 @@ public final class DeploymentDistributorImpl implements DeploymentDistributor {
   private final IntArrayList partitionsToDistributeTo;
   private final Atomix atomix;
   private final Map<String, IntArrayList> deploymentResponses = new HashMap<>();
+  private final Long2LongHashMap distributionStartTimes = new Long2LongHashMap(-1);
+  private final DeploymentDistributionMetrics metrics = new DeploymentDistributionMetrics();
+  // node id -> time until the deployments are pushed to the node without batching
+  private final Long2LongHashMap unbatchedMembers = new Long2LongHashMap(-1L);
 
   public DeploymentDistributorImpl(
       final ClusterCfg clusterCfg,
@@ -88,6 +109,7 @@ public final class DeploymentDistributorImpl implements DeploymentDistributor {
 
     deploymentsState.putPendingDeployment(key, pendingDeploymentDistribution);
     pendingDeploymentFutures.put(key, pushedFuture);
+    distributionStartTimes.put(key, ActorClock.currentTimeMillis());
 
     pushDeploymentToPartitions(key);
 
@@ -115,8 +137,8 @@ public final class DeploymentDistributorImpl implements DeploymentDistributor {
         deploymentsState.getPendingDeployment(key);
     final DirectBuffer directBuffer = pendingDeploymentDistribution.getDeployment();
 
-    final PushDeploymentRequest pushRequest =
-        new PushDeploymentRequest().deployment(directBuffer).deploymentKey(key);
+    final PushDeploymentBatchRequest pushRequest =
+        new PushDeploymentBatchRequest().deployment(directBuffer).deploymentKey(key);
 
     final IntArrayList modifiablePartitionsList = new IntArrayList();
     modifiablePartitionsList.addAll(partitionsToDistributeTo);
@@ -125,7 +147,7 @@ public final class DeploymentDistributorImpl implements DeploymentDistributor {
   }
 
   private void prepareToDistribute(
-      final IntArrayList partitionsToDistributeTo, final PushDeploymentRequest pushRequest) {
+      final IntArrayList partitionsToDistributeTo, final PushDeploymentBatchRequest pushRequest) {
     actor.runDelayed(
         PUSH_REQUEST_TIMEOUT,
         () -> {
@@ -138,7 +160,9 @@ public final class DeploymentDistributorImpl implements DeploymentDistributor {
                 missingResponses,
                 topic);
 
-            prepareToDistribute(missingResponses, pushRequest);
+            final IntArrayList partitionsToRetry = new IntArrayList();
+            partitionsToRetry.addAll(missingResponses);
+            prepareToDistribute(partitionsToRetry, pushRequest);
           }
         });
 
@@ -146,7 +170,7 @@ public final class DeploymentDistributorImpl implements DeploymentDistributor {
   }
 
   private void distributeDeployment(
-      final IntArrayList partitionsToDistribute, final PushDeploymentRequest pushRequest) {
+      final IntArrayList partitionsToDistribute, final PushDeploymentBatchRequest pushRequest) {
     final IntArrayList remainingPartitions =
         distributeDeploymentToPartitions(partitionsToDistribute, pushRequest);
 
@@ -158,9 +182,16 @@ public final class DeploymentDistributorImpl implements DeploymentDistributor {
     actor.runDelayed(RETRY_DELAY, () -> distributeDeployment(remainingPartitions, pushRequest));
   }
 
+  /**
+   * Pushes the deployment to the leaders of the given partitions. All partitions which are led by
+   * the same broker are pushed with one request.
+   *
+   * @return the partitions without a known leader
+   */
   private IntArrayList distributeDeploymentToPartitions(
-      final IntArrayList remainingPartitions, final PushDeploymentRequest pushRequest) {
+      final IntArrayList remainingPartitions, final PushDeploymentBatchRequest pushRequest) {
     final Int2IntHashMap currentPartitionLeaders = partitionListener.getPartitionLeaders();
+    final Int2ObjectHashMap<IntArrayList> partitionsByLeader = new Int2ObjectHashMap<>();
 
     final Iterator<Integer> iterator = remainingPartitions.iterator();
     while (iterator.hasNext()) {
@@ -168,62 +199,165 @@ public final class DeploymentDistributorImpl implements DeploymentDistributor {
       if (currentPartitionLeaders.containsKey(partitionId)) {
         final int leader = currentPartitionLeaders.get(partitionId);
         iterator.remove();
-        pushDeploymentToPartition(leader, partitionId, pushRequest);
+        partitionsByLeader.computeIfAbsent(leader, l -> new IntArrayList()).addInt(partitionId);
       }
     }
+
+    partitionsByLeader.forEach(
+        (leader, partitions) -> pushDeploymentToBroker(leader, partitions, pushRequest));
     return remainingPartitions;
   }
 
-  private void pushDeploymentToPartition(
-      final int partitionLeaderId, final int partition, final PushDeploymentRequest pushRequest) {
-    pushRequest.partitionId(partition);
+  private void pushDeploymentToBroker(
+      final int partitionLeaderId,
+      final IntArrayList partitions,
+      final PushDeploymentBatchRequest pushRequest) {
+    createResponseSubscription(pushRequest.deploymentKey(), pushRequest);
+
+    if (!isBatchingSupported(partitionLeaderId)) {
+      for (final int partition : partitions) {
+        pushDeploymentToPartition(partitionLeaderId, partition, pushRequest);
+      }
+      return;
+    }
+
+    pushRequest.partitionIds(partitions);
     final byte[] bytes = pushRequest.toBytes();
     final MemberId memberId = new MemberId(Integer.toString(partitionLeaderId));
 
-    createResponseSubscription(pushRequest.deploymentKey(), pushRequest);
     final CompletableFuture<byte[]> pushDeploymentFuture =
         atomix.getCommunicationService().send("deployment", bytes, memberId, PUSH_REQUEST_TIMEOUT);
+    metrics.pushRequestSent(partitions.size());
 
     pushDeploymentFuture.whenComplete(
         (response, throwable) ->
             actor.call(
                 () -> {
-                  if (throwable != null) {
-                    LOG.warn(
-                        "Failed to push deployment to node {} for partition {}",
-                        partitionLeaderId,
-                        partition,
-                        throwable);
-                    handleRetry(partitionLeaderId, partition, pushRequest);
-
+                  if (isBatchRequestNotHandled(throwable)) {
+                    onBatchingNotSupported(partitionLeaderId);
+                    metrics.pushRequestFailed();
+                    handleRetry(partitionLeaderId, partitions, pushRequest);
                   } else {
-                    final DirectBuffer responseBuffer = new UnsafeBuffer(response);
-                    if (errorResponse.tryWrap(responseBuffer)) {
-                      errorResponse.wrap(responseBuffer, 0, responseBuffer.capacity());
-
-                      if (errorResponse.getErrorCode() == ErrorCode.PARTITION_LEADER_MISMATCH) {
-                        final int responsePartition =
-                            errorResponse.getErrorData().getInt(0, ByteOrder.LITTLE_ENDIAN);
-                        LOG.debug(
-                            "Received partition leader mismatch error from partition {} for deployment {}. Retrying.",
-                            partition,
-                            pushRequest.deploymentKey());
-
-                      } else {
-                        LOG.warn(
-                            "Received rejected deployment push due to error of type {}: '{}'",
-                            errorResponse.getErrorCode().name(),
-                            BufferUtil.bufferAsString(errorResponse.getErrorData()));
-                      }
-
-                      handleRetry(partitionLeaderId, partition, pushRequest);
-                    }
+                    handlePushResult(
+                        partitionLeaderId, partitions, pushRequest, true, response, throwable);
                   }
                 }));
   }
 
+  private void pushDeploymentToPartition(
+      final int partitionLeaderId,
+      final int partition,
+      final PushDeploymentBatchRequest pushRequest) {
+    final byte[] bytes =
+        new PushDeploymentRequest()
+            .deploymentKey(pushRequest.deploymentKey())
+            .deployment(pushRequest.deployment())
+            .partitionId(partition)
+            .toBytes();
+    final MemberId memberId = new MemberId(Integer.toString(partitionLeaderId));
+
+    final CompletableFuture<byte[]> pushDeploymentFuture =
+        atomix.getCommunicationService().send("deployment", bytes, memberId, PUSH_REQUEST_TIMEOUT);
+    metrics.pushRequestSent(1);
+
+    final IntArrayList partitions = new IntArrayList();
+    partitions.addInt(partition);
+
+    pushDeploymentFuture.whenComplete(
+        (response, throwable) ->
+            actor.call(
+                () ->
+                    handlePushResult(
+                        partitionLeaderId, partitions, pushRequest, false, response, throwable)));
+  }
+
+  private void handlePushResult(
+      final int partitionLeaderId,
+      final IntArrayList partitions,
+      final PushDeploymentBatchRequest pushRequest,
+      final boolean isBatchRequest,
+      final byte[] response,
+      final Throwable throwable) {
+    if (throwable != null) {
+      LOG.warn(
+          "Failed to push deployment to node {} for partitions {}",
+          partitionLeaderId,
+          partitions,
+          throwable);
+      metrics.pushRequestFailed();
+      handleRetry(partitionLeaderId, partitions, pushRequest);
+
+    } else {
+      final DirectBuffer responseBuffer = new UnsafeBuffer(response);
+      if (errorResponse.tryWrap(responseBuffer)) {
+        errorResponse.wrap(responseBuffer, 0, responseBuffer.capacity());
+        metrics.pushRequestFailed();
+
+        if (errorResponse.getErrorCode() == ErrorCode.PARTITION_LEADER_MISMATCH) {
+          // the rejection of a single request contains a message instead of the partition ids
+          final IntArrayList mismatchedPartitions =
+              isBatchRequest ? getMismatchedPartitions(errorResponse.getErrorData()) : partitions;
+          LOG.debug(
+              "Received partition leader mismatch error from partitions {} for deployment {}. Retrying.",
+              mismatchedPartitions,
+              pushRequest.deploymentKey());
+
+          handleRetry(partitionLeaderId, mismatchedPartitions, pushRequest);
+
+        } else {
+          LOG.warn(
+              "Received rejected deployment push due to error of type {}: '{}'",
+              errorResponse.getErrorCode().name(),
+              BufferUtil.bufferAsString(errorResponse.getErrorData()));
+
+          handleRetry(partitionLeaderId, partitions, pushRequest);
+        }
+      }
+    }
+  }
+
+  /**
+   * A broker of an older version has either no handler for the requests or its handler fails on the
+   * unknown template id of the batch request.
+   */
+  private static boolean isBatchRequestNotHandled(final Throwable throwable) {
+    if (throwable == null) {
+      return false;
+    }
+    final Throwable error = throwable.getCause() != null ? throwable.getCause() : throwable;
+    return error instanceof NoRemoteHandler || error instanceof RemoteHandlerFailure;
+  }
+
+  private boolean isBatchingSupported(final int nodeId) {
+    final long unbatchedUntil = unbatchedMembers.get(nodeId);
+    if (unbatchedUntil < 0) {
+      return true;
+    } else if (unbatchedUntil <= ActorClock.currentTimeMillis()) {
+      unbatchedMembers.remove(nodeId);
+      return true;
+    }
+    return false;
+  }
+
+  private void onBatchingNotSupported(final int nodeId) {
+    if (unbatchedMembers.get(nodeId) < 0) {
+      LOG.debug(
+          "Broker {} doesn't handle batched deployment pushes, push to each partition separately",
+          nodeId);
+    }
+    unbatchedMembers.put(nodeId, ActorClock.currentTimeMillis() + UNBATCHED_MEMBER_TIMEOUT);
+  }
+
+  private static IntArrayList getMismatchedPartitions(final DirectBuffer errorData) {
+    final IntArrayList partitions = new IntArrayList();
+    for (int offset = 0; offset + Integer.BYTES <= errorData.capacity(); offset += Integer.BYTES) {
+      partitions.addInt(errorData.getInt(offset, ByteOrder.LITTLE_ENDIAN));
+    }
+    return partitions;
+  }
+
   private void createResponseSubscription(
-      final long deploymentKey, final PushDeploymentRequest pushRequest) {
+      final long deploymentKey, final PushDeploymentBatchRequest pushRequest) {
     final String topic = getDeploymentResponseTopic(pushRequest.deploymentKey());
 
     if (atomix.getEventService().getSubscriptions(topic).isEmpty()) {
@@ -268,18 +402,28 @@ public final class DeploymentDistributorImpl implements DeploymentDistributor {
   }
 
   private void handleRetry(
-      final int partitionLeaderId, final int partition, final PushDeploymentRequest pushRequest) {
-    LOG.trace("Retry deployment push to partition {} after {}", partition, RETRY_DELAY);
+      final int partitionLeaderId,
+      final IntArrayList partitions,
+      final PushDeploymentBatchRequest pushRequest) {
+    LOG.trace("Retry deployment push to partitions {} after {}", partitions, RETRY_DELAY);
 
     actor.runDelayed(
         RETRY_DELAY,
         () -> {
           final Int2IntHashMap partitionLeaders = partitionListener.getPartitionLeaders();
-          if (partitionLeaders.containsKey(partition)) {
-            pushDeploymentToPartition(partitionLeaders.get(partition), partition, pushRequest);
-          } else {
-            pushDeploymentToPartition(partitionLeaderId, partition, pushRequest);
+          final Int2ObjectHashMap<IntArrayList> partitionsByLeader = new Int2ObjectHashMap<>();
+
+          for (final int partition : partitions) {
+            final int leader =
+                partitionLeaders.containsKey(partition)
+                    ? partitionLeaders.get(partition)
+                    : partitionLeaderId;
+            partitionsByLeader.computeIfAbsent(leader, l -> new IntArrayList()).addInt(partition);
           }
+
+          partitionsByLeader.forEach(
+              (leader, leaderPartitions) ->
+                  pushDeploymentToBroker(leader, leaderPartitions, pushRequest));
         });
   }
 
@@ -301,6 +445,11 @@ public final class DeploymentDistributorImpl implements DeploymentDistributor {
       if (remainingPartitions == 0) {
         LOG.debug("Deployment {} distributed to all partitions successfully.", deploymentKey);
         pendingDeploymentFutures.remove(deploymentKey).complete(null);
+
+        if (distributionStartTimes.containsKey(deploymentKey)) {
+          metrics.deploymentDistributed(
+              distributionStartTimes.remove(deploymentKey), ActorClock.currentTimeMillis());
+        }
       }
     } else {
       LOG.trace(
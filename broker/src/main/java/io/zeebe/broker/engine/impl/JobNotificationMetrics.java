@@ -0,0 +1,42 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.engine.impl;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+
+public final class JobNotificationMetrics {
+
+  private static final Counter NOTIFICATIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("job_available_notifications_total")
+          .help("Number of jobs available notifications which are sent or coalesced")
+          .labelNames("action")
+          .register();
+
+  private static final Histogram AVAILABLE_JOBS_PER_NOTIFICATION =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("job_available_notification_jobs")
+          .help("Number of available jobs which are notified by one jobs available notification")
+          .buckets(1, 2, 5, 10, 25, 50, 100, 250, 500, 1000)
+          .register();
+
+  private final Counter.Child sent = NOTIFICATIONS.labels("sent");
+  private final Counter.Child coalesced = NOTIFICATIONS.labels("coalesced");
+
+  public void notificationSent(final int availableJobs) {
+    sent.inc();
+    AVAILABLE_JOBS_PER_NOTIFICATION.observe(availableJobs);
+  }
+
+  public void notificationCoalesced() {
+    coalesced.inc();
+  }
+}
@@ -8,16 +8,90 @@
 package io.zeebe.broker.engine.impl;
 
 import io.atomix.cluster.messaging.ClusterEventService;
+import io.zeebe.util.sched.ActorControl;
+import java.time.Duration;
+import org.agrona.collections.Object2IntHashMap;
 
+/**
+ * Notifies the gateways that jobs of a type are available. The notifications are coalesced per job
+ * type: the first notification of a type is sent immediately, further notifications of the same
+ * type are collected and sent at most once per window.
+ */
 public final class LongPollingJobNotification {
+
+  public static final Duration DEFAULT_NOTIFICATION_WINDOW = Duration.ofMillis(100);
+
   private static final String TOPIC = "jobsAvailable";
+  private static final int NOT_NOTIFIED = -1;
+
+  // job type -> number of available jobs since the last notification of the type
+  private final Object2IntHashMap<String> pendingNotifications =
+      new Object2IntHashMap<>(NOT_NOTIFIED);
+  private final JobNotificationMetrics metrics = new JobNotificationMetrics();
+
   private final ClusterEventService eventService;
+  private final ActorControl actor;
+  private final Duration notificationWindow;
 
-  public LongPollingJobNotification(final ClusterEventService eventService) {
+  private boolean isFlushScheduled;
+
+  public LongPollingJobNotification(
+      final ClusterEventService eventService,
+      final ActorControl actor,
+      final Duration notificationWindow) {
     this.eventService = eventService;
+    this.actor = actor;
+    this.notificationWindow = notificationWindow;
   }
 
   public void onJobsAvailable(final String jobType) {
+    final int availableJobs = pendingNotifications.getValue(jobType);
+
+    if (availableJobs == NOT_NOTIFIED) {
+      // no notification of this type in the current window - notify immediately
+      notifyJobsAvailable(jobType, 1);
+      pendingNotifications.put(jobType, 0);
+      scheduleFlush();
+
+    } else {
+      pendingNotifications.put(jobType, availableJobs + 1);
+      metrics.notificationCoalesced();
+    }
+  }
+
+  private void scheduleFlush() {
+    if (!isFlushScheduled) {
+      isFlushScheduled = true;
+      actor.runDelayed(notificationWindow, this::flush);
+    }
+  }
+
+  private void flush() {
+    isFlushScheduled = false;
+
+    final Object2IntHashMap<String>.EntryIterator iterator =
+        pendingNotifications.entrySet().iterator();
+    while (iterator.hasNext()) {
+      iterator.next();
+
+      final int availableJobs = iterator.getIntValue();
+      if (availableJobs > 0) {
+        notifyJobsAvailable(iterator.getKey(), availableJobs);
+        iterator.setValue(0);
+      } else {
+        // no more jobs of this type in the last window - the next one is notified immediately
+        iterator.remove();
+      }
+    }
+
+    if (!pendingNotifications.isEmpty()) {
+      scheduleFlush();
+    }
+  }
+
+  private void notifyJobsAvailable(final String jobType, final int availableJobs) {
+    // the gateways expect only the job type - the number of jobs is only recorded in the metrics
     eventService.broadcast(TOPIC, jobType);
+    metrics.notificationSent(availableJobs);
   }
 }
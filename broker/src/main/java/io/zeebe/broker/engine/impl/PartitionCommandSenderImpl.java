@@ -8,44 +8,151 @@
 package io.zeebe.broker.engine.impl;
 
 import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
 import io.atomix.core.Atomix;
+import io.zeebe.broker.Loggers;
 import io.zeebe.broker.clustering.topology.TopologyManager;
 import io.zeebe.broker.clustering.topology.TopologyPartitionListenerImpl;
+import io.zeebe.engine.metrics.SubscriptionCommandMetrics;
 import io.zeebe.engine.processor.workflow.message.command.PartitionCommandSender;
+import io.zeebe.engine.processor.workflow.message.command.SubscriptionCommandBatch;
 import io.zeebe.util.buffer.BufferWriter;
 import io.zeebe.util.sched.ActorControl;
-import org.agrona.MutableDirectBuffer;
+import io.zeebe.util.sched.clock.ActorClock;
+import java.time.Duration;
 import org.agrona.collections.Int2IntHashMap;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.Long2LongHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.slf4j.Logger;
 
+/**
+ * Sends the commands to the leader of the receiver partition. The commands are not sent immediately
+ * but collected per receiver partition until the current actor job is done. Then, all collected
+ * commands of a partition are sent as one {@link SubscriptionCommandBatch}.
+ *
+ * <p>Brokers of an older version don't handle batches. If a broker rejects a batch because it has
+ * no handler for it, then the commands are sent one by one on the {@link #SUBSCRIPTION_TOPIC}
+ * instead, and further commands to this broker are not batched for a while. Afterwards, batches are
+ * sent again, since the broker may be updated in the meantime.
+ */
 public final class PartitionCommandSenderImpl implements PartitionCommandSender {
 
+  public static final String SUBSCRIPTION_TOPIC = "subscription";
+  public static final String SUBSCRIPTION_BATCH_TOPIC = "subscription-batch";
+
+  private static final Logger LOG = Loggers.CLUSTERING_LOGGER;
+
+  private static final int MAX_BATCH_LENGTH = 32 * 1024;
+  private static final long UNBATCHED_MEMBER_TIMEOUT = Duration.ofMinutes(1).toMillis();
+
+  private final Int2ObjectHashMap<SubscriptionCommandBatch> pendingBatches =
+      new Int2ObjectHashMap<>();
+  // node id -> time until the commands are sent to the node without batching
+  private final Long2LongHashMap unbatchedMembers = new Long2LongHashMap(-1L);
+  private final SubscriptionCommandMetrics metrics = new SubscriptionCommandMetrics();
+
   private final Atomix atomix;
+  private final ActorControl actor;
 
   private final TopologyPartitionListenerImpl partitionListener;
 
+  private boolean isFlushScheduled;
+
   public PartitionCommandSenderImpl(
       final Atomix atomix, final TopologyManager topologyManager, final ActorControl actor) {
     this.atomix = atomix;
+    this.actor = actor;
     this.partitionListener = new TopologyPartitionListenerImpl(actor);
     topologyManager.addTopologyPartitionListener(partitionListener);
   }
 
   public boolean sendCommand(final int receiverPartitionId, final BufferWriter command) {
+    final SubscriptionCommandBatch batch =
+        pendingBatches.computeIfAbsent(receiverPartitionId, p -> new SubscriptionCommandBatch());
+
+    if (!batch.isEmpty() && batch.getLength() + command.getLength() > MAX_BATCH_LENGTH) {
+      sendBatch(receiverPartitionId, batch);
+    }
+    batch.add(command);
+
+    if (!isFlushScheduled) {
+      isFlushScheduled = true;
+      actor.submit(this::sendPendingBatches);
+    }
+    return true;
+  }
+
+  private void sendPendingBatches() {
+    isFlushScheduled = false;
+    pendingBatches.forEach(this::sendBatch);
+  }
+
+  private void sendBatch(final int receiverPartitionId, final SubscriptionCommandBatch batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
 
     final Int2IntHashMap partitionLeaders = partitionListener.getPartitionLeaders();
-    if (!partitionLeaders.containsKey(receiverPartitionId)) {
+    if (partitionLeaders.containsKey(receiverPartitionId)) {
+      final int partitionLeader = partitionLeaders.get(receiverPartitionId);
+      final byte[] commands = batch.toByteArray();
+
+      if (isBatchingSupported(partitionLeader)) {
+        atomix
+            .getCommunicationService()
+            .send(SUBSCRIPTION_BATCH_TOPIC, commands, MemberId.from("" + partitionLeader))
+            .whenComplete(
+                (response, error) -> {
+                  if (error instanceof NoRemoteHandler
+                      || (error != null && error.getCause() instanceof NoRemoteHandler)) {
+                    actor.run(() -> onBatchingNotSupported(partitionLeader, commands));
+                  }
+                });
+
+        metrics.batchSent(receiverPartitionId, batch.getCommandCount());
+      } else {
+        sendCommandsSeparately(partitionLeader, commands);
+      }
+    }
+
+    batch.reset();
+  }
+
+  private boolean isBatchingSupported(final int nodeId) {
+    final long unbatchedUntil = unbatchedMembers.get(nodeId);
+    if (unbatchedUntil < 0) {
+      return true;
+    } else if (unbatchedUntil <= ActorClock.currentTimeMillis()) {
+      unbatchedMembers.remove(nodeId);
       return true;
     }
-    final int partitionLeader = partitionLeaders.get(receiverPartitionId);
+    return false;
+  }
 
-    final byte bytes[] = new byte[command.getLength()];
-    final MutableDirectBuffer buffer = new UnsafeBuffer(bytes);
-    command.write(buffer, 0);
+  private void onBatchingNotSupported(final int nodeId, final byte[] commands) {
+    if (unbatchedMembers.get(nodeId) < 0) {
+      LOG.debug(
+          "Broker {} doesn't handle batched subscription commands, send them separately", nodeId);
+    }
+    unbatchedMembers.put(nodeId, ActorClock.currentTimeMillis() + UNBATCHED_MEMBER_TIMEOUT);
 
-    atomix
-        .getCommunicationService()
-        .send("subscription", bytes, MemberId.from("" + partitionLeader));
-    return true;
+    sendCommandsSeparately(nodeId, commands);
+  }
+
+  private void sendCommandsSeparately(final int nodeId, final byte[] commands) {
+    final ClusterCommunicationService communicationService = atomix.getCommunicationService();
+    final MemberId memberId = MemberId.from("" + nodeId);
+
+    SubscriptionCommandBatch.forEachCommand(
+        new UnsafeBuffer(commands),
+        0,
+        commands.length,
+        (buffer, offset, length) -> {
+          final byte[] command = new byte[length];
+          buffer.getBytes(offset, command);
+          communicationService.send(SUBSCRIPTION_TOPIC, command, memberId);
+        });
   }
 }
@@ -12,6 +12,7 @@ import io.zeebe.broker.Loggers;
 import io.zeebe.broker.PartitionListener;
 import io.zeebe.engine.processor.workflow.message.command.SubscriptionCommandMessageHandler;
 import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.zeebe.util.sched.Actor;
@@ -24,6 +25,8 @@ public final class SubscriptionApiCommandMessageHandlerService extends Actor
 
   private final Int2ObjectHashMap<LogStreamRecordWriter> leaderPartitions =
       new Int2ObjectHashMap<>();
+  private final Int2ObjectHashMap<LogStreamBatchWriter> leaderPartitionBatchWriters =
+      new Int2ObjectHashMap<>();
   private final Atomix atomix;
   private final String actorName;
 
@@ -41,8 +44,14 @@ public final class SubscriptionApiCommandMessageHandlerService extends Actor
   @Override
   protected void onActorStarting() {
     final SubscriptionCommandMessageHandler messageHandler =
-        new SubscriptionCommandMessageHandler(actor::call, leaderPartitions::get);
-    atomix.getCommunicationService().subscribe("subscription", messageHandler);
+        new SubscriptionCommandMessageHandler(
+            actor::call, leaderPartitions::get, leaderPartitionBatchWriters::get);
+    atomix
+        .getCommunicationService()
+        .subscribe(PartitionCommandSenderImpl.SUBSCRIPTION_TOPIC, messageHandler);
+    atomix
+        .getCommunicationService()
+        .subscribe(PartitionCommandSenderImpl.SUBSCRIPTION_BATCH_TOPIC, messageHandler::applyBatch);
   }
 
   @Override
@@ -51,6 +60,7 @@ public final class SubscriptionApiCommandMessageHandlerService extends Actor
     return actor.call(
         () -> {
           leaderPartitions.remove(partitionId);
+          leaderPartitionBatchWriters.remove(partitionId);
           return null;
         });
   }
@@ -67,7 +77,7 @@ public final class SubscriptionApiCommandMessageHandlerService extends Actor
                     (recordWriter, error) -> {
                       if (error == null) {
                         leaderPartitions.put(partitionId, recordWriter);
-                        future.complete(null);
+                        addBatchWriter(partitionId, logStream, future);
                       } else {
                         Loggers.SYSTEM_LOGGER.error(
                             "Unexpected error on retrieving write buffer for partition {}",
@@ -78,4 +88,23 @@ public final class SubscriptionApiCommandMessageHandlerService extends Actor
                     }));
     return future;
   }
+
+  private void addBatchWriter(
+      final int partitionId, final LogStream logStream, final CompletableActorFuture<Void> future) {
+    logStream
+        .newLogStreamBatchWriter()
+        .onComplete(
+            (batchWriter, error) -> {
+              if (error == null) {
+                leaderPartitionBatchWriters.put(partitionId, batchWriter);
+                future.complete(null);
+              } else {
+                Loggers.SYSTEM_LOGGER.error(
+                    "Unexpected error on retrieving batch writer for partition {}",
+                    partitionId,
+                    error);
+                future.completeExceptionally(error);
+              }
+            });
+  }
 }
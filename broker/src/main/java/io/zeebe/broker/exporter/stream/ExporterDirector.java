@@ -96,6 +96,11 @@ public final class ExporterDirector extends Actor {
     return name;
   }
 
+  @Override
+  public int getPartitionAffinity() {
+    return logStream.getPartitionId();
+  }
+
   @Override
   protected void onActorStarting() {
     final ActorFuture<LogStreamReader> newReaderFuture = logStream.newLogStreamReader();
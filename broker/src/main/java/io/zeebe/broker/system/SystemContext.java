@@ -14,12 +14,19 @@ import io.zeebe.broker.Loggers;
 import io.zeebe.broker.system.configuration.BrokerCfg;
 import io.zeebe.broker.system.configuration.ClusterCfg;
 import io.zeebe.broker.system.configuration.DataCfg;
+import io.zeebe.broker.system.configuration.IdleStrategyCfg;
 import io.zeebe.broker.system.configuration.ThreadsCfg;
+import io.zeebe.util.sched.ActorPriority;
 import io.zeebe.util.sched.ActorScheduler;
 import io.zeebe.util.sched.clock.ActorClock;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
+import java.util.function.Supplier;
+import org.agrona.concurrent.BackoffIdleStrategy;
+import org.agrona.concurrent.BusySpinIdleStrategy;
+import org.agrona.concurrent.IdleStrategy;
+import org.agrona.concurrent.YieldingIdleStrategy;
 import org.slf4j.Logger;
 
 public final class SystemContext {
@@ -31,6 +38,8 @@ public final class SystemContext {
       "Replication factor %s needs to be larger then zero and not larger then cluster size %s.";
   private static final String SNAPSHOT_PERIOD_ERROR_MSG =
       "Snapshot period %s needs to be larger then or equals to one minute.";
+  private static final String IDLE_STRATEGY_PARK_PERIOD_ERROR_MSG =
+      "Expected the min park period %s of the idle strategy to be positive and not larger then the max park period %s.";
   private static final String MMAP_REPLICATION_ERROR_MSG =
       "Using memory mapped storage level is currently unsafe with replication enabled; if you wish to use replication, set useMmap flag to false (e.g. ZEEBE_BROKER_DATA_USEMMAP=false)";
   protected final BrokerCfg brokerCfg;
@@ -93,6 +102,21 @@ public final class SystemContext {
     if (snapshotPeriod.isNegative() || snapshotPeriod.minus(MINIMUM_SNAPSHOT_PERIOD).isNegative()) {
       throw new IllegalArgumentException(String.format(SNAPSHOT_PERIOD_ERROR_MSG, snapshotPeriod));
     }
+
+    final ThreadsCfg threads = brokerCfg.getThreads();
+    validateIdleStrategy(threads.getCpuIdleStrategy());
+    validateIdleStrategy(threads.getIoIdleStrategy());
+  }
+
+  private static void validateIdleStrategy(final IdleStrategyCfg idleStrategy) {
+    final Duration minParkPeriod = idleStrategy.getMinParkPeriod();
+    final Duration maxParkPeriod = idleStrategy.getMaxParkPeriod();
+    if (minParkPeriod.isNegative()
+        || minParkPeriod.isZero()
+        || minParkPeriod.compareTo(maxParkPeriod) > 0) {
+      throw new IllegalArgumentException(
+          String.format(IDLE_STRATEGY_PARK_PERIOD_ERROR_MSG, minParkPeriod, maxParkPeriod));
+    }
   }
 
   private ActorScheduler initScheduler(final ActorClock clock, final String brokerId) {
@@ -105,10 +129,33 @@ public final class SystemContext {
         .setActorClock(clock)
         .setCpuBoundActorThreadCount(cpuThreads)
         .setIoBoundActorThreadCount(ioThreads)
+        .setMaxIoBoundActorThreadCount(cfg.getMaxIoThreadCount())
+        .setPartitionAffinityEnabled(cfg.isPartitionAffinity())
+        .setCpuBoundIdleStrategy(createIdleStrategy(cfg.getCpuIdleStrategy()))
+        .setIoBoundIdleStrategy(createIdleStrategy(cfg.getIoIdleStrategy()))
+        .setTaskExecutionBudget(ActorPriority.HIGH, cfg.getHighPriorityTaskBudget())
+        .setTaskExecutionBudget(ActorPriority.REGULAR, cfg.getRegularPriorityTaskBudget())
+        .setTaskExecutionBudget(ActorPriority.LOW, cfg.getLowPriorityTaskBudget())
         .setSchedulerName(brokerId)
         .build();
   }
 
+  private static Supplier<IdleStrategy> createIdleStrategy(final IdleStrategyCfg cfg) {
+    switch (cfg.getType()) {
+      case SPIN:
+        return BusySpinIdleStrategy::new;
+      case YIELD:
+        return YieldingIdleStrategy::new;
+      case BACKOFF:
+      default:
+        final long minParkPeriod = cfg.getMinParkPeriod().toNanos();
+        final long maxParkPeriod = cfg.getMaxParkPeriod().toNanos();
+        return () ->
+            new BackoffIdleStrategy(
+                cfg.getMaxSpins(), cfg.getMaxYields(), minParkPeriod, maxParkPeriod);
+    }
+  }
+
   public ActorScheduler getScheduler() {
     return scheduler;
   }
@@ -7,11 +7,15 @@
  */
 package io.zeebe.broker.system.configuration;
 
+import java.time.Duration;
+
 public final class BackpressureCfg implements ConfigurationEntry {
 
   private boolean enabled = true;
   private boolean useWindowed = true;
   private String algorithm = "vegas";
+  private Duration maxSchedulingLatency = Duration.ofMillis(100);
+  private int maxQueuedTasksPerThread = 100;
 
   public boolean isEnabled() {
     return enabled;
@@ -40,6 +44,32 @@ public final class BackpressureCfg implements ConfigurationEntry {
     return this;
   }
 
+  /**
+   * @return the average time an actor task may wait for a thread before commands are rejected, 0
+   *     disables the check
+   */
+  public Duration getMaxSchedulingLatency() {
+    return maxSchedulingLatency;
+  }
+
+  public BackpressureCfg setMaxSchedulingLatency(final Duration maxSchedulingLatency) {
+    this.maxSchedulingLatency = maxSchedulingLatency;
+    return this;
+  }
+
+  /**
+   * @return the number of actor tasks per thread which may wait for a thread before commands are
+   *     rejected, 0 disables the check
+   */
+  public int getMaxQueuedTasksPerThread() {
+    return maxQueuedTasksPerThread;
+  }
+
+  public BackpressureCfg setMaxQueuedTasksPerThread(final int maxQueuedTasksPerThread) {
+    this.maxQueuedTasksPerThread = maxQueuedTasksPerThread;
+    return this;
+  }
+
   public enum LimitAlgorithm {
     VEGAS,
     GRADIENT,
@@ -25,6 +25,8 @@ public final class DataCfg implements ConfigurationEntry {
 
   private DataSize logSegmentSize = DEFAULT_DATA_SIZE;
 
+  private DataSize logBufferMaxSize;
+
   private Duration snapshotPeriod = Duration.ofMinutes(15);
 
   private int logIndexDensity = 100;
@@ -57,6 +59,18 @@ public final class DataCfg implements ConfigurationEntry {
     this.logSegmentSize = logSegmentSize;
   }
 
+  public long getLogBufferMaxSizeInBytes() {
+    return Optional.ofNullable(logBufferMaxSize).map(DataSize::toBytes).orElse(-1L);
+  }
+
+  public DataSize getLogBufferMaxSize() {
+    return logBufferMaxSize;
+  }
+
+  public void setLogBufferMaxSize(final DataSize logBufferMaxSize) {
+    this.logBufferMaxSize = logBufferMaxSize;
+  }
+
   public Duration getSnapshotPeriod() {
     return snapshotPeriod;
   }
@@ -93,6 +107,9 @@ public final class DataCfg implements ConfigurationEntry {
         + ", logSegmentSize='"
         + logSegmentSize
         + '\''
+        + ", logBufferMaxSize='"
+        + logBufferMaxSize
+        + '\''
         + ", snapshotPeriod='"
         + snapshotPeriod
         + '\''
@@ -0,0 +1,90 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.configuration;
+
+import java.time.Duration;
+
+public final class IdleStrategyCfg implements ConfigurationEntry {
+
+  private String type = "backoff";
+  private int maxSpins = 100;
+  private int maxYields = 100;
+  private Duration minParkPeriod = Duration.ofNanos(1);
+  private Duration maxParkPeriod = Duration.ofMillis(1);
+
+  public IdleStrategyType getType() {
+    return IdleStrategyType.valueOf(type.toUpperCase());
+  }
+
+  public IdleStrategyCfg setType(final String type) {
+    this.type = type;
+    return this;
+  }
+
+  public int getMaxSpins() {
+    return maxSpins;
+  }
+
+  public IdleStrategyCfg setMaxSpins(final int maxSpins) {
+    this.maxSpins = maxSpins;
+    return this;
+  }
+
+  public int getMaxYields() {
+    return maxYields;
+  }
+
+  public IdleStrategyCfg setMaxYields(final int maxYields) {
+    this.maxYields = maxYields;
+    return this;
+  }
+
+  public Duration getMinParkPeriod() {
+    return minParkPeriod;
+  }
+
+  public IdleStrategyCfg setMinParkPeriod(final Duration minParkPeriod) {
+    this.minParkPeriod = minParkPeriod;
+    return this;
+  }
+
+  public Duration getMaxParkPeriod() {
+    return maxParkPeriod;
+  }
+
+  public IdleStrategyCfg setMaxParkPeriod(final Duration maxParkPeriod) {
+    this.maxParkPeriod = maxParkPeriod;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "IdleStrategyCfg{"
+        + "type='"
+        + type
+        + '\''
+        + ", maxSpins="
+        + maxSpins
+        + ", maxYields="
+        + maxYields
+        + ", minParkPeriod="
+        + minParkPeriod
+        + ", maxParkPeriod="
+        + maxParkPeriod
+        + '}';
+  }
+
+  public enum IdleStrategyType {
+    /** spins and then yields and parks with an increasing period, while there is no work */
+    BACKOFF,
+    /** yields the thread while there is no work */
+    YIELD,
+    /** spins while there is no work */
+    SPIN
+  }
+}
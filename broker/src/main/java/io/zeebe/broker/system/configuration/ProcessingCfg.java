@@ -0,0 +1,70 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.configuration;
+
+import io.zeebe.broker.engine.impl.LongPollingJobNotification;
+import io.zeebe.engine.processor.workflow.EngineConfiguration;
+import java.time.Duration;
+
+public final class ProcessingCfg implements ConfigurationEntry {
+
+  private int metricsSampleRate = 1;
+  private int maxExpiredMessagesPerCheck =
+      EngineConfiguration.DEFAULT_MAX_EXPIRED_MESSAGES_PER_CHECK;
+  private Duration jobsAvailableNotificationWindow =
+      LongPollingJobNotification.DEFAULT_NOTIFICATION_WINDOW;
+
+  /**
+   * @return the rate in which the durations of the processed records are measured, e.g. 10 to
+   *     measure every 10th record
+   */
+  public int getMetricsSampleRate() {
+    return metricsSampleRate;
+  }
+
+  public void setMetricsSampleRate(final int metricsSampleRate) {
+    this.metricsSampleRate = metricsSampleRate;
+  }
+
+  /**
+   * @return the max number of expired messages for which a delete command is written at once; the
+   *     remaining messages are expired afterwards, so that other records can be processed in
+   *     between
+   */
+  public int getMaxExpiredMessagesPerCheck() {
+    return maxExpiredMessagesPerCheck;
+  }
+
+  public void setMaxExpiredMessagesPerCheck(final int maxExpiredMessagesPerCheck) {
+    this.maxExpiredMessagesPerCheck = maxExpiredMessagesPerCheck;
+  }
+
+  /**
+   * @return the time in which the notifications to the gateways about available jobs of the same
+   *     type are collected and sent together; the first notification of a type is sent immediately
+   */
+  public Duration getJobsAvailableNotificationWindow() {
+    return jobsAvailableNotificationWindow;
+  }
+
+  public void setJobsAvailableNotificationWindow(final Duration jobsAvailableNotificationWindow) {
+    this.jobsAvailableNotificationWindow = jobsAvailableNotificationWindow;
+  }
+
+  @Override
+  public String toString() {
+    return "ProcessingCfg{"
+        + "metricsSampleRate="
+        + metricsSampleRate
+        + ", maxExpiredMessagesPerCheck="
+        + maxExpiredMessagesPerCheck
+        + ", jobsAvailableNotificationWindow="
+        + jobsAvailableNotificationWindow
+        + '}';
+  }
+}
@@ -7,9 +7,19 @@
  */
 package io.zeebe.broker.system.configuration;
 
+import java.time.Duration;
+
 public final class ThreadsCfg implements ConfigurationEntry {
   private int cpuThreadCount = 2;
   private int ioThreadCount = 2;
+  private int maxIoThreadCount = 0;
+  private int deploymentParserThreadCount = 2;
+  private boolean partitionAffinity = false;
+  private IdleStrategyCfg cpuIdleStrategy = new IdleStrategyCfg();
+  private IdleStrategyCfg ioIdleStrategy = new IdleStrategyCfg();
+  private Duration highPriorityTaskBudget = Duration.ofMillis(10);
+  private Duration regularPriorityTaskBudget = Duration.ofMillis(5);
+  private Duration lowPriorityTaskBudget = Duration.ofMillis(2);
 
   public int getCpuThreadCount() {
     return cpuThreadCount;
@@ -27,6 +37,70 @@ public final class ThreadsCfg implements ConfigurationEntry {
     this.ioThreadCount = ioThreads;
   }
 
+  public int getMaxIoThreadCount() {
+    return maxIoThreadCount;
+  }
+
+  public void setMaxIoThreadCount(final int maxIoThreadCount) {
+    this.maxIoThreadCount = maxIoThreadCount;
+  }
+
+  public int getDeploymentParserThreadCount() {
+    return deploymentParserThreadCount;
+  }
+
+  public void setDeploymentParserThreadCount(final int deploymentParserThreadCount) {
+    this.deploymentParserThreadCount = deploymentParserThreadCount;
+  }
+
+  public boolean isPartitionAffinity() {
+    return partitionAffinity;
+  }
+
+  public void setPartitionAffinity(final boolean partitionAffinity) {
+    this.partitionAffinity = partitionAffinity;
+  }
+
+  public IdleStrategyCfg getCpuIdleStrategy() {
+    return cpuIdleStrategy;
+  }
+
+  public void setCpuIdleStrategy(final IdleStrategyCfg cpuIdleStrategy) {
+    this.cpuIdleStrategy = cpuIdleStrategy;
+  }
+
+  public IdleStrategyCfg getIoIdleStrategy() {
+    return ioIdleStrategy;
+  }
+
+  public void setIoIdleStrategy(final IdleStrategyCfg ioIdleStrategy) {
+    this.ioIdleStrategy = ioIdleStrategy;
+  }
+
+  public Duration getHighPriorityTaskBudget() {
+    return highPriorityTaskBudget;
+  }
+
+  public void setHighPriorityTaskBudget(final Duration highPriorityTaskBudget) {
+    this.highPriorityTaskBudget = highPriorityTaskBudget;
+  }
+
+  public Duration getRegularPriorityTaskBudget() {
+    return regularPriorityTaskBudget;
+  }
+
+  public void setRegularPriorityTaskBudget(final Duration regularPriorityTaskBudget) {
+    this.regularPriorityTaskBudget = regularPriorityTaskBudget;
+  }
+
+  public Duration getLowPriorityTaskBudget() {
+    return lowPriorityTaskBudget;
+  }
+
+  public void setLowPriorityTaskBudget(final Duration lowPriorityTaskBudget) {
+    this.lowPriorityTaskBudget = lowPriorityTaskBudget;
+  }
+
   @Override
   public String toString() {
     return "ThreadsCfg{"
@@ -34,6 +108,22 @@ public final class ThreadsCfg implements ConfigurationEntry {
         + cpuThreadCount
         + ", ioThreadCount="
         + ioThreadCount
+        + ", maxIoThreadCount="
+        + maxIoThreadCount
+        + ", deploymentParserThreadCount="
+        + deploymentParserThreadCount
+        + ", partitionAffinity="
+        + partitionAffinity
+        + ", cpuIdleStrategy="
+        + cpuIdleStrategy
+        + ", ioIdleStrategy="
+        + ioIdleStrategy
+        + ", highPriorityTaskBudget="
+        + highPriorityTaskBudget
+        + ", regularPriorityTaskBudget="
+        + regularPriorityTaskBudget
+        + ", lowPriorityTaskBudget="
+        + lowPriorityTaskBudget
         + '}';
   }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.management.deployment;
+
+import static io.zeebe.clustering.management.PushDeploymentBatchRequestDecoder.deploymentHeaderLength;
+
+import io.zeebe.clustering.management.PushDeploymentBatchRequestDecoder;
+import io.zeebe.clustering.management.PushDeploymentBatchRequestDecoder.PartitionsDecoder;
+import io.zeebe.clustering.management.PushDeploymentBatchRequestEncoder;
+import io.zeebe.clustering.management.PushDeploymentBatchRequestEncoder.PartitionsEncoder;
+import io.zeebe.engine.util.SbeBufferWriterReader;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.IntArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/** Pushes a deployment to all partitions of the request which are led by the same broker. */
+public final class PushDeploymentBatchRequest
+    extends SbeBufferWriterReader<
+        PushDeploymentBatchRequestEncoder, PushDeploymentBatchRequestDecoder> {
+
+  private final PushDeploymentBatchRequestEncoder bodyEncoder =
+      new PushDeploymentBatchRequestEncoder();
+  private final PushDeploymentBatchRequestDecoder bodyDecoder =
+      new PushDeploymentBatchRequestDecoder();
+  private final IntArrayList partitionIds = new IntArrayList();
+  private final DirectBuffer deployment = new UnsafeBuffer(0, 0);
+  private long deploymentKey = PushDeploymentBatchRequestEncoder.deploymentKeyNullValue();
+
+  public PushDeploymentBatchRequest partitionIds(final IntArrayList partitionIds) {
+    this.partitionIds.clear();
+    this.partitionIds.addAll(partitionIds);
+    return this;
+  }
+
+  public IntArrayList partitionIds() {
+    return partitionIds;
+  }
+
+  public PushDeploymentBatchRequest deploymentKey(final long deploymentKey) {
+    this.deploymentKey = deploymentKey;
+    return this;
+  }
+
+  public long deploymentKey() {
+    return deploymentKey;
+  }
+
+  public PushDeploymentBatchRequest deployment(final DirectBuffer directBuffer) {
+    deployment.wrap(directBuffer);
+    return this;
+  }
+
+  public DirectBuffer deployment() {
+    return deployment;
+  }
+
+  @Override
+  protected PushDeploymentBatchRequestEncoder getBodyEncoder() {
+    return bodyEncoder;
+  }
+
+  @Override
+  protected PushDeploymentBatchRequestDecoder getBodyDecoder() {
+    return bodyDecoder;
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+
+    partitionIds.clear();
+    deploymentKey = PushDeploymentBatchRequestEncoder.deploymentKeyNullValue();
+    deployment.wrap(0, 0);
+  }
+
+  @Override
+  public int getLength() {
+    return super.getLength()
+        + PartitionsEncoder.sbeHeaderSize()
+        + PartitionsEncoder.sbeBlockLength() * partitionIds.size()
+        + deploymentHeaderLength()
+        + deployment.capacity();
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    super.write(buffer, offset);
+
+    bodyEncoder.deploymentKey(deploymentKey);
+
+    final PartitionsEncoder partitionsEncoder = bodyEncoder.partitionsCount(partitionIds.size());
+    for (int i = 0; i < partitionIds.size(); i++) {
+      partitionsEncoder.next().partitionId(partitionIds.getInt(i));
+    }
+
+    bodyEncoder.putDeployment(deployment, 0, deployment.capacity());
+  }
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    super.wrap(buffer, offset, length);
+
+    deploymentKey = bodyDecoder.deploymentKey();
+
+    for (final PartitionsDecoder partitionsDecoder : bodyDecoder.partitions()) {
+      partitionIds.addInt(partitionsDecoder.partitionId());
+    }
+
+    deployment.wrap(
+        buffer, bodyDecoder.limit() + deploymentHeaderLength(), bodyDecoder.deploymentLength());
+  }
+}
@@ -11,6 +11,7 @@ import io.atomix.core.Atomix;
 import io.zeebe.broker.Loggers;
 import io.zeebe.broker.engine.impl.DeploymentDistributorImpl;
 import io.zeebe.clustering.management.MessageHeaderDecoder;
+import io.zeebe.clustering.management.PushDeploymentBatchRequestDecoder;
 import io.zeebe.clustering.management.PushDeploymentRequestDecoder;
 import io.zeebe.engine.processor.workflow.DeploymentResponder;
 import io.zeebe.logstreams.log.LogStreamRecordWriter;
@@ -25,10 +26,13 @@ import io.zeebe.protocol.record.intent.DeploymentIntent;
 import io.zeebe.protocol.record.intent.Intent;
 import io.zeebe.util.buffer.BufferUtil;
 import io.zeebe.util.sched.ActorControl;
+import java.nio.ByteOrder;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.IntArrayList;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 
@@ -71,6 +75,8 @@ public final class PushDeploymentRequestHandler
             final int templateId = messageHeaderDecoder.templateId();
             if (PushDeploymentRequestDecoder.TEMPLATE_ID == templateId) {
               handleValidRequest(responseFuture, buffer, offset, length);
+            } else if (PushDeploymentBatchRequestDecoder.TEMPLATE_ID == templateId) {
+              handleValidBatchRequest(responseFuture, buffer, offset, length);
             } else {
               final String errorMsg =
                   String.format(
@@ -113,7 +119,11 @@ public final class PushDeploymentRequestHandler
     final LogStreamRecordWriter logStreamWriter = leaderPartitions.get(partitionId);
     if (logStreamWriter != null) {
       LOG.trace("Handling deployment {} for partition {} as leader", deploymentKey, partitionId);
-      handlePushDeploymentRequest(responseFuture, deployment, deploymentKey, partitionId);
+      handlePushDeploymentRequest(
+          deployment,
+          deploymentKey,
+          partitionId,
+          () -> sendResponse(responseFuture, deploymentKey, partitionId));
     } else {
       LOG.error(
           "Rejecting deployment {} for partition {} as not leader", deploymentKey, partitionId);
@@ -121,11 +131,55 @@ public final class PushDeploymentRequestHandler
     }
   }
 
-  private void handlePushDeploymentRequest(
+  private void handleValidBatchRequest(
       final CompletableFuture<byte[]> responseFuture,
+      final DirectBuffer buffer,
+      final int offset,
+      final int length) {
+    final PushDeploymentBatchRequest pushDeploymentRequest = new PushDeploymentBatchRequest();
+    pushDeploymentRequest.wrap(buffer, offset, length);
+    final long deploymentKey = pushDeploymentRequest.deploymentKey();
+    final DirectBuffer deployment = pushDeploymentRequest.deployment();
+
+    final IntArrayList leadingPartitions = new IntArrayList();
+    final IntArrayList otherPartitions = new IntArrayList();
+    for (final int partitionId : pushDeploymentRequest.partitionIds()) {
+      if (leaderPartitions.containsKey(partitionId)) {
+        leadingPartitions.addInt(partitionId);
+      } else {
+        otherPartitions.addInt(partitionId);
+      }
+    }
+
+    if (!otherPartitions.isEmpty()) {
+      LOG.error(
+          "Rejecting deployment {} for partitions {} as not leader",
+          deploymentKey,
+          otherPartitions);
+      sendNotLeaderRejection(responseFuture, otherPartitions);
+    }
+
+    LOG.trace(
+        "Handling deployment {} for partitions {} as leader", deploymentKey, leadingPartitions);
+    final AtomicInteger remainingPartitions = new AtomicInteger(leadingPartitions.size());
+    for (final int partitionId : leadingPartitions) {
+      handlePushDeploymentRequest(
+          deployment,
+          deploymentKey,
+          partitionId,
+          () -> {
+            if (remainingPartitions.decrementAndGet() == 0) {
+              sendResponse(responseFuture, deploymentKey, partitionId);
+            }
+          });
+    }
+  }
+
+  private void handlePushDeploymentRequest(
       final DirectBuffer deployment,
       final long deploymentKey,
-      final int partitionId) {
+      final int partitionId,
+      final Runnable onWritten) {
 
     final DeploymentRecord deploymentRecord = new DeploymentRecord();
     deploymentRecord.wrap(deployment);
@@ -148,7 +202,7 @@ public final class PushDeploymentRequestHandler
                 partitionId);
             actor.done();
 
-            sendResponse(responseFuture, deploymentKey, partitionId);
+            onWritten.run();
           } else {
             actor.yield();
           }
@@ -177,6 +231,25 @@ public final class PushDeploymentRequestHandler
     responseFuture.complete(notLeaderResponse.toBytes());
   }
 
+  /**
+   * Rejects the partitions of a batch request which are not led by this broker. The error data
+   * contains the ids of these partitions, so the sender can retry them.
+   */
+  private void sendNotLeaderRejection(
+      final CompletableFuture<byte[]> responseFuture, final IntArrayList partitionIds) {
+    final byte[] errorData = new byte[partitionIds.size() * Integer.BYTES];
+    final UnsafeBuffer errorDataBuffer = new UnsafeBuffer(errorData);
+    for (int i = 0; i < partitionIds.size(); i++) {
+      errorDataBuffer.putInt(i * Integer.BYTES, partitionIds.getInt(i), ByteOrder.LITTLE_ENDIAN);
+    }
+
+    final ErrorResponse notLeaderResponse = new ErrorResponse();
+    notLeaderResponse
+        .setErrorCode(ErrorCode.PARTITION_LEADER_MISMATCH)
+        .setErrorData(errorDataBuffer);
+    responseFuture.complete(notLeaderResponse.toBytes());
+  }
+
   private boolean writeCreatingDeployment(
       final LogStreamRecordWriter logStreamWriter, final long key, final UnpackedObject event) {
     final RecordType recordType = RecordType.COMMAND;
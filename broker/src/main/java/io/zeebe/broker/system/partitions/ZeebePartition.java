@@ -88,6 +88,7 @@ public final class ZeebePartition extends Actor
   private final List<Actor> closeables = new ArrayList<>();
   private final int partitionId;
   private final int maxFragmentSize;
+  private final int maxLogBufferSize;
   private final BrokerInfo localBroker;
   private ActorFuture<Void> transitionFuture;
   private LogStream logStream;
@@ -127,6 +128,7 @@ public final class ZeebePartition extends Actor
     this.partitionId = atomixRaftPartition.id().id();
     this.scheduler = actorScheduler;
     this.maxFragmentSize = (int) brokerCfg.getNetwork().getMaxMessageSizeInBytes();
+    this.maxLogBufferSize = (int) brokerCfg.getData().getLogBufferMaxSizeInBytes();
     this.zeebeIndexMapping = zeebeIndexMapping;
 
     final var exporterEntries = brokerCfg.getExporters().entrySet();
@@ -487,6 +489,7 @@ public final class ZeebePartition extends Actor
         .nodeId(localBroker.getNodeId())
         .commandResponseWriter(commandApiService.newCommandResponseWriter())
         .onProcessedListener(commandApiService.getOnProcessedListener(partitionId))
+        .metricsSampleRate(brokerCfg.getProcessing().getMetricsSampleRate())
         .streamProcessorFactory(
             (processingContext) -> {
               final ActorControl actor = processingContext.getActor();
@@ -731,6 +734,7 @@ public final class ZeebePartition extends Actor
         .withNodeId(localBroker.getNodeId())
         .withPartitionId(atomixRaftPartition.id().id())
         .withMaxFragmentSize(maxFragmentSize)
+        .withMaxBufferSize(maxLogBufferSize)
         .withActorScheduler(scheduler)
         .buildAsync();
   }
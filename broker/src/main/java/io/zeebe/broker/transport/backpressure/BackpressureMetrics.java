@@ -20,6 +20,14 @@ public final class BackpressureMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Counter SCHEDULER_SATURATED_COUNT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("backpressure_scheduler_saturated_count_total")
+          .help("Number of requests dropped because the actor threads are saturated")
+          .labelNames("partition")
+          .register();
+
   private static final Counter TOTAL_REQUEST_COUNT =
       Counter.build()
           .namespace("zeebe")
@@ -48,6 +56,10 @@ public final class BackpressureMetrics {
     DROPPED_REQUEST_COUNT.labels(String.valueOf(partitionId)).inc();
   }
 
+  public void schedulerSaturated(final int partitionId) {
+    SCHEDULER_SATURATED_COUNT.labels(String.valueOf(partitionId)).inc();
+  }
+
   public void receivedRequest(final int partitionId) {
     TOTAL_REQUEST_COUNT.labels(String.valueOf(partitionId)).inc();
   }
@@ -25,19 +25,28 @@ public final class CommandRateLimiter extends AbstractLimiter<Intent>
       EnumSet.of(JobIntent.COMPLETE, JobIntent.FAIL);
   private final Map<ListenerId, Listener> responseListeners = new ConcurrentHashMap<>();
   private final int partitionId;
+  private final SchedulerSaturation schedulerSaturation;
   private final BackpressureMetrics metrics = new BackpressureMetrics();
 
   protected CommandRateLimiter(final CommandRateLimiterBuilder builder, final int partitionId) {
     super(builder);
     this.partitionId = partitionId;
+    schedulerSaturation = builder.schedulerSaturation;
     metrics.setInflight(partitionId, 0);
     metrics.setNewLimit(partitionId, getLimit());
   }
 
   @Override
   public Optional<Listener> acquire(final Intent intent) {
-    if (getInflight() >= getLimit() && !WHITE_LISTED_COMMANDS.contains(intent)) {
-      return createRejectedListener();
+    if (!WHITE_LISTED_COMMANDS.contains(intent)) {
+      if (getInflight() >= getLimit()) {
+        return createRejectedListener();
+      }
+
+      if (schedulerSaturation.isSaturated()) {
+        metrics.schedulerSaturated(partitionId);
+        return createRejectedListener();
+      }
     }
     final Listener listener = createListener();
     return Optional.of(listener);
@@ -104,6 +113,15 @@ public final class CommandRateLimiter extends AbstractLimiter<Intent>
   public static class CommandRateLimiterBuilder
       extends AbstractLimiter.Builder<CommandRateLimiterBuilder> {
 
+    private SchedulerSaturation schedulerSaturation = SchedulerSaturation.never();
+
+    /** Rejects commands if the actor threads are saturated, regardless of the limit. */
+    public CommandRateLimiterBuilder schedulerSaturation(
+        final SchedulerSaturation schedulerSaturation) {
+      this.schedulerSaturation = schedulerSaturation;
+      return this;
+    }
+
     @Override
     protected CommandRateLimiterBuilder self() {
       return this;
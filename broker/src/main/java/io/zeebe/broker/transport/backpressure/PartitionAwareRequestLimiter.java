@@ -31,7 +31,17 @@ public final class PartitionAwareRequestLimiter {
   }
 
   public PartitionAwareRequestLimiter(final Supplier<Limit> limitSupplier) {
-    this.limiterSupplier = i -> CommandRateLimiter.builder().limit(limitSupplier.get()).build(i);
+    this(limitSupplier, SchedulerSaturation.never());
+  }
+
+  public PartitionAwareRequestLimiter(
+      final Supplier<Limit> limitSupplier, final SchedulerSaturation schedulerSaturation) {
+    this.limiterSupplier =
+        i ->
+            CommandRateLimiter.builder()
+                .limit(limitSupplier.get())
+                .schedulerSaturation(schedulerSaturation)
+                .build(i);
   }
 
   public static PartitionAwareRequestLimiter newNoopLimiter() {
@@ -39,7 +49,9 @@ public final class PartitionAwareRequestLimiter {
   }
 
   public static PartitionAwareRequestLimiter newLimiter(
-      final LimitAlgorithm algorithm, final boolean useWindowed) {
+      final LimitAlgorithm algorithm,
+      final boolean useWindowed,
+      final SchedulerSaturation schedulerSaturation) {
     final Supplier<Limit> limit;
     if (algorithm == LimitAlgorithm.GRADIENT) {
       limit = GradientLimit::newDefault;
@@ -50,9 +62,10 @@ public final class PartitionAwareRequestLimiter {
     }
 
     if (useWindowed) {
-      return new PartitionAwareRequestLimiter(() -> WindowedLimit.newBuilder().build(limit.get()));
+      return new PartitionAwareRequestLimiter(
+          () -> WindowedLimit.newBuilder().build(limit.get()), schedulerSaturation);
     } else {
-      return new PartitionAwareRequestLimiter(limit);
+      return new PartitionAwareRequestLimiter(limit, schedulerSaturation);
     }
   }
 
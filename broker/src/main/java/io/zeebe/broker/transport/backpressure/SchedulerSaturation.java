@@ -0,0 +1,63 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.transport.backpressure;
+
+import io.zeebe.broker.system.configuration.BackpressureCfg;
+import io.zeebe.util.sched.ActorThreadGroup;
+import java.time.Duration;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Detects if the actor threads are saturated, i.e. if the tasks wait too long for a thread or too
+ * many tasks are queued per thread. The limit of inflight commands only adapts when the processing
+ * of the commands slows down, so it reacts late if the threads are overloaded by other actors. A
+ * threshold of 0 disables the signal.
+ */
+public final class SchedulerSaturation {
+
+  private static final SchedulerSaturation NEVER =
+      new SchedulerSaturation(() -> 0, () -> 0, 1, Duration.ZERO, 0);
+
+  private final LongSupplier schedulingLatencySupplier;
+  private final IntSupplier queuedTasksSupplier;
+  private final long maxSchedulingLatencyNanos;
+  private final int maxQueuedTasks;
+
+  public SchedulerSaturation(
+      final LongSupplier schedulingLatencySupplier,
+      final IntSupplier queuedTasksSupplier,
+      final int threadCount,
+      final Duration maxSchedulingLatency,
+      final int maxQueuedTasksPerThread) {
+    this.schedulingLatencySupplier = schedulingLatencySupplier;
+    this.queuedTasksSupplier = queuedTasksSupplier;
+    this.maxSchedulingLatencyNanos = maxSchedulingLatency.toNanos();
+    this.maxQueuedTasks = threadCount * maxQueuedTasksPerThread;
+  }
+
+  public static SchedulerSaturation of(
+      final ActorThreadGroup threadGroup, final BackpressureCfg backpressureCfg) {
+    return new SchedulerSaturation(
+        threadGroup::getSchedulingLatencyNanos,
+        threadGroup::getQueuedTaskCount,
+        threadGroup.getNumOfThreads(),
+        backpressureCfg.getMaxSchedulingLatency(),
+        backpressureCfg.getMaxQueuedTasksPerThread());
+  }
+
+  public static SchedulerSaturation never() {
+    return NEVER;
+  }
+
+  public boolean isSaturated() {
+    return (maxSchedulingLatencyNanos > 0
+            && schedulingLatencySupplier.getAsLong() >= maxSchedulingLatencyNanos)
+        || (maxQueuedTasks > 0 && queuedTasksSupplier.getAsInt() >= maxQueuedTasks);
+  }
+}
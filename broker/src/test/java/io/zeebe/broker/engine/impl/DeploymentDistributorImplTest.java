@@ -0,0 +1,173 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.engine.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.ClusterEventService;
+import io.atomix.cluster.messaging.MessagingException.RemoteHandlerFailure;
+import io.atomix.core.Atomix;
+import io.zeebe.broker.clustering.topology.TopologyPartitionListenerImpl;
+import io.zeebe.broker.system.configuration.BrokerCfg;
+import io.zeebe.broker.system.configuration.ClusterCfg;
+import io.zeebe.broker.system.management.deployment.PushDeploymentRequest;
+import io.zeebe.broker.system.management.deployment.PushDeploymentResponse;
+import io.zeebe.engine.util.ZeebeStateRule;
+import io.zeebe.protocol.impl.encoding.BrokerInfo;
+import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.testing.ControlledActorSchedulerRule;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class DeploymentDistributorImplTest {
+
+  private static final int LEADER_NODE_ID = 1;
+
+  @Rule
+  public final ControlledActorSchedulerRule schedulerRule = new ControlledActorSchedulerRule();
+
+  @Rule public final ZeebeStateRule stateRule = new ZeebeStateRule();
+
+  private final List<Integer> singlePartitionRequests = new ArrayList<>();
+  // the responses are completed outside of the actor, like by the messaging service
+  private final List<Runnable> pendingResponses = new ArrayList<>();
+  private int batchRequests;
+  private DistributorActor distributorActor;
+
+  @Before
+  public void setUp() {
+    final ClusterCfg clusterCfg = new ClusterCfg();
+    clusterCfg.setPartitionsCount(3);
+    clusterCfg.init(new BrokerCfg(), "");
+
+    final ClusterCommunicationService communicationService =
+        mock(ClusterCommunicationService.class);
+    when(communicationService.send(
+            eq("deployment"), any(byte[].class), any(MemberId.class), any(Duration.class)))
+        .thenAnswer(i -> handleAsLegacyBroker(i.getArgument(1)));
+
+    final Atomix atomix = mock(Atomix.class);
+    when(atomix.getCommunicationService()).thenReturn(communicationService);
+    when(atomix.getEventService()).thenReturn(mock(ClusterEventService.class));
+
+    distributorActor = new DistributorActor(clusterCfg, atomix);
+    schedulerRule.submitActor(distributorActor);
+    schedulerRule.workUntilDone();
+  }
+
+  @Test
+  public void shouldPushToEachPartitionIfBrokerDoesNotHandleBatches() {
+    // when
+    distributorActor.pushDeployment(1L);
+
+    // then
+    assertThat(batchRequests).isEqualTo(1);
+    assertThat(singlePartitionRequests).containsExactlyInAnyOrder(2, 3);
+  }
+
+  @Test
+  public void shouldNotPushBatchesAgainToBrokerWhichDoesNotHandleThem() {
+    // given
+    distributorActor.pushDeployment(1L);
+    singlePartitionRequests.clear();
+
+    // when
+    distributorActor.pushDeployment(2L);
+
+    // then
+    assertThat(batchRequests).isEqualTo(1);
+    assertThat(singlePartitionRequests).containsExactlyInAnyOrder(2, 3);
+  }
+
+  /** Handles the requests like a broker which only knows the single partition request. */
+  private CompletableFuture<byte[]> handleAsLegacyBroker(final byte[] bytes) {
+    final CompletableFuture<byte[]> future = new CompletableFuture<>();
+    final PushDeploymentRequest request = new PushDeploymentRequest();
+    final UnsafeBuffer buffer = new UnsafeBuffer(bytes);
+
+    if (!request.tryWrap(buffer)) {
+      batchRequests += 1;
+      pendingResponses.add(() -> future.completeExceptionally(new RemoteHandlerFailure()));
+      return future;
+    }
+
+    request.wrap(buffer);
+    singlePartitionRequests.add(request.partitionId());
+    final byte[] response =
+        new PushDeploymentResponse()
+            .deploymentKey(request.deploymentKey())
+            .partitionId(request.partitionId())
+            .toBytes();
+    pendingResponses.add(() -> future.complete(response));
+    return future;
+  }
+
+  private void completePendingResponses() {
+    final List<Runnable> responses = new ArrayList<>(pendingResponses);
+    pendingResponses.clear();
+    responses.forEach(Runnable::run);
+    schedulerRule.workUntilDone();
+  }
+
+  private final class DistributorActor extends Actor {
+
+    private final ClusterCfg clusterCfg;
+    private final Atomix atomix;
+    private DeploymentDistributorImpl distributor;
+
+    private DistributorActor(final ClusterCfg clusterCfg, final Atomix atomix) {
+      this.clusterCfg = clusterCfg;
+      this.atomix = atomix;
+    }
+
+    @Override
+    protected void onActorStarted() {
+      final TopologyPartitionListenerImpl partitionListener =
+          new TopologyPartitionListenerImpl(actor);
+      final BrokerInfo leader = new BrokerInfo().setNodeId(LEADER_NODE_ID);
+      for (final int partitionId : clusterCfg.getPartitionIds()) {
+        leader.setLeaderForPartition(partitionId, 1L);
+        partitionListener.onPartitionLeaderUpdated(partitionId, leader);
+      }
+
+      distributor =
+          new DeploymentDistributorImpl(
+              clusterCfg,
+              atomix,
+              partitionListener,
+              stateRule.getZeebeState().getDeploymentState(),
+              actor);
+    }
+
+    void pushDeployment(final long key) {
+      final DeploymentRecord record = new DeploymentRecord();
+      final UnsafeBuffer deployment = new UnsafeBuffer(new byte[record.getLength()]);
+      record.write(deployment, 0);
+      actor.run(() -> distributor.pushDeployment(key, key, deployment));
+      schedulerRule.workUntilDone();
+      completePendingResponses();
+
+      schedulerRule.getClock().addTime(DeploymentDistributorImpl.RETRY_DELAY);
+      schedulerRule.workUntilDone();
+      completePendingResponses();
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.engine.impl;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.atomix.cluster.messaging.ClusterEventService;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.testing.ControlledActorSchedulerRule;
+import java.time.Duration;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class LongPollingJobNotificationTest {
+
+  private static final Duration NOTIFICATION_WINDOW = Duration.ofMillis(100);
+
+  @Rule
+  public final ControlledActorSchedulerRule schedulerRule = new ControlledActorSchedulerRule();
+
+  private final ClusterEventService eventService = mock(ClusterEventService.class);
+  private NotificationActor notificationActor;
+
+  @Before
+  public void setUp() {
+    notificationActor = new NotificationActor();
+    schedulerRule.submitActor(notificationActor);
+    schedulerRule.workUntilDone();
+  }
+
+  @Test
+  public void shouldNotifyFirstJobsAvailableImmediately() {
+    // when
+    notificationActor.onJobsAvailable("foo");
+    notificationActor.onJobsAvailable("bar");
+
+    // then
+    verify(eventService, times(1)).broadcast("jobsAvailable", "foo");
+    verify(eventService, times(1)).broadcast("jobsAvailable", "bar");
+  }
+
+  @Test
+  public void shouldCoalesceNotificationsWithinWindow() {
+    // given
+    notificationActor.onJobsAvailable("foo");
+
+    // when
+    notificationActor.onJobsAvailable("foo");
+    notificationActor.onJobsAvailable("foo");
+
+    // then
+    verify(eventService, times(1)).broadcast("jobsAvailable", "foo");
+
+    schedulerRule.getClock().addTime(NOTIFICATION_WINDOW);
+    schedulerRule.workUntilDone();
+
+    verify(eventService, times(2)).broadcast("jobsAvailable", "foo");
+  }
+
+  @Test
+  public void shouldNotifyImmediatelyAfterIdleWindow() {
+    // given
+    notificationActor.onJobsAvailable("foo");
+
+    schedulerRule.getClock().addTime(NOTIFICATION_WINDOW);
+    schedulerRule.workUntilDone();
+
+    // when
+    notificationActor.onJobsAvailable("foo");
+
+    // then
+    verify(eventService, times(2)).broadcast("jobsAvailable", "foo");
+  }
+
+  private final class NotificationActor extends Actor {
+
+    private LongPollingJobNotification notification;
+
+    @Override
+    protected void onActorStarted() {
+      notification = new LongPollingJobNotification(eventService, actor, NOTIFICATION_WINDOW);
+    }
+
+    void onJobsAvailable(final String jobType) {
+      actor.run(() -> notification.onJobsAvailable(jobType));
+      schedulerRule.workUntilDone();
+    }
+  }
+}
@@ -145,6 +145,24 @@ public final class SystemContextTest {
     initSystemContext(brokerCfg);
   }
 
+  @Test
+  public void shouldThrowExceptionIfMinParkPeriodIsLargerThenMaxParkPeriod() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg
+        .getThreads()
+        .getCpuIdleStrategy()
+        .setMinParkPeriod(Duration.ofMillis(10))
+        .setMaxParkPeriod(Duration.ofMillis(1));
+
+    // expect
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage(
+        "Expected the min park period PT0.01S of the idle strategy to be positive and not larger then the max park period PT0.001S.");
+
+    initSystemContext(brokerCfg);
+  }
+
   private SystemContext initSystemContext(final BrokerCfg brokerCfg) {
     return new SystemContext(brokerCfg, "test", new ControlledActorClock());
   }
@@ -40,6 +40,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.util.unit.DataSize;
 
 public final class BrokerCfgTest {
 
@@ -477,6 +478,20 @@ public final class BrokerCfgTest {
     assertThat(backpressure.isEnabled()).isTrue();
     assertThat(backpressure.useWindowed()).isFalse();
     assertThat(backpressure.getAlgorithm()).isEqualTo(LimitAlgorithm.GRADIENT);
+    assertThat(backpressure.getMaxSchedulingLatency()).isEqualTo(Duration.ofMillis(50));
+    assertThat(backpressure.getMaxQueuedTasksPerThread()).isEqualTo(20);
+  }
+
+  @Test
+  public void shouldSetProcessingConfig() {
+    // when
+    final BrokerCfg cfg = readConfig("processing-cfg");
+    final ProcessingCfg processing = cfg.getProcessing();
+
+    // then
+    assertThat(processing.getMetricsSampleRate()).isEqualTo(10);
+    assertThat(processing.getMaxExpiredMessagesPerCheck()).isEqualTo(50);
+    assertThat(processing.getJobsAvailableNotificationWindow()).isEqualTo(Duration.ofMillis(20));
   }
 
   @Test
@@ -524,6 +539,38 @@ public final class BrokerCfgTest {
     assertThat(actual.getExporters().get("elasticsearch")).isEqualTo(expected);
   }
 
+  @Test
+  public void shouldSetLogBufferMaxSize() {
+    // when
+    final DataCfg data = readConfig("data-cfg").getData();
+
+    // then
+    assertThat(data.getLogBufferMaxSize()).isEqualTo(DataSize.ofMegabytes(64));
+    assertThat(data.getLogBufferMaxSizeInBytes()).isEqualTo(DataSize.ofMegabytes(64).toBytes());
+  }
+
+  @Test
+  public void shouldNotSetLogBufferMaxSizeByDefault() {
+    // when
+    final DataCfg data = readConfig("default").getData();
+
+    // then
+    assertThat(data.getLogBufferMaxSize()).isNull();
+    assertThat(data.getLogBufferMaxSizeInBytes()).isNegative();
+  }
+
+  @Test
+  public void shouldSetLogBufferMaxSizeFromEnv() {
+    // given
+    environment.put("zeebe.broker.data.logBufferMaxSize", "32MB");
+
+    // when
+    final DataCfg data = readConfig("empty").getData();
+
+    // then
+    assertThat(data.getLogBufferMaxSize()).isEqualTo(DataSize.ofMegabytes(32));
+  }
+
   @Test
   public void shouldUseMmap() {
     // given
@@ -0,0 +1,63 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.management.deployment;
+
+import static io.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.agrona.collections.IntArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public final class PushDeploymentBatchRequestTest {
+
+  @Test
+  public void shouldEncodeAndDecodeRequest() {
+    // given
+    final IntArrayList partitionIds = new IntArrayList();
+    partitionIds.addInt(2);
+    partitionIds.addInt(5);
+    partitionIds.addInt(7);
+
+    final PushDeploymentBatchRequest request =
+        new PushDeploymentBatchRequest()
+            .deploymentKey(123L)
+            .partitionIds(partitionIds)
+            .deployment(wrapString("deployment"));
+
+    // when
+    final byte[] bytes = request.toBytes();
+
+    final PushDeploymentBatchRequest decodedRequest = new PushDeploymentBatchRequest();
+    decodedRequest.wrap(new UnsafeBuffer(bytes));
+
+    // then
+    assertThat(bytes).hasSize(request.getLength());
+    assertThat(decodedRequest.deploymentKey()).isEqualTo(123L);
+    assertThat(decodedRequest.partitionIds()).containsExactly(2, 5, 7);
+    assertThat(bufferAsString(decodedRequest.deployment())).isEqualTo("deployment");
+  }
+
+  @Test
+  public void shouldNotBeWrappedAsSinglePartitionRequest() {
+    // given
+    final PushDeploymentBatchRequest request =
+        new PushDeploymentBatchRequest()
+            .deploymentKey(123L)
+            .partitionIds(new IntArrayList())
+            .deployment(wrapString("deployment"));
+
+    // when
+    final boolean isSinglePartitionRequest =
+        new PushDeploymentRequest().tryWrap(new UnsafeBuffer(request.toBytes()));
+
+    // then
+    assertThat(isSinglePartitionRequest).isFalse();
+  }
+}
@@ -13,6 +13,7 @@ import com.netflix.concurrency.limits.limit.SettableLimit;
 import io.zeebe.protocol.record.intent.Intent;
 import io.zeebe.protocol.record.intent.JobIntent;
 import io.zeebe.protocol.record.intent.WorkflowInstanceCreationIntent;
+import java.time.Duration;
 import java.util.stream.IntStream;
 import org.junit.Test;
 
@@ -100,4 +101,35 @@ public final class CommandRateLimiterTest {
     // then
     assertThat(rateLimiter.getInflightCount()).isEqualTo(0);
   }
+
+  @Test
+  public void shouldNotAcquireIfSchedulerIsSaturated() {
+    // given
+    final CommandRateLimiter rateLimiter =
+        CommandRateLimiter.builder()
+            .limit(limit)
+            .schedulerSaturation(saturatedScheduler())
+            .build(0);
+
+    // then
+    assertThat(rateLimiter.tryAcquire(0, 1, context)).isFalse();
+    assertThat(rateLimiter.getInflightCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldAcquireJobCompleteCommandIfSchedulerIsSaturated() {
+    // given
+    final CommandRateLimiter rateLimiter =
+        CommandRateLimiter.builder()
+            .limit(limit)
+            .schedulerSaturation(saturatedScheduler())
+            .build(0);
+
+    // then
+    assertThat(rateLimiter.tryAcquire(0, 1, JobIntent.COMPLETE)).isTrue();
+  }
+
+  private static SchedulerSaturation saturatedScheduler() {
+    return new SchedulerSaturation(() -> 0, () -> 10, 1, Duration.ZERO, 10);
+  }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.transport.backpressure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+
+public final class SchedulerSaturationTest {
+
+  private static final int THREAD_COUNT = 2;
+
+  private final AtomicLong schedulingLatency = new AtomicLong();
+  private final AtomicInteger queuedTasks = new AtomicInteger();
+
+  @Test
+  public void shouldBeSaturatedIfSchedulingLatencyIsExceeded() {
+    // given
+    final SchedulerSaturation saturation = newSaturation(Duration.ofMillis(10), 0);
+
+    // when
+    schedulingLatency.set(Duration.ofMillis(9).toNanos());
+    final boolean isSaturatedBelowThreshold = saturation.isSaturated();
+    schedulingLatency.set(Duration.ofMillis(10).toNanos());
+
+    // then
+    assertThat(isSaturatedBelowThreshold).isFalse();
+    assertThat(saturation.isSaturated()).isTrue();
+  }
+
+  @Test
+  public void shouldBeSaturatedIfTooManyTasksAreQueued() {
+    // given
+    final SchedulerSaturation saturation = newSaturation(Duration.ZERO, 5);
+
+    // when
+    queuedTasks.set(THREAD_COUNT * 5 - 1);
+    final boolean isSaturatedBelowThreshold = saturation.isSaturated();
+    queuedTasks.set(THREAD_COUNT * 5);
+
+    // then
+    assertThat(isSaturatedBelowThreshold).isFalse();
+    assertThat(saturation.isSaturated()).isTrue();
+  }
+
+  @Test
+  public void shouldIgnoreDisabledSignals() {
+    // given
+    final SchedulerSaturation saturation = newSaturation(Duration.ZERO, 0);
+
+    // when
+    schedulingLatency.set(Long.MAX_VALUE);
+    queuedTasks.set(Integer.MAX_VALUE);
+
+    // then
+    assertThat(saturation.isSaturated()).isFalse();
+  }
+
+  private SchedulerSaturation newSaturation(
+      final Duration maxSchedulingLatency, final int maxQueuedTasksPerThread) {
+    return new SchedulerSaturation(
+        schedulingLatency::get,
+        queuedTasks::get,
+        THREAD_COUNT,
+        maxSchedulingLatency,
+        maxQueuedTasksPerThread);
+  }
+}
@@ -10,6 +10,7 @@ package io.zeebe.dispatcher;
 import static io.zeebe.dispatcher.impl.PositionUtil.partitionId;
 import static io.zeebe.dispatcher.impl.PositionUtil.partitionOffset;
 import static io.zeebe.dispatcher.impl.PositionUtil.position;
+import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.alignedFramedLength;
 import static io.zeebe.dispatcher.impl.log.LogBufferAppender.RESULT_PADDING_AT_END_OF_PARTITION;
 
 import io.zeebe.dispatcher.impl.log.LogBuffer;
@@ -44,6 +45,7 @@ public class Dispatcher extends Actor {
   private volatile boolean isClosed = false;
   private final Runnable backgroundTask = this::runBackgroundTask;
   private ActorCondition dataConsumed;
+  private final DispatcherMetrics metrics;
 
   Dispatcher(
       final LogBuffer logBuffer,
@@ -65,6 +67,9 @@ public class Dispatcher extends Actor {
 
     subscriptions = new Subscription[0];
     defaultSubscriptionNames = subscriptionNames;
+
+    metrics = new DispatcherMetrics(name);
+    metrics.setBufferSize(logBuffer.getBufferSize());
   }
 
   @Override
@@ -96,7 +101,10 @@ public class Dispatcher extends Actor {
 
   private void runBackgroundTask() {
     updatePublisherLimit();
-    logBuffer.cleanPartitions();
+
+    if (logBuffer.cleanPartitions() > 0) {
+      metrics.setBufferSize(logBuffer.getBufferSize());
+    }
   }
 
   private void openDefaultSubscriptions() {
@@ -166,6 +174,36 @@ public class Dispatcher extends Actor {
         batchLength);
   }
 
+  /**
+   * Claim a batch of fragments with the given lengths. In contrast to {@link
+   * #claim(ClaimedFragmentBatch, int, int)}, the batch is claimed with the exact length of the
+   * aligned fragments, so the publisher doesn't need to reserve space for the alignment and no
+   * padding is written after the batch. Add the fragments using {@link
+   * ClaimedFragmentBatch#nextFragment(int, int)} with the same lengths in the same order. Complete
+   * the whole batch operation by calling either {@link ClaimedFragmentBatch#commit()} or {@link
+   * ClaimedFragmentBatch#abort()}. Note that the claim operation can fail if the publisher limit or
+   * the buffer partition size is reached.
+   *
+   * @param fragmentLengths the lengths of the fragments, only the first fragmentCount elements are
+   *     used
+   * @return the new publisher position if the batch was claimed successfully. Otherwise, the return
+   *     value is negative.
+   */
+  public long claim(
+      final ClaimedFragmentBatch batch, final int[] fragmentLengths, final int fragmentCount) {
+    int batchLength = 0;
+    for (int i = 0; i < fragmentCount; i++) {
+      batchLength += alignedFramedLength(fragmentLengths[i]);
+    }
+
+    final int alignedBatchLength = batchLength;
+    return offer(
+        (partition, activePartitionId) ->
+            logAppender.claim(
+                partition, activePartitionId, batch, alignedBatchLength, onClaimComplete),
+        alignedBatchLength);
+  }
+
   private long offer(
       final BiFunction<LogBufferPartition, Integer, Integer> claimer, final int length) {
     long newPosition = -1;
@@ -179,7 +217,13 @@ public class Dispatcher extends Actor {
       final int partitionOffset = partition.getTailCounterVolatile();
       final long position = position(activePartitionId, partitionOffset);
 
-      if (position < limit) {
+      if (position >= limit) {
+        metrics.rejectedClaim();
+        logBuffer.onPublisherLimitReached();
+
+      } else if (!partition.needsCleaning()) {
+        // a partition which needs cleaning is not claimed until the dispatcher cleaned (or resized)
+        // it, the publisher can retry then
         final int newOffset;
 
         if (length < maxFragmentLength) {
@@ -191,16 +235,29 @@ public class Dispatcher extends Actor {
 
         newPosition = updatePublisherPosition(activePartitionId, newOffset);
 
-        if (publisherPosition.proposeMaxOrdered(newPosition)) {
-          LOG.trace("Updated publisher position to {}", newPosition);
+        if (newPosition > 0) {
+          // the subscriptions are signaled when the claimed fragment is committed or aborted
+          onClaimed(newPosition);
+        } else {
+          signalSubsciptions();
         }
-        signalSubsciptions();
       }
     }
 
     return newPosition;
   }
 
+  private void onClaimed(final long newPosition) {
+    metrics.claimed();
+
+    if (publisherPosition.proposeMaxOrdered(newPosition)) {
+      LOG.trace("Updated publisher position to {}", newPosition);
+    } else {
+      // a publisher which claimed after this one updated the position first
+      metrics.contendedClaim();
+    }
+  }
+
   private long updatePublisherPosition(final int activePartitionId, final int newOffset) {
     long newPosition = -1;
 
@@ -234,8 +291,18 @@ public class Dispatcher extends Actor {
       }
 
       int partitionId = partitionId(lastSubscriberPosition);
-      int partitionOffset = partitionOffset(lastSubscriberPosition) + logWindowLength;
-      if (partitionOffset >= logBuffer.getPartitionSize()) {
+      final int partitionSize = logBuffer.getPartition(partitionId).getPartitionSize();
+
+      // the window grows with the partition if the buffer is elastic
+      final int windowLength =
+          (int) ((long) logWindowLength * partitionSize / logBuffer.getPartitionSize());
+
+      if (subscriptions.length > 0) {
+        updateUtilization(lastSubscriberPosition, partitionSize, windowLength);
+      }
+
+      int partitionOffset = partitionOffset(lastSubscriberPosition) + windowLength;
+      if (partitionOffset >= partitionSize) {
         ++partitionId;
         partitionOffset = logWindowLength;
       }
@@ -251,6 +318,24 @@ public class Dispatcher extends Actor {
     return isUpdated;
   }
 
+  private void updateUtilization(
+      final long subscriberPosition, final int partitionSize, final int windowLength) {
+    final long publisherPosition = this.publisherPosition.get();
+    final int subscriberOffset = partitionOffset(subscriberPosition);
+    final int publisherOffset = partitionOffset(publisherPosition);
+
+    final int backlogLength;
+    if (partitionId(publisherPosition) == partitionId(subscriberPosition)) {
+      backlogLength = publisherOffset - subscriberOffset;
+    } else {
+      backlogLength = partitionSize - subscriberOffset + publisherOffset;
+    }
+
+    final float utilization = Math.min(1.0f, Math.max(0, backlogLength) / (float) windowLength);
+    metrics.setBufferUtilization(utilization);
+    logBuffer.onUtilizationUpdated(utilization);
+  }
+
   /**
    * Creates a new subscription with the given name.
    *
@@ -8,9 +8,11 @@
 package io.zeebe.dispatcher;
 
 import static io.zeebe.dispatcher.impl.PositionUtil.position;
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.LOG_META_DATA_LENGTH;
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_COUNT;
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.requiredCapacity;
 
+import io.zeebe.dispatcher.impl.log.ElasticLogBuffer;
 import io.zeebe.dispatcher.impl.log.LogBuffer;
 import io.zeebe.dispatcher.impl.log.LogBufferAppender;
 import io.zeebe.util.ByteValue;
@@ -25,8 +27,13 @@ import org.agrona.BitUtil;
 public final class DispatcherBuilder {
 
   private static final int DEFAULT_BUFFER_SIZE = (int) ByteValue.ofMegabytes(1);
+  private static final float DEFAULT_LOW_WATERMARK = 0.25f;
+  private static final float DEFAULT_HIGH_WATERMARK = 0.75f;
 
   private int bufferSize = -1;
+  private int maxBufferSize = -1;
+  private float lowWatermark = DEFAULT_LOW_WATERMARK;
+  private float highWatermark = DEFAULT_HIGH_WATERMARK;
   private int maxFragmentLength = -1;
 
   private String dispatcherName;
@@ -54,6 +61,36 @@ public final class DispatcherBuilder {
     return this;
   }
 
+  /**
+   * Enables the elastic mode. The buffer starts with the size of {@link #bufferSize(int)} and grows
+   * up to the given size if the subscriptions can't keep up with the publishers. It shrinks again
+   * if the buffer is barely used. A partition of the buffer is resized when it is cleaned, after
+   * the publishers moved on to the next partition. The max fragment length depends on the initial
+   * buffer size only.
+   */
+  public DispatcherBuilder maxBufferSize(final int maxBufferSize) {
+    this.maxBufferSize = maxBufferSize;
+    return this;
+  }
+
+  /**
+   * The utilization (i.e. the ratio of the not consumed bytes to the publisher window) below which
+   * an elastic buffer shrinks and above which it grows. Has no effect if {@link
+   * #maxBufferSize(int)} is not set.
+   */
+  public DispatcherBuilder bufferWatermarks(final float lowWatermark, final float highWatermark) {
+    if (lowWatermark < 0 || lowWatermark >= highWatermark || highWatermark > 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected the watermarks to be 0 <= low < high <= 1, but was low %f and high %f.",
+              lowWatermark, highWatermark));
+    }
+
+    this.lowWatermark = lowWatermark;
+    this.highWatermark = highWatermark;
+    return this;
+  }
+
   public DispatcherBuilder actorScheduler(final ActorScheduler actorScheduler) {
     this.actorScheduler = actorScheduler;
     return this;
@@ -91,8 +128,6 @@ public final class DispatcherBuilder {
     final int logWindowLength = partitionSize / 2;
     maxFragmentLength = logWindowLength;
 
-    final AllocatedBuffer allocatedBuffer = initAllocatedBuffer(bufferSize);
-
     // allocate the counters
 
     AtomicPosition publisherLimit = null;
@@ -108,7 +143,7 @@ public final class DispatcherBuilder {
 
     // create dispatcher
 
-    final LogBuffer logBuffer = new LogBuffer(allocatedBuffer, partitionSize, initialPartitionId);
+    final LogBuffer logBuffer = initLogBuffer(partitionSize);
     final LogBufferAppender logAppender = new LogBufferAppender();
 
     final Dispatcher dispatcher =
@@ -152,6 +187,29 @@ public final class DispatcherBuilder {
     }
   }
 
+  private LogBuffer initLogBuffer(final int partitionSize) {
+    if (maxBufferSize <= 0) {
+      final AllocatedBuffer allocatedBuffer = initAllocatedBuffer(bufferSize);
+      return new LogBuffer(allocatedBuffer, partitionSize, initialPartitionId);
+    }
+
+    if (maxBufferSize < bufferSize) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected the max buffer size to be greater than or equal to the buffer size %d, but was %d.",
+              bufferSize, maxBufferSize));
+    }
+
+    final int maxPartitionSize = BitUtil.align(maxBufferSize / PARTITION_COUNT, 8);
+    return new ElasticLogBuffer(
+        BufferAllocators.allocateDirect(LOG_META_DATA_LENGTH),
+        partitionSize,
+        Math.max(partitionSize, maxPartitionSize),
+        lowWatermark,
+        highWatermark,
+        initialPartitionId);
+  }
+
   private AllocatedBuffer initAllocatedBuffer(final int partitionSize) {
     final int requiredCapacity = requiredCapacity(partitionSize);
     return BufferAllocators.allocateDirect(requiredCapacity);
@@ -0,0 +1,97 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.dispatcher;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+/**
+ * Metrics of the publishers of a dispatcher. A claim is contended if another publisher claimed a
+ * fragment concurrently and updated the publisher position first. A high ratio of contended claims
+ * indicates that many threads write to the same dispatcher.
+ *
+ * <p>The utilization is the ratio of the bytes which are not consumed by the slowest subscription
+ * to the publisher window. If it reaches 1, then the claims are rejected until the subscription
+ * catches up.
+ */
+public final class DispatcherMetrics {
+
+  private static final Counter CLAIMS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("dispatcher_claims_total")
+          .help("Number of claimed fragments and batches")
+          .labelNames("dispatcher")
+          .register();
+
+  private static final Counter CONTENDED_CLAIMS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("dispatcher_contended_claims_total")
+          .help("Number of claims which overlapped with a claim of another publisher")
+          .labelNames("dispatcher")
+          .register();
+
+  private static final Counter REJECTED_CLAIMS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("dispatcher_rejected_claims_total")
+          .help("Number of claims which were rejected because the publisher limit was reached")
+          .labelNames("dispatcher")
+          .register();
+
+  private static final Gauge BUFFER_SIZE =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("dispatcher_buffer_size_bytes")
+          .help("Size of the data sections of the dispatcher buffer")
+          .labelNames("dispatcher")
+          .register();
+
+  private static final Gauge BUFFER_UTILIZATION =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("dispatcher_buffer_utilization")
+          .help("Ratio of the bytes which are not consumed yet to the publisher window")
+          .labelNames("dispatcher")
+          .register();
+
+  private final Counter.Child claims;
+  private final Counter.Child contendedClaims;
+  private final Counter.Child rejectedClaims;
+  private final Gauge.Child bufferSize;
+  private final Gauge.Child bufferUtilization;
+
+  public DispatcherMetrics(final String dispatcherName) {
+    claims = CLAIMS.labels(dispatcherName);
+    contendedClaims = CONTENDED_CLAIMS.labels(dispatcherName);
+    rejectedClaims = REJECTED_CLAIMS.labels(dispatcherName);
+    bufferSize = BUFFER_SIZE.labels(dispatcherName);
+    bufferUtilization = BUFFER_UTILIZATION.labels(dispatcherName);
+  }
+
+  public void claimed() {
+    claims.inc();
+  }
+
+  public void contendedClaim() {
+    contendedClaims.inc();
+  }
+
+  public void rejectedClaim() {
+    rejectedClaims.inc();
+  }
+
+  public void setBufferSize(final long size) {
+    bufferSize.set(size);
+  }
+
+  public void setBufferUtilization(final float utilization) {
+    bufferUtilization.set(utilization);
+  }
+}
@@ -22,6 +22,7 @@ import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.messageLength;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.messageOffset;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.streamIdOffset;
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.typeOffset;
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_COUNT;
 
 import io.zeebe.dispatcher.impl.log.DataFrameDescriptor;
 import io.zeebe.dispatcher.impl.log.LogBuffer;
@@ -45,6 +46,9 @@ public class Subscription implements ConsumableChannel {
   protected final String name;
   protected final ActorCondition dataConsumed;
   protected final ByteBuffer rawDispatcherBufferView;
+  // views of the partitions which are allocated separately (i.e. if the buffer is elastic)
+  protected final ByteBuffer[] partitionBufferViews = new ByteBuffer[PARTITION_COUNT];
+  protected final ByteBuffer[] partitionBuffers = new ByteBuffer[PARTITION_COUNT];
 
   protected volatile boolean isClosed = false;
 
@@ -281,6 +285,7 @@ public class Subscription implements ConsumableChannel {
       final boolean isStreamAware) {
     final UnsafeBuffer buffer = partition.getDataBuffer();
     final int bufferOffset = partition.getUnderlyingBufferOffset();
+    final ByteBuffer bufferView = getBufferView(partition, partitionId);
     final int firstFragmentOffset = partitionOffset;
 
     int readBytes = 0;
@@ -353,7 +358,7 @@ public class Subscription implements ConsumableChannel {
       final int absoluteOffset = bufferOffset + firstFragmentOffset;
 
       availableBlock.setBlock(
-          rawDispatcherBufferView,
+          bufferView,
           position,
           dataConsumed,
           initialStreamId,
@@ -365,6 +370,22 @@ public class Subscription implements ConsumableChannel {
     return blockLength;
   }
 
+  private ByteBuffer getBufferView(final LogBufferPartition partition, final int partitionId) {
+    final ByteBuffer partitionBuffer = partition.getUnderlyingBuffer();
+    if (partitionBuffer == null) {
+      return rawDispatcherBufferView;
+    }
+
+    // a partition of an elastic buffer is replaced when it is resized
+    final int index = partitionId % PARTITION_COUNT;
+    if (partitionBuffers[index] != partitionBuffer) {
+      partitionBuffers[index] = partitionBuffer;
+      partitionBufferViews[index] = partitionBuffer.duplicate();
+    }
+
+    return partitionBufferViews[index];
+  }
+
   public int getId() {
     return id;
   }
@@ -0,0 +1,129 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.dispatcher.impl.log;
+
+import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.FRAME_ALIGNMENT;
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_COUNT;
+
+import io.zeebe.util.allocation.AllocatedBuffer;
+import org.agrona.BitUtil;
+
+/**
+ * A log buffer which allocates every partition separately and resizes a partition when it is
+ * cleaned, i.e. after the publishers moved on to the next partition and all subscriptions consumed
+ * it. A partition grows up to the max partition size if the publishers reached the publisher limit
+ * or the utilization exceeded the high watermark since the last partition was cleaned. It shrinks
+ * down to the min partition size if the utilization stayed below the low watermark.
+ *
+ * <p>The given buffer contains only the metadata section of the log. The partitions are released by
+ * the garbage collector when they are replaced.
+ */
+public final class ElasticLogBuffer extends LogBuffer {
+
+  private final PartitionBuilder partitionBuilder;
+  private final int maxPartitionSize;
+  private final float lowWatermark;
+  private final float highWatermark;
+
+  // set by the publishers
+  private volatile boolean isPublisherLimitReached = false;
+  // updated by the dispatcher only
+  private float peakUtilization = 0;
+
+  public ElasticLogBuffer(
+      final AllocatedBuffer metadataBuffer,
+      final int minPartitionSize,
+      final int maxPartitionSize,
+      final float lowWatermark,
+      final float highWatermark,
+      final int initialPartitionId) {
+    this(
+        new PartitionBuilder(),
+        metadataBuffer,
+        minPartitionSize,
+        maxPartitionSize,
+        lowWatermark,
+        highWatermark,
+        initialPartitionId);
+  }
+
+  private ElasticLogBuffer(
+      final PartitionBuilder partitionBuilder,
+      final AllocatedBuffer metadataBuffer,
+      final int minPartitionSize,
+      final int maxPartitionSize,
+      final float lowWatermark,
+      final float highWatermark,
+      final int initialPartitionId) {
+    super(
+        metadataBuffer,
+        0,
+        allocatePartitions(partitionBuilder, minPartitionSize),
+        minPartitionSize,
+        initialPartitionId);
+
+    this.partitionBuilder = partitionBuilder;
+    this.maxPartitionSize = maxPartitionSize;
+    this.lowWatermark = lowWatermark;
+    this.highWatermark = highWatermark;
+  }
+
+  private static LogBufferPartition[] allocatePartitions(
+      final PartitionBuilder partitionBuilder, final int partitionSize) {
+    final LogBufferPartition[] partitions = new LogBufferPartition[PARTITION_COUNT];
+    for (int i = 0; i < PARTITION_COUNT; i++) {
+      partitions[i] = partitionBuilder.allocatePartition(partitionSize);
+    }
+    return partitions;
+  }
+
+  @Override
+  protected void cleanPartition(final int index, final LogBufferPartition partition) {
+    final int currentSize = partition.getPartitionSize();
+    final int newSize = nextPartitionSize(currentSize);
+
+    if (newSize == currentSize) {
+      super.cleanPartition(index, partition);
+    } else {
+      LOG.debug("Resize partition {} from {} to {} bytes", index, currentSize, newSize);
+
+      // the replaced partition keeps the status 'needs cleaning', so a publisher which still
+      // references it can't claim a fragment
+      replacePartition(index, partitionBuilder.allocatePartition(newSize));
+    }
+
+    isPublisherLimitReached = false;
+    peakUtilization = 0;
+  }
+
+  private int nextPartitionSize(final int currentSize) {
+    if (isPublisherLimitReached || peakUtilization >= highWatermark) {
+      return Math.min(currentSize * 2, maxPartitionSize);
+
+    } else if (peakUtilization < lowWatermark) {
+      return Math.max(BitUtil.align(currentSize / 2, FRAME_ALIGNMENT), partitionSize);
+
+    } else {
+      return currentSize;
+    }
+  }
+
+  @Override
+  public void onPublisherLimitReached() {
+    isPublisherLimitReached = true;
+  }
+
+  @Override
+  public void onUtilizationUpdated(final float utilization) {
+    peakUtilization = Math.max(peakUtilization, utilization);
+  }
+
+  public int getMaxPartitionSize() {
+    return maxPartitionSize;
+  }
+}
@@ -17,6 +17,7 @@ import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.logMetadataOffset
 import io.zeebe.dispatcher.Loggers;
 import io.zeebe.util.allocation.AllocatedBuffer;
 import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 
@@ -25,7 +26,7 @@ public class LogBuffer {
 
   protected final AllocatedBuffer rawBuffer;
 
-  protected final LogBufferPartition[] partitions;
+  protected final AtomicReferenceArray<LogBufferPartition> partitions;
 
   protected final UnsafeBuffer metadataBuffer;
 
@@ -35,21 +36,33 @@ public class LogBuffer {
       final AllocatedBuffer allocatedBuffer,
       final int partitionSize,
       final int initialPartitionId) {
+    this(
+        allocatedBuffer,
+        logMetadataOffset(partitionSize),
+        new PartitionBuilder().slicePartitions(partitionSize, allocatedBuffer),
+        partitionSize,
+        initialPartitionId);
+  }
+
+  protected LogBuffer(
+      final AllocatedBuffer allocatedBuffer,
+      final int metadataOffset,
+      final LogBufferPartition[] partitions,
+      final int partitionSize,
+      final int initialPartitionId) {
     this.partitionSize = partitionSize;
+    this.partitions = new AtomicReferenceArray<>(partitions);
     rawBuffer = allocatedBuffer;
 
-    partitions = new PartitionBuilder().slicePartitions(partitionSize, rawBuffer);
-
     metadataBuffer =
-        new UnsafeBuffer(
-            rawBuffer.getRawBuffer(), logMetadataOffset(partitionSize), LOG_META_DATA_LENGTH);
+        new UnsafeBuffer(rawBuffer.getRawBuffer(), metadataOffset, LOG_META_DATA_LENGTH);
 
     metadataBuffer.putInt(LOG_INITIAL_PARTITION_ID_OFFSET, initialPartitionId);
     metadataBuffer.putIntVolatile(LOG_ACTIVE_PARTITION_ID_OFFSET, initialPartitionId);
   }
 
   public LogBufferPartition getPartition(final int id) {
-    return partitions[id % getPartitionCount()];
+    return partitions.get(id % getPartitionCount());
   }
 
   public int getActivePartitionIdVolatile() {
@@ -61,7 +74,7 @@ public class LogBuffer {
   }
 
   public int getPartitionCount() {
-    return partitions.length;
+    return partitions.length();
   }
 
   public int getDataFrameMaxLength() {
@@ -71,8 +84,7 @@ public class LogBuffer {
   public void onActiveParitionFilled(final int activePartitionId) {
     final int nextPartitionId = 1 + activePartitionId;
     final int nextNextPartitionId = 1 + nextPartitionId;
-    final LogBufferPartition nextNextPartition =
-        partitions[(nextNextPartitionId) % getPartitionCount()];
+    final LogBufferPartition nextNextPartition = getPartition(nextNextPartitionId);
 
     nextNextPartition.setStatusOrdered(PARTITION_NEEDS_CLEANING);
     metadataBuffer.putIntOrdered(LOG_ACTIVE_PARTITION_ID_OFFSET, nextPartitionId);
@@ -87,12 +99,10 @@ public class LogBuffer {
     int workCount = 0;
 
     for (int i = 0; i < LogBufferDescriptor.PARTITION_COUNT; i++) {
-      final LogBufferPartition partition = partitions[i];
+      final LogBufferPartition partition = partitions.get(i);
 
       if (partition.getStatusVolatile() == PARTITION_NEEDS_CLEANING) {
-        LOG.trace("Clean partition {}", i);
-
-        partition.clean();
+        cleanPartition(i, partition);
         ++workCount;
       }
     }
@@ -100,6 +110,34 @@ public class LogBuffer {
     return workCount;
   }
 
+  protected void cleanPartition(final int index, final LogBufferPartition partition) {
+    LOG.trace("Clean partition {}", index);
+
+    partition.clean();
+  }
+
+  /**
+   * Replaces the partition with the given index. The partition must not be used by the publishers
+   * or the subscriptions, i.e. it must be marked as 'needs cleaning'.
+   */
+  protected void replacePartition(final int index, final LogBufferPartition partition) {
+    partitions.set(index, partition);
+  }
+
+  /** Invoked by a publisher if it can't claim a fragment because the publisher limit is reached. */
+  public void onPublisherLimitReached() {
+    // only relevant if the buffer is resized
+  }
+
+  /**
+   * Invoked by the dispatcher when it updates the publisher limit.
+   *
+   * @param utilization the ratio of the not consumed bytes to the publisher window
+   */
+  public void onUtilizationUpdated(final float utilization) {
+    // only relevant if the buffer is resized
+  }
+
   public void close() {
     rawBuffer.close();
   }
@@ -108,10 +146,20 @@ public class LogBuffer {
     return rawBuffer.isClosed();
   }
 
+  /** @return the (initial) size of a partition */
   public int getPartitionSize() {
     return partitionSize;
   }
 
+  /** @return the current size of the data sections of all partitions */
+  public long getBufferSize() {
+    long bufferSize = 0;
+    for (int i = 0; i < getPartitionCount(); i++) {
+      bufferSize += partitions.get(i).getPartitionSize();
+    }
+    return bufferSize;
+  }
+
   public ByteBuffer createRawBufferView() {
     return rawBuffer.getRawBuffer().duplicate();
   }
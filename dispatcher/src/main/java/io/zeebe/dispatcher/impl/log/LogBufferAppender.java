@@ -133,6 +133,35 @@ public class LogBufferAppender {
     return newTail;
   }
 
+  /**
+   * Claims a batch with the given length which is already the sum of the aligned fragment lengths,
+   * so that no space is reserved for alignment.
+   */
+  public int claim(
+      final LogBufferPartition partition,
+      final int activePartitionId,
+      final ClaimedFragmentBatch batch,
+      final int alignedBatchLength,
+      final Runnable onComplete) {
+    final int partitionSize = partition.getPartitionSize();
+
+    // move the tail of the partition
+    final int frameOffset = partition.getAndAddTail(alignedBatchLength);
+
+    int newTail = frameOffset + alignedBatchLength;
+
+    if (newTail <= (partitionSize - HEADER_LENGTH)) {
+      final UnsafeBuffer buffer = partition.getDataBuffer();
+      // all fragment data are written using the claimed batch
+      batch.wrap(buffer, activePartitionId, frameOffset, alignedBatchLength, onComplete);
+
+    } else {
+      newTail = onEndOfPartition(partition, frameOffset, activePartitionId);
+    }
+
+    return newTail;
+  }
+
   protected int onEndOfPartition(
       final LogBufferPartition partition, final int partitionOffset, final int activePartitionId) {
     int newTail = RESULT_END_OF_PARTITION;
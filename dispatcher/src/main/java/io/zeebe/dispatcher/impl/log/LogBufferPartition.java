@@ -12,6 +12,7 @@ import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_NEEDS_C
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_STATUS_OFFSET;
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_TAIL_COUNTER_OFFSET;
 
+import java.nio.ByteBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public class LogBufferPartition {
@@ -31,14 +32,29 @@ public class LogBufferPartition {
    */
   protected final int rawBufferOffset;
 
+  /**
+   * the buffer which is allocated for this partition only, or <code>null</code> if the partition is
+   * a slice of the buffer of the log
+   */
+  protected final ByteBuffer underlyingBuffer;
+
   public LogBufferPartition(
       final UnsafeBuffer dataBuffer, final UnsafeBuffer metadataBuffer, final int rawBufferOffset) {
+    this(dataBuffer, metadataBuffer, rawBufferOffset, null);
+  }
+
+  public LogBufferPartition(
+      final UnsafeBuffer dataBuffer,
+      final UnsafeBuffer metadataBuffer,
+      final int rawBufferOffset,
+      final ByteBuffer underlyingBuffer) {
     dataBuffer.verifyAlignment();
     metadataBuffer.verifyAlignment();
     this.dataBuffer = dataBuffer;
     this.metadataBuffer = metadataBuffer;
     this.partitionSize = dataBuffer.capacity();
     this.rawBufferOffset = rawBufferOffset;
+    this.underlyingBuffer = underlyingBuffer;
     dataBuffer.setMemory(0, partitionSize, (byte) 0);
   }
 
@@ -79,4 +95,8 @@ public class LogBufferPartition {
   public int getUnderlyingBufferOffset() {
     return rawBufferOffset;
   }
+
+  public ByteBuffer getUnderlyingBuffer() {
+    return underlyingBuffer;
+  }
 }
@@ -11,9 +11,11 @@ import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_COUNT;
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_META_DATA_LENGTH;
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.partitionDataSectionOffset;
 import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.partitionMetadataSectionOffset;
+import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
 
 import io.zeebe.util.allocation.AllocatedBuffer;
 import java.nio.ByteBuffer;
+import org.agrona.BufferUtil;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public final class PartitionBuilder {
@@ -36,4 +38,21 @@ public final class PartitionBuilder {
 
     return partitions;
   }
+
+  /**
+   * Allocates a partition with its own buffer which contains the data and the metadata section. The
+   * buffer is not shared with other partitions and is released when the partition is not referenced
+   * anymore.
+   */
+  public LogBufferPartition allocatePartition(final int partitionSize) {
+    final ByteBuffer buffer =
+        BufferUtil.allocateDirectAligned(
+            partitionSize + PARTITION_META_DATA_LENGTH, CACHE_LINE_LENGTH);
+
+    final UnsafeBuffer dataSection = new UnsafeBuffer(buffer, 0, partitionSize);
+    final UnsafeBuffer metadataSection =
+        new UnsafeBuffer(buffer, partitionSize, PARTITION_META_DATA_LENGTH);
+
+    return new LogBufferPartition(dataSection, metadataSection, 0, buffer);
+  }
 }
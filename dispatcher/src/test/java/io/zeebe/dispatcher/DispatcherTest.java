@@ -71,6 +71,9 @@ public final class DispatcherTest {
     when(logBuffer.getPartition(0)).thenReturn(logBufferPartition0);
     when(logBuffer.getPartition(1)).thenReturn(logBufferPartition1);
     when(logBuffer.getPartition(2)).thenReturn(logBufferPartition2);
+    when(logBufferPartition0.getPartitionSize()).thenReturn(A_PARITION_SIZE);
+    when(logBufferPartition1.getPartitionSize()).thenReturn(A_PARITION_SIZE);
+    when(logBufferPartition2.getPartitionSize()).thenReturn(A_PARITION_SIZE);
     when(logBuffer.createRawBufferView()).thenReturn(ByteBuffer.allocate(32));
 
     logAppender = mock(LogBufferAppender.class);
@@ -213,6 +216,7 @@ public final class DispatcherTest {
   @Test
   public void shouldUpdatePublisherLimit() {
     when(subscriberPosition.get()).thenReturn(position(10, 100));
+    when(logBuffer.getPartition(10)).thenReturn(logBufferPartition1);
 
     dispatcher.doOpenSubscription("test", mock(ActorCondition.class));
     dispatcher.updatePublisherLimit();
@@ -223,6 +227,7 @@ public final class DispatcherTest {
   @Test
   public void shouldUpdatePublisherLimitToNextPartition() {
     when(subscriberPosition.get()).thenReturn(position(10, A_PARITION_SIZE - A_LOG_WINDOW_LENGTH));
+    when(logBuffer.getPartition(10)).thenReturn(logBufferPartition1);
 
     dispatcher.doOpenSubscription("test", mock(ActorCondition.class));
     dispatcher.updatePublisherLimit();
@@ -0,0 +1,148 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.dispatcher.impl.log;
+
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.LOG_META_DATA_LENGTH;
+import static io.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_COUNT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.util.allocation.BufferAllocators;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class ElasticLogBufferTest {
+
+  private static final int MIN_PARTITION_SIZE = 1024;
+  private static final int MAX_PARTITION_SIZE = 4 * 1024;
+
+  private ElasticLogBuffer logBuffer;
+  private int activePartitionId;
+
+  @Before
+  public void setup() {
+    logBuffer =
+        new ElasticLogBuffer(
+            BufferAllocators.allocateDirect(LOG_META_DATA_LENGTH),
+            MIN_PARTITION_SIZE,
+            MAX_PARTITION_SIZE,
+            0.25f,
+            0.75f,
+            0);
+  }
+
+  @After
+  public void close() {
+    logBuffer.close();
+  }
+
+  @Test
+  public void shouldAllocatePartitionsWithMinSize() {
+    for (int i = 0; i < PARTITION_COUNT; i++) {
+      final LogBufferPartition partition = logBuffer.getPartition(i);
+
+      assertThat(partition.getPartitionSize()).isEqualTo(MIN_PARTITION_SIZE);
+      assertThat(partition.getUnderlyingBuffer()).isNotNull();
+    }
+    assertThat(logBuffer.getBufferSize()).isEqualTo(PARTITION_COUNT * MIN_PARTITION_SIZE);
+  }
+
+  @Test
+  public void shouldGrowPartitionIfPublisherLimitReached() {
+    // given
+    logBuffer.onPublisherLimitReached();
+
+    // when
+    final LogBufferPartition partition = rotateAndClean();
+
+    // then
+    assertThat(partition.getPartitionSize()).isEqualTo(2 * MIN_PARTITION_SIZE);
+    assertThat(partition.needsCleaning()).isFalse();
+    assertThat(partition.getTailCounterVolatile()).isEqualTo(0);
+    assertThat(logBuffer.getBufferSize()).isEqualTo(4 * MIN_PARTITION_SIZE);
+  }
+
+  @Test
+  public void shouldGrowPartitionIfUtilizationExceedsHighWatermark() {
+    // given
+    logBuffer.onUtilizationUpdated(0.8f);
+    logBuffer.onUtilizationUpdated(0.5f);
+
+    // when
+    final LogBufferPartition partition = rotateAndClean();
+
+    // then
+    assertThat(partition.getPartitionSize()).isEqualTo(2 * MIN_PARTITION_SIZE);
+  }
+
+  @Test
+  public void shouldNotGrowPartitionBeyondMaxSize() {
+    // when
+    for (int i = 0; i < 2 * PARTITION_COUNT * 3; i++) {
+      logBuffer.onPublisherLimitReached();
+      rotateAndClean();
+    }
+
+    // then
+    for (int i = 0; i < PARTITION_COUNT; i++) {
+      assertThat(logBuffer.getPartition(i).getPartitionSize()).isEqualTo(MAX_PARTITION_SIZE);
+    }
+  }
+
+  @Test
+  public void shouldKeepPartitionSizeBetweenWatermarks() {
+    // given
+    logBuffer.onUtilizationUpdated(0.5f);
+    final LogBufferPartition partition = logBuffer.getPartition(activePartitionId + 2);
+
+    // when
+    final LogBufferPartition cleanedPartition = rotateAndClean();
+
+    // then
+    assertThat(cleanedPartition).isSameAs(partition);
+    assertThat(cleanedPartition.getPartitionSize()).isEqualTo(MIN_PARTITION_SIZE);
+  }
+
+  @Test
+  public void shouldShrinkPartitionIfUtilizationIsBelowLowWatermark() {
+    // given
+    logBuffer.onPublisherLimitReached();
+    rotateAndClean();
+    rotateAndClean();
+    rotateAndClean();
+
+    // when
+    logBuffer.onUtilizationUpdated(0.1f);
+    final LogBufferPartition partition = rotateAndClean();
+
+    // then
+    assertThat(partition.getPartitionSize()).isEqualTo(MIN_PARTITION_SIZE);
+    assertThat(logBuffer.getBufferSize()).isEqualTo(PARTITION_COUNT * MIN_PARTITION_SIZE);
+  }
+
+  @Test
+  public void shouldNotClaimReplacedPartition() {
+    // given
+    logBuffer.onPublisherLimitReached();
+    final LogBufferPartition partition = logBuffer.getPartition(activePartitionId + 2);
+
+    // when
+    rotateAndClean();
+
+    // then
+    assertThat(partition.needsCleaning()).isTrue();
+  }
+
+  private LogBufferPartition rotateAndClean() {
+    logBuffer.onActiveParitionFilled(activePartitionId);
+    activePartitionId += 1;
+    logBuffer.cleanPartitions();
+
+    return logBuffer.getPartition(activePartitionId + 1);
+  }
+}
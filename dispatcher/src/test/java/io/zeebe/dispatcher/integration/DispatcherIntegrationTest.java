@@ -148,6 +148,62 @@ public final class DispatcherIntegrationTest {
     dispatcher.close();
   }
 
+  @Test
+  public void shouldPeekBlocksOfElasticBuffer() throws Exception {
+    final int totalWork = 1_000_000;
+    final ClaimedFragment claimedFragment = new ClaimedFragment();
+    final BlockPeek blockPeek = new BlockPeek();
+
+    final Dispatcher dispatcher =
+        Dispatchers.create("default")
+            .actorScheduler(actorSchedulerRule.get())
+            .bufferSize((int) ByteValue.ofKilobytes(192))
+            .maxBufferSize((int) ByteValue.ofMegabytes(3))
+            .build();
+
+    final Subscription subscription = dispatcher.openSubscription("test");
+    final AtomicInteger counter = new AtomicInteger(0);
+
+    final Thread consumerThread =
+        new Thread(
+            () -> {
+              while (counter.get() < totalWork) {
+                while (subscription.peekBlock(blockPeek, alignedFramedLength(64), false) == 0) {}
+
+                final int newCounter =
+                    Integer.reverseBytes(
+                        blockPeek
+                            .getRawBuffer()
+                            .getInt(messageOffset(blockPeek.getBufferOffset())));
+                if (newCounter - 1 != counter.get()) {
+                  throw new RuntimeException(newCounter + " " + counter);
+                }
+                counter.set(newCounter);
+                blockPeek.markCompleted();
+              }
+            });
+
+    consumerThread.start();
+
+    claimFragment(dispatcher, claimedFragment, totalWork);
+
+    consumerThread.join();
+
+    assertThat(counter.get()).isEqualTo(totalWork);
+    dispatcher.close();
+  }
+
+  @Test
+  public void shouldFailToCreateElasticDispatcherIfMaxBufferSizeTooSmall() {
+    final var builder =
+        Dispatchers.create("test")
+            .actorScheduler(actorSchedulerRule.get())
+            .bufferSize((int) ByteValue.ofMegabytes(2))
+            .maxBufferSize((int) ByteValue.ofMegabytes(1));
+
+    assertThatThrownBy(() -> builder.build()).isInstanceOf(IllegalArgumentException.class);
+  }
+
   @Test
   public void testInitialPartitionId() throws Exception {
     // 1 million messages
@@ -132,11 +132,38 @@ public final class FragmentBatchIntegrationTest {
     assertThat(readBytes).isEqualTo(batchSize);
   }
 
+  @Test
+  public void shouldClaimBatchWithExactLength() {
+    // given
+    final int batchSize = alignedFramedLength(MSG1.length) + alignedFramedLength(MSG2.length);
+
+    while (dispatcher.claim(batch, new int[] {MSG1.length, MSG2.length}, 2) <= 0) {
+      // spin
+    }
+    writeFragments();
+
+    // when
+    batch.commit();
+    claimAndWriteMsgThree();
+
+    // then
+    final int readBytes = subscription.peekBlock(blockPeek, 1024, false);
+    assertThat(readBytes).isEqualTo(batchSize + alignedFramedLength(MSG3.length));
+
+    final int fragmentLength = assertThatBufferContains(blockPeek.getBuffer(), 0, MSG1, 1);
+    assertThatBufferContains(blockPeek.getBuffer(), alignedFramedLength(fragmentLength), MSG2, 2);
+    assertThatBufferContains(blockPeek.getBuffer(), batchSize, MSG3, 3);
+  }
+
   private void claimAndWriteFragments() {
     while (dispatcher.claim(batch, 2, MSG1.length + MSG2.length) <= 0) {
       // spin
     }
 
+    writeFragments();
+  }
+
+  private void writeFragments() {
     final MutableDirectBuffer writeBuffer = batch.getBuffer();
 
     batch.nextFragment(MSG1.length, 1);
@@ -0,0 +1,52 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+public final class ExpressionCacheMetrics {
+
+  private static final Counter EXPRESSION_CACHE_REQUESTS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("expression_cache_requests_total")
+          .help("Number of lookups in the parsed expression cache")
+          .labelNames("result")
+          .register();
+
+  private static final Counter EXPRESSION_CACHE_EVICTIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("expression_cache_evictions_total")
+          .help("Number of parsed expressions evicted from the cache")
+          .register();
+
+  private static final Gauge EXPRESSION_CACHE_SIZE =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("expression_cache_size")
+          .help("Number of parsed expressions in the cache")
+          .register();
+
+  public void hit() {
+    EXPRESSION_CACHE_REQUESTS.labels("hit").inc();
+  }
+
+  public void miss() {
+    EXPRESSION_CACHE_REQUESTS.labels("miss").inc();
+  }
+
+  public void evicted() {
+    EXPRESSION_CACHE_EVICTIONS.inc();
+  }
+
+  public void setSize(final int size) {
+    EXPRESSION_CACHE_SIZE.set(size);
+  }
+}
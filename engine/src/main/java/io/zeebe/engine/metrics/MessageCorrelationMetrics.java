@@ -0,0 +1,43 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+
+public final class MessageCorrelationMetrics {
+
+  private static final Counter SUBSCRIPTION_LOOKUPS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("message_subscription_lookups_total")
+          .help("Number of subscription lookups of published messages by the result of the index")
+          .labelNames("subscriptionType", "result")
+          .register();
+
+  private final Counter.Child skipped;
+  private final Counter.Child hit;
+  private final Counter.Child falsePositive;
+
+  public MessageCorrelationMetrics(final String subscriptionType) {
+    skipped = SUBSCRIPTION_LOOKUPS.labels(subscriptionType, "skipped");
+    hit = SUBSCRIPTION_LOOKUPS.labels(subscriptionType, "hit");
+    falsePositive = SUBSCRIPTION_LOOKUPS.labels(subscriptionType, "false positive");
+  }
+
+  public void lookupSkipped() {
+    skipped.inc();
+  }
+
+  public void lookupHit() {
+    hit.inc();
+  }
+
+  public void lookupFalsePositive() {
+    falsePositive.inc();
+  }
+}
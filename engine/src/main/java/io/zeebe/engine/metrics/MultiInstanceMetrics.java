@@ -0,0 +1,35 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+
+public final class MultiInstanceMetrics {
+
+  private static final Counter INNER_INSTANCES_CREATED =
+      Counter.build()
+          .namespace("zeebe")
+          .name("multi_instance_inner_instances_created_total")
+          .help("Number of created inner instances of multi-instance bodies")
+          .labelNames("mode")
+          .register();
+
+  private static final Histogram INNER_INSTANCES_PER_STEP =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("multi_instance_inner_instances_per_step")
+          .help("Number of inner instances which are created in one processing step")
+          .buckets(1, 10, 50, 100, 250, 500)
+          .register();
+
+  public void innerInstancesCreated(final boolean sequential, final int count) {
+    INNER_INSTANCES_CREATED.labels(sequential ? "sequential" : "parallel").inc(count);
+    INNER_INSTANCES_PER_STEP.observe(count);
+  }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.Intent;
+import java.util.Arrays;
+
+/**
+ * Metrics of the stream processor per value type and intent of the processed record. The label
+ * children are resolved once per value type and intent and cached, so that recording the metrics of
+ * a processed record doesn't allocate. The durations are only recorded for every n-th record if a
+ * sample rate is set.
+ */
+public final class RecordProcessingMetrics {
+
+  private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+  private static final double[] DURATION_BUCKETS = {
+    .00001, .00005, .0001, .0005, .001, .005, .01, .05, .1, .5, 1
+  };
+
+  private static final Counter PROCESSED_RECORDS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("stream_processor_records_total")
+          .help("Number of processed records per value type and intent")
+          .labelNames("valueType", "intent", "partition")
+          .register();
+
+  private static final Histogram PROCESSING_DURATION =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("stream_processor_processing_duration")
+          .help("Time to process a record in seconds, including the state changes")
+          .labelNames("valueType", "intent", "partition")
+          .buckets(DURATION_BUCKETS)
+          .register();
+
+  private static final Histogram COMMIT_DURATION =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("stream_processor_commit_duration")
+          .help("Time to commit the state changes of a processed record in seconds")
+          .labelNames("valueType", "intent", "partition")
+          .buckets(DURATION_BUCKETS)
+          .register();
+
+  private static final Histogram WRITE_DURATION =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("stream_processor_write_duration")
+          .help("Time to write the follow-up records of a processed record in seconds")
+          .labelNames("valueType", "intent", "partition")
+          .buckets(DURATION_BUCKETS)
+          .register();
+
+  private static final Histogram DB_DURATION =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("stream_processor_db_duration")
+          .help(
+              "Time spent in the state reads, writes and deletes while processing a record in seconds, without iterations")
+          .labelNames("valueType", "intent", "partition")
+          .buckets(DURATION_BUCKETS)
+          .register();
+
+  private static final Counter STATE_PUTS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("stream_processor_state_puts_total")
+          .help("Number of keys written to the state while processing records")
+          .labelNames("partition")
+          .register();
+
+  private static final Counter STATE_DELETES =
+      Counter.build()
+          .namespace("zeebe")
+          .name("stream_processor_state_deletes_total")
+          .help("Number of keys deleted from the state while processing records")
+          .labelNames("partition")
+          .register();
+
+  private final RecordMetrics[][] recordMetrics = new RecordMetrics[ValueType.values().length][];
+  private final String partitionIdLabel;
+  private final Counter.Child statePuts;
+  private final Counter.Child stateDeletes;
+  private final int sampleRate;
+  private long recordCount;
+
+  public RecordProcessingMetrics(final int partitionId, final int sampleRate) {
+    this.partitionIdLabel = String.valueOf(partitionId);
+    this.statePuts = STATE_PUTS.labels(partitionIdLabel);
+    this.stateDeletes = STATE_DELETES.labels(partitionIdLabel);
+    this.sampleRate = Math.max(1, sampleRate);
+  }
+
+  /**
+   * Counts the processed record and decides if the durations of the record should be recorded.
+   *
+   * @return {@code true} if the durations of the record should be recorded
+   */
+  public boolean recordProcessed(final ValueType valueType, final Intent intent) {
+    getRecordMetrics(valueType, intent).processedRecords.inc();
+    return recordCount++ % sampleRate == 0;
+  }
+
+  public void processingDuration(
+      final ValueType valueType, final Intent intent, final long durationNanos) {
+    getRecordMetrics(valueType, intent).processingDuration.observe(toSeconds(durationNanos));
+  }
+
+  public void dbDuration(final ValueType valueType, final Intent intent, final long durationNanos) {
+    getRecordMetrics(valueType, intent).dbDuration.observe(toSeconds(durationNanos));
+  }
+
+  /**
+   * Counts the keys which are written and deleted while processing a record. Together they show how
+   * fast the state grows, but overwritten keys are counted as puts too.
+   */
+  public void stateChanges(final long puts, final long deletes) {
+    if (puts > 0) {
+      statePuts.inc(puts);
+    }
+    if (deletes > 0) {
+      stateDeletes.inc(deletes);
+    }
+  }
+
+  public void commitDuration(
+      final ValueType valueType, final Intent intent, final long durationNanos) {
+    getRecordMetrics(valueType, intent).commitDuration.observe(toSeconds(durationNanos));
+  }
+
+  public void writeDuration(
+      final ValueType valueType, final Intent intent, final long durationNanos) {
+    getRecordMetrics(valueType, intent).writeDuration.observe(toSeconds(durationNanos));
+  }
+
+  private RecordMetrics getRecordMetrics(final ValueType valueType, final Intent intent) {
+    final int valueTypeIndex = valueType.ordinal();
+    final int intentIndex = intent.value();
+
+    RecordMetrics[] metricsOfValueType = recordMetrics[valueTypeIndex];
+    if (metricsOfValueType == null) {
+      metricsOfValueType = new RecordMetrics[intentIndex + 1];
+      recordMetrics[valueTypeIndex] = metricsOfValueType;
+
+    } else if (metricsOfValueType.length <= intentIndex) {
+      metricsOfValueType = Arrays.copyOf(metricsOfValueType, intentIndex + 1);
+      recordMetrics[valueTypeIndex] = metricsOfValueType;
+    }
+
+    RecordMetrics metrics = metricsOfValueType[intentIndex];
+    if (metrics == null) {
+      metrics = new RecordMetrics(valueType.name(), intent.name(), partitionIdLabel);
+      metricsOfValueType[intentIndex] = metrics;
+    }
+    return metrics;
+  }
+
+  private static double toSeconds(final long durationNanos) {
+    return durationNanos / NANOS_PER_SECOND;
+  }
+
+  private static final class RecordMetrics {
+    private final Counter.Child processedRecords;
+    private final Histogram.Child processingDuration;
+    private final Histogram.Child dbDuration;
+    private final Histogram.Child commitDuration;
+    private final Histogram.Child writeDuration;
+
+    private RecordMetrics(final String valueType, final String intent, final String partition) {
+      processedRecords = PROCESSED_RECORDS.labels(valueType, intent, partition);
+      processingDuration = PROCESSING_DURATION.labels(valueType, intent, partition);
+      dbDuration = DB_DURATION.labels(valueType, intent, partition);
+      commitDuration = COMMIT_DURATION.labels(valueType, intent, partition);
+      writeDuration = WRITE_DURATION.labels(valueType, intent, partition);
+    }
+  }
+}
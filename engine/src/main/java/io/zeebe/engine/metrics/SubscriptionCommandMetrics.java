@@ -0,0 +1,39 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.metrics;
+
+import io.prometheus.client.Histogram;
+
+public final class SubscriptionCommandMetrics {
+
+  private static final Histogram SENT_BATCH_SIZE =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("subscription_command_sent_batch_size")
+          .help("Number of subscription commands which are sent to a partition in one message")
+          .labelNames("partition")
+          .buckets(1, 2, 5, 10, 25, 50, 100, 250)
+          .register();
+
+  private static final Histogram RECEIVED_BATCH_SIZE =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("subscription_command_received_batch_size")
+          .help("Number of subscription commands which are written to a partition in one batch")
+          .labelNames("partition")
+          .buckets(1, 2, 5, 10, 25, 50, 100, 250)
+          .register();
+
+  public void batchSent(final int receiverPartitionId, final int commandCount) {
+    SENT_BATCH_SIZE.labels(Integer.toString(receiverPartitionId)).observe(commandCount);
+  }
+
+  public void batchReceived(final int partitionId, final int commandCount) {
+    RECEIVED_BATCH_SIZE.labels(Integer.toString(partitionId)).observe(commandCount);
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+public final class WorkflowCacheMetrics {
+
+  private static final Counter WORKFLOW_CACHE_REQUESTS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("workflow_cache_requests_total")
+          .help("Number of lookups in the deployed workflow cache")
+          .labelNames("result", "partition")
+          .register();
+
+  private static final Counter WORKFLOW_CACHE_EVENTS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("workflow_cache_events_total")
+          .help(
+              "Number of workflows that are transformed or evicted by the deployed workflow cache")
+          .labelNames("action", "partition")
+          .register();
+
+  private static final Gauge WORKFLOW_CACHE_SIZE =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("workflow_cache_size")
+          .help("Number of deployed workflows in the cache")
+          .labelNames("partition")
+          .register();
+
+  private final String partitionIdLabel;
+
+  public WorkflowCacheMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  private void request(final String result) {
+    WORKFLOW_CACHE_REQUESTS.labels(result, partitionIdLabel).inc();
+  }
+
+  private void event(final String action) {
+    WORKFLOW_CACHE_EVENTS.labels(action, partitionIdLabel).inc();
+  }
+
+  public void hit() {
+    request("hit");
+  }
+
+  public void miss() {
+    request("miss");
+  }
+
+  public void workflowTransformed() {
+    event("transformed");
+  }
+
+  public void workflowEvicted() {
+    event("evicted");
+  }
+
+  public void setSize(final int size) {
+    WORKFLOW_CACHE_SIZE.labels(partitionIdLabel).set(size);
+  }
+}
@@ -65,6 +65,11 @@ public final class AsyncSnapshotDirector extends Actor {
     return actorName;
   }
 
+  @Override
+  public int getPartitionAffinity() {
+    return logStream.getPartitionId();
+  }
+
   @Override
   protected void onActorStarting() {
     actor.setSchedulingHints(SchedulingHints.ioBound());
@@ -32,6 +32,7 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
   private BooleanSupplier abortCondition;
   private Consumer<TypedRecord> onProcessedListener = record -> {};
   private int maxFragmentSize;
+  private int metricsSampleRate = 1;
 
   public ProcessingContext actor(final ActorControl actor) {
     this.actor = actor;
@@ -99,6 +100,11 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     return this;
   }
 
+  public ProcessingContext metricsSampleRate(final int metricsSampleRate) {
+    this.metricsSampleRate = metricsSampleRate;
+    return this;
+  }
+
   @Override
   public ActorControl getActor() {
     return actor;
@@ -162,4 +168,9 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
   public Consumer<TypedRecord> getOnProcessedListener() {
     return onProcessedListener;
   }
+
+  /** @return the rate in which the processing durations are recorded, i.e. every n-th record */
+  public int getMetricsSampleRate() {
+    return metricsSampleRate;
+  }
 }
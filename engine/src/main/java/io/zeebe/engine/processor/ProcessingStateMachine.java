@@ -8,7 +8,10 @@
 package io.zeebe.engine.processor;
 
 import io.zeebe.db.DbContext;
+import io.zeebe.db.DbOperationStatistics;
+import io.zeebe.db.TransactionOperation;
 import io.zeebe.db.ZeebeDbTransaction;
+import io.zeebe.engine.metrics.RecordProcessingMetrics;
 import io.zeebe.engine.metrics.StreamProcessorMetrics;
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.logstreams.impl.Loggers;
@@ -20,15 +23,19 @@ import io.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.zeebe.protocol.impl.record.value.error.ErrorRecord;
 import io.zeebe.protocol.record.RecordType;
 import io.zeebe.protocol.record.RejectionType;
+import io.zeebe.protocol.record.ValueType;
 import io.zeebe.protocol.record.intent.ErrorIntent;
+import io.zeebe.protocol.record.intent.Intent;
 import io.zeebe.util.exception.RecoverableException;
 import io.zeebe.util.retry.AbortableRetryStrategy;
+import io.zeebe.util.retry.OperationToRetry;
 import io.zeebe.util.retry.RecoverableRetryStrategy;
 import io.zeebe.util.retry.RetryStrategy;
 import io.zeebe.util.sched.ActorControl;
 import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.future.ActorFuture;
 import java.time.Duration;
+import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
@@ -119,8 +126,21 @@ public final class ProcessingStateMachine {
   private final RecordProcessorMap recordProcessorMap;
   private final TypedEventImpl typedEvent;
   private final StreamProcessorMetrics metrics;
+  private final RecordProcessingMetrics recordMetrics;
+  private final DbOperationStatistics dbStatistics = new DbOperationStatistics();
   private final Consumer<TypedRecord> onProcessed;
 
+  // the steps of the processing are created once, so that processing a record does not allocate
+  private final Runnable readNextEventStep = this::readNextEvent;
+  private final TransactionOperation processTypedEventOperation = this::processTypedEvent;
+  private final Consumer<SideEffectProducer> sideEffectProducerSetter = this::setSideEffectProducer;
+  private final OperationToRetry writeEventOperation = this::tryToWriteEvent;
+  private final BiConsumer<Boolean, Throwable> writeEventCallback = this::onEventWritten;
+  private final OperationToRetry updateStateOperation = this::tryToUpdateState;
+  private final BiConsumer<Boolean, Throwable> updateStateCallback = this::onStateUpdated;
+  private final OperationToRetry sideEffectsOperation = this::tryToExecuteSideEffects;
+  private final BiConsumer<Boolean, Throwable> sideEffectsCallback = this::onSideEffectsExecuted;
+
   // current iteration
   private SideEffectProducer sideEffectProducer;
   private LoggedEvent currentEvent;
@@ -133,6 +153,10 @@ public final class ProcessingStateMachine {
   private long errorRecordPosition = StreamProcessor.UNSET_POSITION;
   private volatile boolean onErrorHandlingLoop;
   private int onErrorRetries;
+  private ValueType currentValueType;
+  private Intent currentIntent;
+  private boolean isSampled;
+  private long writeStartTime;
 
   public ProcessingStateMachine(
       final ProcessingContext context, final BooleanSupplier shouldProcessNext) {
@@ -159,11 +183,12 @@ public final class ProcessingStateMachine {
         new TypedResponseWriterImpl(context.getCommandResponseWriter(), partitionId);
 
     this.metrics = new StreamProcessorMetrics(partitionId);
+    this.recordMetrics = new RecordProcessingMetrics(partitionId, context.getMetricsSampleRate());
     this.onProcessed = context.getOnProcessedListener();
   }
 
   private void skipRecord() {
-    actor.submit(this::readNextEvent);
+    actor.submit(readNextEventStep);
     metrics.eventSkipped();
   }
 
@@ -218,11 +243,41 @@ public final class ProcessingStateMachine {
     metrics.processingLatency(
         metadata.getRecordType(), event.getTimestamp(), ActorClock.currentTimeMillis());
 
+    currentValueType = metadata.getValueType();
+    currentIntent = metadata.getIntent();
+    isSampled = recordMetrics.recordProcessed(currentValueType, currentIntent);
+
     try {
       final UnifiedRecordValue value = recordValues.readRecordValue(event, metadata.getValueType());
       typedEvent.wrap(event, metadata, value);
 
-      processInTransaction(typedEvent);
+      final ActorFuture<?> preparation = currentProcessor.prepareRecord(typedEvent);
+      if (preparation != null && !preparation.isDone()) {
+        // the actor is not blocked while the record is prepared, but no other record is read
+        // until the current one is processed
+        actor.runOnCompletion(preparation, (result, error) -> processPreparedEvent());
+        return;
+      }
+    } catch (final Exception e) {
+      LOG.error(ERROR_MESSAGE_PROCESSING_FAILED_SKIP_EVENT, event, e);
+      onError(e, this::writeEvent);
+      return;
+    }
+
+    processPreparedEvent();
+  }
+
+  private void processPreparedEvent() {
+    final LoggedEvent event = currentEvent;
+    try {
+      final long processingStartTime = isSampled ? System.nanoTime() : 0L;
+      processInTransaction();
+      if (isSampled) {
+        recordMetrics.processingDuration(
+            currentValueType, currentIntent, System.nanoTime() - processingStartTime);
+        recordMetrics.dbDuration(currentValueType, currentIntent, dbStatistics.getOperationNanos());
+      }
+      recordMetrics.stateChanges(dbStatistics.getPuts(), dbStatistics.getDeletes());
 
       metrics.eventProcessed();
 
@@ -251,27 +306,30 @@ public final class ProcessingStateMachine {
     return typedRecordProcessor;
   }
 
-  private void processInTransaction(final TypedEventImpl typedRecord) throws Exception {
+  private void processInTransaction() throws Exception {
     zeebeDbTransaction = dbContext.getCurrentTransaction();
-    zeebeDbTransaction.run(
-        () -> {
-          final long position = typedRecord.getPosition();
-          resetOutput(position);
+    dbStatistics.reset(isSampled);
+    zeebeDbTransaction.setStatistics(dbStatistics);
+    try {
+      zeebeDbTransaction.run(processTypedEventOperation);
+    } finally {
+      zeebeDbTransaction.setStatistics(null);
+    }
+  }
 
-          // default side effect is responses; can be changed by processor
-          sideEffectProducer = responseWriter;
-          final boolean isNotOnBlacklist = !zeebeState.isOnBlacklist(typedRecord);
-          if (isNotOnBlacklist) {
-            currentProcessor.processRecord(
-                position,
-                typedRecord,
-                responseWriter,
-                logStreamWriter,
-                this::setSideEffectProducer);
-          }
+  private void processTypedEvent() {
+    final long position = typedEvent.getPosition();
+    resetOutput(position);
 
-          zeebeState.markAsProcessed(position);
-        });
+    // default side effect is responses; can be changed by processor
+    sideEffectProducer = responseWriter;
+    final boolean isNotOnBlacklist = !zeebeState.isOnBlacklist(typedEvent);
+    if (isNotOnBlacklist) {
+      currentProcessor.processRecord(
+          position, typedEvent, responseWriter, logStreamWriter, sideEffectProducerSetter);
+    }
+
+    zeebeState.markAsProcessed(position);
   }
 
   private void resetOutput(final long sourceRecordPosition) {
@@ -293,6 +351,7 @@ public final class ProcessingStateMachine {
         updateStateRetryStrategy.runWithRetry(
             () -> {
               zeebeDbTransaction.rollback();
+              zeebeState.onRollback();
               return true;
             },
             abortCondition);
@@ -344,62 +403,74 @@ public final class ProcessingStateMachine {
   }
 
   private void writeEvent() {
+    writeStartTime = isSampled ? System.nanoTime() : 0L;
+
     final ActorFuture<Boolean> retryFuture =
-        writeRetryStrategy.runWithRetry(
-            () -> {
-              writtenEventPosition = logStreamWriter.flush();
-              return writtenEventPosition >= 0;
-            },
-            abortCondition);
+        writeRetryStrategy.runWithRetry(writeEventOperation, abortCondition);
 
-    actor.runOnCompletion(
-        retryFuture,
-        (bool, t) -> {
-          if (t != null) {
-            LOG.error(ERROR_MESSAGE_WRITE_EVENT_ABORTED, currentEvent, t);
-            onError(t, this::writeEvent);
-          } else {
-            updateState();
-            metrics.eventWritten();
-          }
-        });
+    actor.runOnCompletion(retryFuture, writeEventCallback);
+  }
+
+  private boolean tryToWriteEvent() {
+    writtenEventPosition = logStreamWriter.flush();
+    return writtenEventPosition >= 0;
+  }
+
+  private void onEventWritten(final Boolean written, final Throwable t) {
+    if (t != null) {
+      LOG.error(ERROR_MESSAGE_WRITE_EVENT_ABORTED, currentEvent, t);
+      onError(t, this::writeEvent);
+    } else {
+      if (isSampled) {
+        recordMetrics.writeDuration(
+            currentValueType, currentIntent, System.nanoTime() - writeStartTime);
+      }
+
+      updateState();
+      metrics.eventWritten();
+    }
   }
 
   private void updateState() {
     final ActorFuture<Boolean> retryFuture =
-        updateStateRetryStrategy.runWithRetry(
-            () -> {
-              zeebeDbTransaction.commit();
-
-              // needs to be directly after commit
-              // so no other ActorJob can interfere between commit and update the positions
-              if (onErrorHandling) {
-                errorRecordPosition = writtenEventPosition;
-                logStream
-                    .getCommitPositionAsync()
-                    .onComplete(
-                        (commitPosition, error) -> {
-                          if (error == null) {
-                            LOG.info(LOG_ERROR_EVENT_WRITTEN, errorRecordPosition, commitPosition);
-                          }
-                        });
-              }
-              lastSuccessfulProcessedEventPosition = currentEvent.getPosition();
-              lastWrittenEventPosition = writtenEventPosition;
-              return true;
-            },
-            abortCondition);
+        updateStateRetryStrategy.runWithRetry(updateStateOperation, abortCondition);
 
-    actor.runOnCompletion(
-        retryFuture,
-        (bool, throwable) -> {
-          if (throwable != null) {
-            LOG.error(ERROR_MESSAGE_UPDATE_STATE_FAILED, currentEvent, throwable);
-            onError(throwable, this::updateState);
-          } else {
-            executeSideEffects();
-          }
-        });
+    actor.runOnCompletion(retryFuture, updateStateCallback);
+  }
+
+  private boolean tryToUpdateState() throws Exception {
+    final long commitStartTime = isSampled ? System.nanoTime() : 0L;
+    zeebeDbTransaction.commit();
+    if (isSampled) {
+      recordMetrics.commitDuration(
+          currentValueType, currentIntent, System.nanoTime() - commitStartTime);
+    }
+
+    // needs to be directly after commit
+    // so no other ActorJob can interfere between commit and update the positions
+    if (onErrorHandling) {
+      errorRecordPosition = writtenEventPosition;
+      logStream
+          .getCommitPositionAsync()
+          .onComplete(
+              (commitPosition, error) -> {
+                if (error == null) {
+                  LOG.info(LOG_ERROR_EVENT_WRITTEN, errorRecordPosition, commitPosition);
+                }
+              });
+    }
+    lastSuccessfulProcessedEventPosition = currentEvent.getPosition();
+    lastWrittenEventPosition = writtenEventPosition;
+    return true;
+  }
+
+  private void onStateUpdated(final Boolean updated, final Throwable throwable) {
+    if (throwable != null) {
+      LOG.error(ERROR_MESSAGE_UPDATE_STATE_FAILED, currentEvent, throwable);
+      onError(throwable, this::updateState);
+    } else {
+      executeSideEffects();
+    }
   }
 
   private void notifyListener() {
@@ -412,21 +483,25 @@ public final class ProcessingStateMachine {
 
   private void executeSideEffects() {
     final ActorFuture<Boolean> retryFuture =
-        sideEffectsRetryStrategy.runWithRetry(sideEffectProducer::flush, abortCondition);
+        sideEffectsRetryStrategy.runWithRetry(sideEffectsOperation, abortCondition);
 
-    actor.runOnCompletion(
-        retryFuture,
-        (bool, throwable) -> {
-          if (throwable != null) {
-            LOG.error(ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED, currentEvent, throwable);
-          }
+    actor.runOnCompletion(retryFuture, sideEffectsCallback);
+  }
 
-          notifyListener();
+  private boolean tryToExecuteSideEffects() {
+    return sideEffectProducer.flush();
+  }
 
-          // continue with next event
-          currentProcessor = null;
-          actor.submit(this::readNextEvent);
-        });
+  private void onSideEffectsExecuted(final Boolean executed, final Throwable throwable) {
+    if (throwable != null) {
+      LOG.error(ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED, currentEvent, throwable);
+    }
+
+    notifyListener();
+
+    // continue with next event
+    currentProcessor = null;
+    actor.submit(readNextEventStep);
   }
 
   public long getLastSuccessfulProcessedEventPosition() {
@@ -86,6 +86,11 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
     return actorName;
   }
 
+  @Override
+  public int getPartitionAffinity() {
+    return partitionId;
+  }
+
   @Override
   protected void onActorStarting() {
     actor.runOnCompletionBlockingCurrentPhase(
@@ -63,6 +63,15 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  /**
+   * Records the processing durations only for every n-th processed record, to reduce the overhead
+   * of the metrics. By default, the durations of all records are recorded.
+   */
+  public StreamProcessorBuilder metricsSampleRate(final int metricsSampleRate) {
+    processingContext.metricsSampleRate(metricsSampleRate);
+    return this;
+  }
+
   public StreamProcessorBuilder zeebeDb(final ZeebeDb zeebeDb) {
     this.zeebeDb = zeebeDb;
     return this;
@@ -8,11 +8,29 @@
 package io.zeebe.engine.processor;
 
 import io.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.zeebe.util.sched.future.ActorFuture;
 import java.util.function.Consumer;
 
 public interface TypedRecordProcessor<T extends UnifiedRecordValue>
     extends StreamProcessorLifecycleAware {
 
+  /**
+   * Prepares the processing of the record, e.g. by doing work which doesn't depend on the state on
+   * another thread. The stream processor actor is not blocked in the meantime, but it processes the
+   * record (and the following records) only when the returned future is completed. The record is
+   * reused afterwards, so the processor must copy everything it needs.
+   *
+   * <p>The records are not prepared on reprocessing, so the processor must be able to process a
+   * record without preparation.
+   *
+   * @param record the record to prepare
+   * @return a future which is completed when the record can be processed, or {@code null} if there
+   *     is nothing to prepare
+   */
+  default ActorFuture<?> prepareRecord(final TypedRecord<T> record) {
+    return null;
+  }
+
   /** @see #processRecord(TypedRecord, TypedResponseWriter, TypedStreamWriter, Consumer) */
   default void processRecord(
       final TypedRecord<T> record,
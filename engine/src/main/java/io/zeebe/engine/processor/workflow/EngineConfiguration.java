@@ -0,0 +1,46 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processor.workflow;
+
+import java.util.concurrent.Executor;
+
+/** The settings of the engine which are shared by the stream processors of all partitions. */
+public final class EngineConfiguration {
+
+  public static final int DEFAULT_MAX_EXPIRED_MESSAGES_PER_CHECK = 100;
+
+  private Executor deploymentResourceParserExecutor = Runnable::run;
+  private int maxExpiredMessagesPerCheck = DEFAULT_MAX_EXPIRED_MESSAGES_PER_CHECK;
+
+  public Executor getDeploymentResourceParserExecutor() {
+    return deploymentResourceParserExecutor;
+  }
+
+  /**
+   * @param deploymentResourceParserExecutor the worker pool which parses the resources of a
+   *     deployment; by default, the resources are parsed on the stream processor actor
+   */
+  public EngineConfiguration setDeploymentResourceParserExecutor(
+      final Executor deploymentResourceParserExecutor) {
+    this.deploymentResourceParserExecutor = deploymentResourceParserExecutor;
+    return this;
+  }
+
+  public int getMaxExpiredMessagesPerCheck() {
+    return maxExpiredMessagesPerCheck;
+  }
+
+  /**
+   * @param maxExpiredMessagesPerCheck the max number of messages which are expired in one actor
+   *     job; if more messages are expired then the check continues in the next job
+   */
+  public EngineConfiguration setMaxExpiredMessagesPerCheck(final int maxExpiredMessagesPerCheck) {
+    this.maxExpiredMessagesPerCheck = maxExpiredMessagesPerCheck;
+    return this;
+  }
+}
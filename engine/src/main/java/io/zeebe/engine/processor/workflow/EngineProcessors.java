@@ -37,7 +37,8 @@ public final class EngineProcessors {
       final SubscriptionCommandSender subscriptionCommandSender,
       final DeploymentDistributor deploymentDistributor,
       final DeploymentResponder deploymentResponder,
-      final Consumer<String> onJobsAvailableCallback) {
+      final Consumer<String> onJobsAvailableCallback,
+      final EngineConfiguration engineConfiguration) {
 
     final var actor = processingContext.getActor();
     final ZeebeState zeebeState = processingContext.getZeebeState();
@@ -66,8 +67,10 @@ public final class EngineProcessors {
         zeebeState,
         typedRecordProcessors,
         deploymentResponder,
-        expressionProcessor);
-    addMessageProcessors(subscriptionCommandSender, zeebeState, typedRecordProcessors);
+        expressionProcessor,
+        engineConfiguration);
+    addMessageProcessors(
+        subscriptionCommandSender, zeebeState, typedRecordProcessors, engineConfiguration);
 
     final BpmnStepProcessor stepProcessor =
         addWorkflowProcessors(
@@ -123,12 +126,17 @@ public final class EngineProcessors {
       final ZeebeState zeebeState,
       final TypedRecordProcessors typedRecordProcessors,
       final DeploymentResponder deploymentResponder,
-      final ExpressionProcessor expressionProcessor) {
+      final ExpressionProcessor expressionProcessor,
+      final EngineConfiguration engineConfiguration) {
     final WorkflowState workflowState = zeebeState.getWorkflowState();
     final boolean isDeploymentPartition = partitionId == Protocol.DEPLOYMENT_PARTITION;
     if (isDeploymentPartition) {
       DeploymentEventProcessors.addTransformingDeploymentProcessor(
-          typedRecordProcessors, zeebeState, catchEventBehavior, expressionProcessor);
+          typedRecordProcessors,
+          zeebeState,
+          catchEventBehavior,
+          expressionProcessor,
+          engineConfiguration.getDeploymentResourceParserExecutor());
     } else {
       DeploymentEventProcessors.addDeploymentCreateProcessor(
           typedRecordProcessors, workflowState, deploymentResponder, partitionId);
@@ -161,8 +169,12 @@ public final class EngineProcessors {
   private static void addMessageProcessors(
       final SubscriptionCommandSender subscriptionCommandSender,
       final ZeebeState zeebeState,
-      final TypedRecordProcessors typedRecordProcessors) {
+      final TypedRecordProcessors typedRecordProcessors,
+      final EngineConfiguration engineConfiguration) {
     MessageEventProcessors.addMessageProcessors(
-        typedRecordProcessors, zeebeState, subscriptionCommandSender);
+        typedRecordProcessors,
+        zeebeState,
+        subscriptionCommandSender,
+        engineConfiguration.getMaxExpiredMessagesPerCheck());
   }
 }
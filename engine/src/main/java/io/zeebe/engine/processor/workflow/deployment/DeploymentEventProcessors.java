@@ -16,6 +16,7 @@ import io.zeebe.engine.processor.workflow.ExpressionProcessor;
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.engine.state.deployment.WorkflowState;
 import io.zeebe.protocol.record.ValueType;
+import java.util.concurrent.Executor;
 
 public final class DeploymentEventProcessors {
 
@@ -34,10 +35,11 @@ public final class DeploymentEventProcessors {
       final TypedRecordProcessors typedRecordProcessors,
       final ZeebeState zeebeState,
       final CatchEventBehavior catchEventBehavior,
-      final ExpressionProcessor expressionProcessor) {
+      final ExpressionProcessor expressionProcessor,
+      final Executor resourceParserExecutor) {
     final var processor =
         new TransformingDeploymentCreateProcessor(
-            zeebeState, catchEventBehavior, expressionProcessor);
+            zeebeState, catchEventBehavior, expressionProcessor, resourceParserExecutor);
     typedRecordProcessors.onCommand(ValueType.DEPLOYMENT, CREATE, processor);
   }
 }
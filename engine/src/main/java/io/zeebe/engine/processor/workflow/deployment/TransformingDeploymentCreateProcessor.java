@@ -31,8 +31,10 @@ import io.zeebe.protocol.impl.record.value.deployment.Workflow;
 import io.zeebe.protocol.record.RejectionType;
 import io.zeebe.protocol.record.intent.DeploymentIntent;
 import io.zeebe.util.Either;
+import io.zeebe.util.sched.future.ActorFuture;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
 
@@ -52,14 +54,23 @@ public final class TransformingDeploymentCreateProcessor
   public TransformingDeploymentCreateProcessor(
       final ZeebeState zeebeState,
       final CatchEventBehavior catchEventBehavior,
-      final ExpressionProcessor expressionProcessor) {
+      final ExpressionProcessor expressionProcessor,
+      final Executor resourceParserExecutor) {
     this.workflowState = zeebeState.getWorkflowState();
     this.keyGenerator = zeebeState.getKeyGenerator();
-    this.deploymentTransformer = new DeploymentTransformer(zeebeState, expressionProcessor);
+    this.deploymentTransformer =
+        new DeploymentTransformer(zeebeState, expressionProcessor, resourceParserExecutor);
     this.catchEventBehavior = catchEventBehavior;
     this.expressionProcessor = expressionProcessor;
   }
 
+  @Override
+  public ActorFuture<?> prepareRecord(final TypedRecord<DeploymentRecord> command) {
+    // parse the resources off the actor, the transformation needs the state and is done on
+    // processing
+    return deploymentTransformer.prepare(command.getPosition(), command.getValue());
+  }
+
   @Override
   public void processRecord(
       final TypedRecord<DeploymentRecord> command,
@@ -68,7 +79,8 @@ public final class TransformingDeploymentCreateProcessor
       final Consumer<SideEffectProducer> sideEffect) {
     final DeploymentRecord deploymentEvent = command.getValue();
 
-    final boolean accepted = deploymentTransformer.transform(deploymentEvent);
+    final boolean accepted =
+        deploymentTransformer.transform(command.getPosition(), deploymentEvent);
     if (accepted) {
       final long key = keyGenerator.nextKey();
       if (workflowState.putDeployment(key, deploymentEvent)) {
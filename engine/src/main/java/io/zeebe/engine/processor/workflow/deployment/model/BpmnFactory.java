@@ -15,6 +15,12 @@ import io.zeebe.engine.processor.workflow.deployment.transform.BpmnValidator;
 
 public final class BpmnFactory {
 
+  private static final int EXPRESSION_CACHE_CAPACITY = 10_000;
+
+  // parsed expressions are shared between all partitions and deployments of the broker
+  private static final ExpressionCache EXPRESSION_CACHE =
+      new ExpressionCache(EXPRESSION_CACHE_CAPACITY);
+
   public static BpmnTransformer createTransformer() {
     return new BpmnTransformer(createExpressionLanguage());
   }
@@ -24,6 +30,7 @@ public final class BpmnFactory {
   }
 
   private static ExpressionLanguage createExpressionLanguage() {
-    return ExpressionLanguageFactory.createExpressionLanguage();
+    return new CachedExpressionLanguage(
+        ExpressionLanguageFactory.createExpressionLanguage(), EXPRESSION_CACHE);
   }
 }
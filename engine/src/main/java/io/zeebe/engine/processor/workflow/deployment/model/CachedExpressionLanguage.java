@@ -0,0 +1,41 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processor.workflow.deployment.model;
+
+import io.zeebe.el.EvaluationContext;
+import io.zeebe.el.EvaluationResult;
+import io.zeebe.el.Expression;
+import io.zeebe.el.ExpressionLanguage;
+
+/** An expression language that looks up parsed expressions in a (shared) cache first. */
+public final class CachedExpressionLanguage implements ExpressionLanguage {
+
+  private final ExpressionLanguage expressionLanguage;
+  private final ExpressionCache expressionCache;
+
+  public CachedExpressionLanguage(
+      final ExpressionLanguage expressionLanguage, final ExpressionCache expressionCache) {
+    this.expressionLanguage = expressionLanguage;
+    this.expressionCache = expressionCache;
+  }
+
+  @Override
+  public Expression parseExpression(final String expression) {
+    if (expression == null) {
+      // let the expression language handle the invalid argument
+      return expressionLanguage.parseExpression(null);
+    }
+    return expressionCache.computeIfAbsent(expression, expressionLanguage::parseExpression);
+  }
+
+  @Override
+  public EvaluationResult evaluateExpression(
+      final Expression expression, final EvaluationContext context) {
+    return expressionLanguage.evaluateExpression(expression, context);
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processor.workflow.deployment.model;
+
+import static io.zeebe.util.EnsureUtil.ensureGreaterThan;
+
+import io.zeebe.el.Expression;
+import io.zeebe.engine.metrics.ExpressionCacheMetrics;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A size-bounded cache of parsed expressions, keyed by the expression text. It is shared between
+ * the partitions of a broker, so it is safe to use from multiple threads. If the cache is full then
+ * the least recently used expression is evicted.
+ *
+ * <p>Parsed expressions are immutable and don't depend on the expression language instance that
+ * parsed them, so they can be evaluated by any instance.
+ */
+public final class ExpressionCache {
+
+  private final ExpressionCacheMetrics metrics = new ExpressionCacheMetrics();
+
+  private final Map<String, Expression> expressions;
+
+  public ExpressionCache(final int capacity) {
+    ensureGreaterThan("capacity", capacity, 0);
+
+    expressions =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(final Map.Entry<String, Expression> eldest) {
+            final boolean evict = size() > capacity;
+            if (evict) {
+              metrics.evicted();
+            }
+            return evict;
+          }
+        };
+  }
+
+  /**
+   * Returns the parsed expression for the given expression text. If it is not cached yet then the
+   * expression is parsed with the given parser and added to the cache.
+   *
+   * @param expression the (raw) expression as string
+   * @param parser the parser that is used if the expression is not cached
+   * @return the parsed expression
+   */
+  public Expression computeIfAbsent(
+      final String expression, final Function<String, Expression> parser) {
+
+    synchronized (expressions) {
+      final var cachedExpression = expressions.get(expression);
+      if (cachedExpression != null) {
+        metrics.hit();
+        return cachedExpression;
+      }
+    }
+
+    metrics.miss();
+    // parse outside of the lock - if two threads parse the same expression, the result is equal
+    final var parsedExpression = parser.apply(expression);
+
+    synchronized (expressions) {
+      expressions.putIfAbsent(expression, parsedExpression);
+      metrics.setSize(expressions.size());
+    }
+
+    return parsedExpression;
+  }
+
+  public int size() {
+    synchronized (expressions) {
+      return expressions.size();
+    }
+  }
+}
@@ -19,28 +19,33 @@ import org.camunda.bpm.model.xml.validation.ValidationResults;
 
 public final class BpmnValidator {
 
-  private final ValidationVisitor designTimeAspectValidator;
   private final ValidationVisitor runtimeAspectValidator;
 
   private final ValidationErrorFormatter formatter = new ValidationErrorFormatter();
 
   public BpmnValidator(
       final ExpressionLanguage expressionLanguage, final ExpressionProcessor expressionProcessor) {
-    designTimeAspectValidator = new ValidationVisitor(ZeebeDesignTimeValidators.VALIDATORS);
     runtimeAspectValidator =
         new ValidationVisitor(
             ZeebeRuntimeValidators.getValidators(expressionLanguage, expressionProcessor));
   }
 
   public String validate(final BpmnModelInstance modelInstance) {
-    designTimeAspectValidator.reset();
+    return validate(modelInstance, validateDesignTimeAspects(modelInstance));
+  }
+
+  /**
+   * Validates the runtime aspects of the given model and returns the errors together with the
+   * errors of the given design time validation.
+   */
+  public String validate(
+      final BpmnModelInstance modelInstance, final ValidationResults designTimeResults) {
     runtimeAspectValidator.reset();
 
     final ModelWalker walker = new ModelWalker(modelInstance);
-    walker.walk(designTimeAspectValidator);
     walker.walk(runtimeAspectValidator);
 
-    final ValidationResults results1 = designTimeAspectValidator.getValidationResult();
+    final ValidationResults results1 = designTimeResults;
     final ValidationResults results2 = runtimeAspectValidator.getValidationResult();
 
     if (results1.hasErrors() || results2.hasErrors()) {
@@ -53,4 +58,17 @@ public final class BpmnValidator {
       return null;
     }
   }
+
+  /**
+   * Validates the design time aspects of the given model. The validation doesn't depend on the
+   * state, so it can be called by any thread.
+   */
+  public static ValidationResults validateDesignTimeAspects(final BpmnModelInstance modelInstance) {
+    final ValidationVisitor designTimeAspectValidator =
+        new ValidationVisitor(ZeebeDesignTimeValidators.VALIDATORS);
+
+    new ModelWalker(modelInstance).walk(designTimeAspectValidator);
+
+    return designTimeAspectValidator.getValidationResult();
+  }
 }
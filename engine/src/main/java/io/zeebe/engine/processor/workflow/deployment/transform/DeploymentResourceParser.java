@@ -0,0 +1,157 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processor.workflow.deployment.transform;
+
+import io.zeebe.engine.Loggers;
+import io.zeebe.engine.processor.workflow.deployment.model.yaml.BpmnYamlParser;
+import io.zeebe.model.bpmn.Bpmn;
+import io.zeebe.model.bpmn.BpmnModelInstance;
+import io.zeebe.msgpack.value.ValueArray;
+import io.zeebe.protocol.impl.record.value.deployment.DeploymentResource;
+import io.zeebe.protocol.record.value.deployment.ResourceType;
+import io.zeebe.util.buffer.BufferUtil;
+import io.zeebe.util.sched.future.ActorFuture;
+import io.zeebe.util.sched.future.CompletableActorFuture;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import org.agrona.DirectBuffer;
+import org.agrona.io.DirectBufferInputStream;
+import org.camunda.bpm.model.xml.validation.ValidationResults;
+import org.slf4j.Logger;
+
+/**
+ * Reads the resources of a deployment and validates the design time aspects of the workflows. Both
+ * steps don't depend on the state, so the resources of a deployment can be parsed in parallel by a
+ * worker pool while the stream processor continues with other work. The results are returned in the
+ * order of the resources, and the state dependent steps (i.e. the runtime validation and the
+ * transformation) are done afterwards by the caller.
+ */
+public final class DeploymentResourceParser {
+
+  private static final Logger LOG = Loggers.WORKFLOW_PROCESSOR_LOGGER;
+
+  private final Executor executor;
+
+  /**
+   * @param executor the worker pool which parses the resources if they are parsed asynchronously
+   */
+  public DeploymentResourceParser(final Executor executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * Parses the resources on the worker pool. The resources are copied, so the given array can be
+   * reused when the method returns.
+   *
+   * @return a future which is completed with the parsed resources, in the order of the resources
+   */
+  public ActorFuture<List<ParsedResource>> parseAsync(
+      final ValueArray<DeploymentResource> resources) {
+    final List<CompletableFuture<ParsedResource>> results = new ArrayList<>();
+
+    for (final DeploymentResource resource : resources) {
+      final String resourceName = resource.getResourceName();
+      final ResourceType resourceType = resource.getResourceType();
+      final DirectBuffer resourceBuffer = BufferUtil.cloneBuffer(resource.getResourceBuffer());
+
+      results.add(
+          CompletableFuture.supplyAsync(
+              () -> parseResource(resourceName, resourceType, resourceBuffer), executor));
+    }
+
+    final CompletableActorFuture<List<ParsedResource>> parsedResources =
+        new CompletableActorFuture<>();
+
+    CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+        .whenComplete(
+            (nothing, error) -> {
+              if (error != null) {
+                // only if the worker pool rejects the task, e.g. on shutdown
+                parsedResources.completeExceptionally(error);
+              } else {
+                parsedResources.complete(
+                    results.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+              }
+            });
+
+    return parsedResources;
+  }
+
+  /** Parses the resources on the calling thread, e.g. on reprocessing. */
+  public List<ParsedResource> parse(final ValueArray<DeploymentResource> resources) {
+    final List<ParsedResource> parsedResources = new ArrayList<>();
+
+    for (final DeploymentResource resource : resources) {
+      parsedResources.add(
+          parseResource(
+              resource.getResourceName(),
+              resource.getResourceType(),
+              resource.getResourceBuffer()));
+    }
+    return parsedResources;
+  }
+
+  private static ParsedResource parseResource(
+      final String resourceName, final ResourceType resourceType, final DirectBuffer resource) {
+    try {
+      final BpmnModelInstance definition = readWorkflowDefinition(resourceType, resource);
+      final ValidationResults designTimeResults =
+          BpmnValidator.validateDesignTimeAspects(definition);
+
+      return new ParsedResource(definition, designTimeResults, null);
+
+    } catch (final RuntimeException e) {
+      LOG.error("Unexpected error while processing resource '{}'", resourceName, e);
+      return new ParsedResource(null, null, e.getMessage());
+    }
+  }
+
+  private static BpmnModelInstance readWorkflowDefinition(
+      final ResourceType resourceType, final DirectBuffer resource) {
+    final DirectBufferInputStream resourceStream = new DirectBufferInputStream(resource);
+
+    switch (resourceType) {
+      case YAML_WORKFLOW:
+        return new BpmnYamlParser().readFromStream(resourceStream);
+      case BPMN_XML:
+      default:
+        return Bpmn.readModelFromStream(resourceStream);
+    }
+  }
+
+  public static final class ParsedResource {
+    private final BpmnModelInstance definition;
+    private final ValidationResults designTimeResults;
+    private final String failure;
+
+    private ParsedResource(
+        final BpmnModelInstance definition,
+        final ValidationResults designTimeResults,
+        final String failure) {
+      this.definition = definition;
+      this.designTimeResults = designTimeResults;
+      this.failure = failure;
+    }
+
+    public BpmnModelInstance getDefinition() {
+      return definition;
+    }
+
+    public ValidationResults getDesignTimeResults() {
+      return designTimeResults;
+    }
+
+    /** @return the reason why the resource could not be read, or {@code null} if it was read */
+    public String getFailure() {
+      return failure;
+    }
+  }
+}
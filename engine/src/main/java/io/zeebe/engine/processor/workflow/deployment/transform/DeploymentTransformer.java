@@ -13,7 +13,7 @@ import io.zeebe.engine.Loggers;
 import io.zeebe.engine.processor.KeyGenerator;
 import io.zeebe.engine.processor.workflow.ExpressionProcessor;
 import io.zeebe.engine.processor.workflow.deployment.model.BpmnFactory;
-import io.zeebe.engine.processor.workflow.deployment.model.yaml.BpmnYamlParser;
+import io.zeebe.engine.processor.workflow.deployment.transform.DeploymentResourceParser.ParsedResource;
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.engine.state.deployment.DeployedWorkflow;
 import io.zeebe.engine.state.deployment.WorkflowState;
@@ -25,23 +25,25 @@ import io.zeebe.protocol.impl.record.value.deployment.DeploymentResource;
 import io.zeebe.protocol.record.RejectionType;
 import io.zeebe.protocol.record.value.deployment.ResourceType;
 import io.zeebe.util.buffer.BufferUtil;
+import io.zeebe.util.sched.future.ActorFuture;
 import java.io.ByteArrayOutputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
-import org.agrona.io.DirectBufferInputStream;
 import org.slf4j.Logger;
 
 public final class DeploymentTransformer {
   private static final Logger LOG = Loggers.WORKFLOW_PROCESSOR_LOGGER;
 
   private final BpmnValidator validator;
-  private final BpmnYamlParser yamlParser = new BpmnYamlParser();
+  private final DeploymentResourceParser resourceParser;
   private final WorkflowState workflowState;
   private final KeyGenerator keyGenerator;
   private final MessageDigest digestGenerator;
@@ -50,9 +52,15 @@ public final class DeploymentTransformer {
   // internal changes during processing
   private RejectionType rejectionType;
   private String rejectionReason;
+  // the resources which are parsed asynchronously before the command is processed
+  private long preparedPosition = -1;
+  private ActorFuture<List<ParsedResource>> preparedResources;
 
   public DeploymentTransformer(
-      final ZeebeState zeebeState, final ExpressionProcessor expressionProcessor) {
+      final ZeebeState zeebeState,
+      final ExpressionProcessor expressionProcessor,
+      final Executor resourceParserExecutor) {
+    resourceParser = new DeploymentResourceParser(resourceParserExecutor);
     workflowState = zeebeState.getWorkflowState();
     keyGenerator = zeebeState.getKeyGenerator();
     validator = BpmnFactory.createValidator(expressionProcessor);
@@ -64,7 +72,21 @@ public final class DeploymentTransformer {
     }
   }
 
-  public boolean transform(final DeploymentRecord deploymentEvent) {
+  /**
+   * Starts to parse the resources of the deployment command on the worker pool. The parsed
+   * resources are used by {@link #transform(long, DeploymentRecord)} if it is called for the same
+   * command after the returned future is completed.
+   */
+  public ActorFuture<List<ParsedResource>> prepare(
+      final long position, final DeploymentRecord deploymentEvent) {
+    if (preparedResources == null || preparedPosition != position) {
+      preparedPosition = position;
+      preparedResources = resourceParser.parseAsync(deploymentEvent.resources());
+    }
+    return preparedResources;
+  }
+
+  public boolean transform(final long position, final DeploymentRecord deploymentEvent) {
     final StringBuilder errors = new StringBuilder();
     boolean success = true;
     processIdToResourceName.clear();
@@ -76,9 +98,13 @@ public final class DeploymentTransformer {
       return false;
     }
 
-    while (resourceIterator.hasNext()) {
-      final DeploymentResource deploymentResource = resourceIterator.next();
-      success &= transformResource(deploymentEvent, errors, deploymentResource);
+    final List<ParsedResource> parsedResources = getParsedResources(position, deploymentEvent);
+
+    int resourceIndex = 0;
+    for (final DeploymentResource deploymentResource : deploymentEvent.resources()) {
+      final ParsedResource parsedResource = parsedResources.get(resourceIndex);
+      success &= transformResource(deploymentEvent, errors, deploymentResource, parsedResource);
+      resourceIndex += 1;
     }
 
     if (!success) {
@@ -92,16 +118,39 @@ public final class DeploymentTransformer {
     return success;
   }
 
+  private List<ParsedResource> getParsedResources(
+      final long position, final DeploymentRecord deploymentEvent) {
+    final ActorFuture<List<ParsedResource>> prepared = preparedResources;
+    preparedResources = null;
+
+    if (prepared != null
+        && preparedPosition == position
+        && prepared.isDone()
+        && !prepared.isCompletedExceptionally()) {
+      return prepared.join();
+    } else {
+      // the command was not prepared, e.g. on reprocessing
+      return resourceParser.parse(deploymentEvent.resources());
+    }
+  }
+
   private boolean transformResource(
       final DeploymentRecord deploymentEvent,
       final StringBuilder errors,
-      final DeploymentResource deploymentResource) {
+      final DeploymentResource deploymentResource,
+      final ParsedResource parsedResource) {
     boolean success = false;
     final String resourceName = deploymentResource.getResourceName();
 
+    if (parsedResource.getFailure() != null) {
+      errors.append("\n'").append(resourceName).append("': ").append(parsedResource.getFailure());
+      return false;
+    }
+
     try {
-      final BpmnModelInstance definition = readWorkflowDefinition(deploymentResource);
-      final String validationError = validator.validate(definition);
+      final BpmnModelInstance definition = parsedResource.getDefinition();
+      final String validationError =
+          validator.validate(definition, parsedResource.getDesignTimeResults());
 
       if (validationError == null) {
         final String bpmnIdDuplicateError = checkForDuplicateBpmnId(definition, resourceName);
@@ -193,19 +242,6 @@ public final class DeploymentTransformer {
         && lastWorkflow.getResourceName().equals(deploymentResource.getResourceNameBuffer());
   }
 
-  private BpmnModelInstance readWorkflowDefinition(final DeploymentResource deploymentResource) {
-    final DirectBuffer resource = deploymentResource.getResourceBuffer();
-    final DirectBufferInputStream resourceStream = new DirectBufferInputStream(resource);
-
-    switch (deploymentResource.getResourceType()) {
-      case YAML_WORKFLOW:
-        return yamlParser.readFromStream(resourceStream);
-      case BPMN_XML:
-      default:
-        return Bpmn.readModelFromStream(resourceStream);
-    }
-  }
-
   private void transformYamlWorkflowResource(
       final DeploymentResource deploymentResource, final BpmnModelInstance definition) {
     if (deploymentResource.getResourceType() != ResourceType.BPMN_XML) {
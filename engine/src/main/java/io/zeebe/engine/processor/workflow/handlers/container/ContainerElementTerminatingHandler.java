@@ -15,11 +15,12 @@ import io.zeebe.engine.processor.workflow.handlers.activity.ActivityElementTermi
 import io.zeebe.engine.state.instance.ElementInstance;
 import io.zeebe.engine.state.instance.ElementInstanceState;
 import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
-import java.util.List;
 
 public final class ContainerElementTerminatingHandler<T extends ExecutableFlowElementContainer>
     extends ActivityElementTerminatingHandler<T> {
 
+  private int terminatedChildInstances;
+
   public ContainerElementTerminatingHandler(final CatchEventSubscriber catchEventSubscriber) {
     this(WorkflowInstanceIntent.ELEMENT_TERMINATED, catchEventSubscriber);
   }
@@ -39,18 +40,20 @@ public final class ContainerElementTerminatingHandler<T extends ExecutableFlowEl
     final EventOutput output = context.getOutput();
     final ElementInstanceState elementInstanceState = context.getElementInstanceState();
 
-    final List<ElementInstance> children =
-        elementInstanceState.getChildren(elementInstance.getKey());
-
-    int terminatedChildInstances = 0;
+    terminatedChildInstances = 0;
 
-    for (final ElementInstance child : children) {
-      if (child.canTerminate()) {
-        output.appendFollowUpEvent(
-            child.getKey(), WorkflowInstanceIntent.ELEMENT_TERMINATING, child.getValue());
+    if (elementInstance.getNumberOfActiveElementInstances() > 0) {
+      elementInstanceState.forEachChild(
+          elementInstance.getKey(),
+          child -> {
+            if (child.canTerminate()) {
+              output.appendFollowUpEvent(
+                  child.getKey(), WorkflowInstanceIntent.ELEMENT_TERMINATING, child.getValue());
 
-        terminatedChildInstances += 1;
-      }
+              terminatedChildInstances += 1;
+            }
+            return true;
+          });
     }
 
     // child tokens are not consumed when the flow scope is terminating
@@ -17,7 +17,6 @@ import io.zeebe.engine.state.instance.EventTrigger;
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
 import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
 import io.zeebe.protocol.record.value.BpmnElementType;
-import java.util.List;
 import org.agrona.DirectBuffer;
 
 public final class EventSubProcessEventOccurredHandler<T extends ExecutableStartEvent>
@@ -27,6 +26,8 @@ public final class EventSubProcessEventOccurredHandler<T extends ExecutableStart
 
   private final WorkflowInstanceRecord containerRecord = new WorkflowInstanceRecord();
 
+  private int terminatedChildInstances;
+
   public EventSubProcessEventOccurredHandler(final CatchEventBehavior catchEventBehavior) {
     super(null);
     this.catchEventBehavior = catchEventBehavior;
@@ -93,24 +94,31 @@ public final class EventSubProcessEventOccurredHandler<T extends ExecutableStart
 
   private boolean interruptParentScope(final BpmnStepContext<T> context) {
     final long scopeKey = context.getValue().getFlowScopeKey();
-    final List<ElementInstance> children = context.getElementInstanceState().getChildren(scopeKey);
-
-    int terminatedChildInstances = 0;
+    final ElementInstance flowScopeInstance = context.getFlowScopeInstance();
+    terminatedChildInstances = 0;
 
-    for (final ElementInstance child : children) {
-      if (child.canTerminate()) {
-        context
-            .getOutput()
-            .appendFollowUpEvent(
-                child.getKey(), WorkflowInstanceIntent.ELEMENT_TERMINATING, child.getValue());
-
-        terminatedChildInstances += 1;
-      }
+    if (flowScopeInstance.getNumberOfActiveElementInstances() > 0) {
+      context
+          .getElementInstanceState()
+          .forEachChild(
+              scopeKey,
+              child -> {
+                if (child.canTerminate()) {
+                  context
+                      .getOutput()
+                      .appendFollowUpEvent(
+                          child.getKey(),
+                          WorkflowInstanceIntent.ELEMENT_TERMINATING,
+                          child.getValue());
+
+                  terminatedChildInstances += 1;
+                }
+                return true;
+              });
     }
 
     // consume all other active tokens (e.g. tokens waiting at a joining gateway)
-    final int zombies =
-        context.getFlowScopeInstance().getNumberOfActiveTokens() - terminatedChildInstances;
+    final int zombies = flowScopeInstance.getNumberOfActiveTokens() - terminatedChildInstances;
     for (int z = 0; z < zombies; z++) {
       context.getElementInstanceState().consumeToken(scopeKey);
     }
@@ -8,6 +8,7 @@
 package io.zeebe.engine.processor.workflow.handlers.multiinstance;
 
 import io.zeebe.el.Expression;
+import io.zeebe.engine.metrics.MultiInstanceMetrics;
 import io.zeebe.engine.processor.workflow.BpmnStepContext;
 import io.zeebe.engine.processor.workflow.BpmnStepHandler;
 import io.zeebe.engine.processor.workflow.ExpressionProcessor;
@@ -29,9 +30,18 @@ import org.agrona.concurrent.UnsafeBuffer;
 public abstract class AbstractMultiInstanceBodyHandler
     extends AbstractHandler<ExecutableMultiInstanceBody> {
 
+  /**
+   * The max number of inner instances of a parallel multi-instance body which are created in one
+   * processing step. It limits the size of the written batch and the time of the step for large
+   * input collections.
+   */
+  protected static final int MAX_INNER_INSTANCES_PER_STEP = 500;
+
   private static final DirectBuffer NIL_VALUE = new UnsafeBuffer(MsgPackHelper.NIL);
   private static final DirectBuffer LOOP_COUNTER_VARIABLE = BufferUtil.wrapString("loopCounter");
+
   protected final ExpressionProcessor expressionProcessor;
+  protected final MultiInstanceMetrics metrics = new MultiInstanceMetrics();
 
   private final Function<BpmnStep, BpmnStepHandler> innerHandlerLookup;
 
@@ -95,6 +105,26 @@ public abstract class AbstractMultiInstanceBodyHandler
     return expressionProcessor.evaluateArrayExpression(inputCollection, context);
   }
 
+  /**
+   * Creates the inner instances of a parallel multi-instance body for the items of the input
+   * collection, beginning at the given index. At most {@link #MAX_INNER_INSTANCES_PER_STEP}
+   * instances are created. The remaining instances are created when the last created inner instance
+   * is activated.
+   */
+  protected void createInnerInstances(
+      final BpmnStepContext<ExecutableMultiInstanceBody> context,
+      final long bodyInstanceKey,
+      final List<DirectBuffer> items,
+      final int fromIndex) {
+
+    final int toIndex = Math.min(items.size(), fromIndex + MAX_INNER_INSTANCES_PER_STEP);
+    for (int i = fromIndex; i < toIndex; i++) {
+      createInnerInstance(context, bodyInstanceKey, items.get(i));
+    }
+
+    metrics.innerInstancesCreated(false, toIndex - fromIndex);
+  }
+
   protected void createInnerInstance(
       final BpmnStepContext<ExecutableMultiInstanceBody> context,
       final long bodyInstanceKey,
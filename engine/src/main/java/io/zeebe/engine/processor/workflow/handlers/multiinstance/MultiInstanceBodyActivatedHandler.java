@@ -19,11 +19,13 @@ import java.util.Optional;
 import java.util.function.Function;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public final class MultiInstanceBodyActivatedHandler extends AbstractMultiInstanceBodyHandler {
 
   private final ExpandableArrayBuffer variableBuffer = new ExpandableArrayBuffer();
   private final MsgPackWriter variableWriter = new MsgPackWriter();
+  private final DirectBuffer inputCollectionView = new UnsafeBuffer(0, 0);
 
   public MultiInstanceBodyActivatedHandler(
       final Function<BpmnStep, BpmnStepHandler> innerHandlerLookup,
@@ -54,14 +56,37 @@ public final class MultiInstanceBodyActivatedHandler extends AbstractMultiInstan
     if (loopCharacteristics.isSequential()) {
       final var firstItem = array.get(0);
       createInnerInstance(context, context.getKey(), firstItem);
+      metrics.innerInstancesCreated(true, 1);
 
     } else {
-      array.forEach(item -> createInnerInstance(context, context.getKey(), item));
+      if (array.size() > MAX_INNER_INSTANCES_PER_STEP) {
+        // keep the evaluated collection for the next chunks of inner instances
+        storeInputCollection(context, array);
+      }
+      createInnerInstances(context, context.getKey(), array, 0);
     }
 
     return false;
   }
 
+  private void storeInputCollection(
+      final BpmnStepContext<ExecutableMultiInstanceBody> context, final List<DirectBuffer> items) {
+
+    variableWriter.wrap(variableBuffer, 0);
+
+    variableWriter.writeArrayHeader(items.size());
+    for (final DirectBuffer item : items) {
+      variableWriter.writeRaw(item);
+    }
+
+    final var length = variableWriter.getOffset();
+    inputCollectionView.wrap(variableBuffer, 0, length);
+
+    context
+        .getElementInstanceState()
+        .setMultiInstanceInputCollection(context.getKey(), inputCollectionView);
+  }
+
   private void initializeOutputCollection(
       final BpmnStepContext<ExecutableMultiInstanceBody> context,
       final DirectBuffer variableName,
@@ -13,15 +13,19 @@ import io.zeebe.engine.processor.workflow.ExpressionProcessor;
 import io.zeebe.engine.processor.workflow.deployment.model.BpmnStep;
 import io.zeebe.engine.processor.workflow.deployment.model.element.ExecutableMultiInstanceBody;
 import io.zeebe.engine.processor.workflow.handlers.CatchEventSubscriber;
+import io.zeebe.msgpack.spec.MsgPackReader;
 import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public final class MultiInstanceBodyActivatingHandler extends AbstractMultiInstanceBodyHandler {
 
   private final CatchEventSubscriber catchEventSubscriber;
+  private final MsgPackReader reader = new MsgPackReader();
 
   public MultiInstanceBodyActivatingHandler(
       final Function<BpmnStep, BpmnStepHandler> innerHandlerLookup,
@@ -31,6 +35,34 @@ public final class MultiInstanceBodyActivatingHandler extends AbstractMultiInsta
     this.catchEventSubscriber = catchEventSubscriber;
   }
 
+  @Override
+  protected void handleInnerActivity(final BpmnStepContext<ExecutableMultiInstanceBody> context) {
+    final var loopCharacteristics = context.getElement().getLoopCharacteristics();
+
+    if (!loopCharacteristics.isSequential() && isLastCreatedInnerInstance(context)) {
+      // the inner instances of a large input collection are created in chunks - continue with
+      // the next chunk when the last inner instance of the previous chunk is activated. The
+      // collection was evaluated once when the body was activated and is not read again.
+      final var bodyInstance = context.getFlowScopeInstance();
+      final var elementInstanceState = context.getElementInstanceState();
+      final var inputCollection =
+          elementInstanceState.getMultiInstanceInputCollection(bodyInstance.getKey());
+
+      if (inputCollection != null) {
+        final var items = readItems(inputCollection);
+        final var loopCounter = bodyInstance.getMultiInstanceLoopCounter();
+        createInnerInstances(context, bodyInstance.getKey(), items, loopCounter);
+
+        if (loopCounter + MAX_INNER_INSTANCES_PER_STEP >= items.size()) {
+          // all inner instances are created
+          elementInstanceState.removeMultiInstanceInputCollection(bodyInstance.getKey());
+        }
+      }
+    }
+
+    super.handleInnerActivity(context);
+  }
+
   @Override
   protected boolean handleMultiInstanceBody(
       final BpmnStepContext<ExecutableMultiInstanceBody> context) {
@@ -41,4 +73,25 @@ public final class MultiInstanceBodyActivatingHandler extends AbstractMultiInsta
     catchEventSubscriber.subscribeToEvents(context);
     return true;
   }
+
+  private List<DirectBuffer> readItems(final DirectBuffer collection) {
+    reader.wrap(collection, 0, collection.capacity());
+
+    final int size = reader.readArrayHeader();
+    final List<DirectBuffer> items = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      final int offset = reader.getOffset();
+      reader.skipValue();
+      items.add(new UnsafeBuffer(collection, offset, reader.getOffset() - offset));
+    }
+    return items;
+  }
+
+  private boolean isLastCreatedInnerInstance(
+      final BpmnStepContext<ExecutableMultiInstanceBody> context) {
+    final var loopCounter = context.getElementInstance().getMultiInstanceLoopCounter();
+    return loopCounter >= MAX_INNER_INSTANCES_PER_STEP
+        && loopCounter % MAX_INNER_INSTANCES_PER_STEP == 0
+        && loopCounter == context.getFlowScopeInstance().getMultiInstanceLoopCounter();
+  }
 }
@@ -54,6 +54,7 @@ public final class MultiInstanceBodyCompletedHandler extends AbstractMultiInstan
 
         final var item = array.get(loopCounter);
         createInnerInstance(context, context.getFlowScopeInstance().getKey(), item);
+        metrics.innerInstancesCreated(true, 1);
       }
     }
 
@@ -15,13 +15,14 @@ import io.zeebe.engine.processor.workflow.deployment.model.element.ExecutableMul
 import io.zeebe.engine.processor.workflow.handlers.CatchEventSubscriber;
 import io.zeebe.engine.state.instance.ElementInstance;
 import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
-import java.util.List;
 import java.util.function.Function;
 
 public final class MultiInstanceBodyTerminatingHandler extends AbstractMultiInstanceBodyHandler {
 
   private final CatchEventSubscriber catchEventSubscriber;
 
+  private int terminatedChildInstances;
+
   public MultiInstanceBodyTerminatingHandler(
       final Function<BpmnStep, BpmnStepHandler> innerHandlerLookup,
       final CatchEventSubscriber catchEventSubscriber,
@@ -40,25 +41,31 @@ public final class MultiInstanceBodyTerminatingHandler extends AbstractMultiInst
       final BpmnStepContext<ExecutableMultiInstanceBody> context) {
     catchEventSubscriber.unsubscribeFromEvents(context);
 
-    final List<ElementInstance> children =
-        context.getElementInstanceState().getChildren(context.getElementInstance().getKey());
-
-    int terminatedChildInstances = 0;
+    final ElementInstance elementInstance = context.getElementInstance();
+    terminatedChildInstances = 0;
 
-    for (final ElementInstance child : children) {
-      if (child.canTerminate()) {
-        context
-            .getOutput()
-            .appendFollowUpEvent(
-                child.getKey(), WorkflowInstanceIntent.ELEMENT_TERMINATING, child.getValue());
+    if (elementInstance.getNumberOfActiveElementInstances() > 0) {
+      context
+          .getElementInstanceState()
+          .forEachChild(
+              elementInstance.getKey(),
+              child -> {
+                if (child.canTerminate()) {
+                  context
+                      .getOutput()
+                      .appendFollowUpEvent(
+                          child.getKey(),
+                          WorkflowInstanceIntent.ELEMENT_TERMINATING,
+                          child.getValue());
 
-        terminatedChildInstances += 1;
-      }
+                  terminatedChildInstances += 1;
+                }
+                return true;
+              });
     }
 
     // child tokens are not consumed when the flow scope is terminating
-    final int zombies =
-        context.getElementInstance().getNumberOfActiveTokens() - terminatedChildInstances;
+    final int zombies = elementInstance.getNumberOfActiveTokens() - terminatedChildInstances;
     for (int z = 0; z < zombies; z++) {
       context.getElementInstanceState().consumeToken(context.getKey());
     }
@@ -23,12 +23,14 @@ import io.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.zeebe.protocol.record.RejectionType;
 import io.zeebe.protocol.record.intent.JobBatchIntent;
 import io.zeebe.protocol.record.intent.JobIntent;
+import io.zeebe.util.buffer.BufferUtil;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.collections.ObjectHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -40,6 +42,12 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
   private final long maxJobBatchLength;
 
   private final ObjectHashSet<DirectBuffer> variableNames = new ObjectHashSet<>();
+  // jobs that have the same closest scope with variables get the same variables
+  private final Long2ObjectHashMap<DirectBuffer> variablesByScope = new Long2ObjectHashMap<>();
+
+  private final ExpandableArrayBuffer jobBuffer = new ExpandableArrayBuffer();
+  private final ExpandableArrayBuffer jobCopyBuffer = new ExpandableArrayBuffer();
+  private final JobRecord jobCopy = new JobRecord();
 
   public JobBatchActivateProcessor(
       final JobState jobState,
@@ -106,6 +114,7 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
 
     // collect jobs for activation
     variableNames.clear();
+    variablesByScope.clear();
     final ValueArray<StringValue> jobBatchVariables = value.variables();
 
     jobBatchVariables.forEach(
@@ -122,26 +131,30 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
           final long deadline = record.getTimestamp() + value.getTimeout();
           jobRecord.setDeadline(deadline).setWorker(value.getWorkerBuffer());
 
-          // fetch and set variables, required here to already have the full size of the job record
-          final long elementInstanceKey = jobRecord.getElementInstanceKey();
-          if (elementInstanceKey >= 0) {
-            final DirectBuffer variables = collectVariables(variableNames, elementInstanceKey);
-            jobRecord.setVariables(variables);
-          } else {
-            jobRecord.setVariables(DocumentValue.EMPTY_DOCUMENT);
+          // the variables are not stored with the job - if the job doesn't fit into the batch
+          // without variables then we can stop without collecting them
+          if ((record.getLength() + jobRecord.getLength()) > maxJobBatchLength) {
+            value.setTruncated(true);
+            return false;
           }
 
+          // fetch and set variables, required here to already have the full size of the job record
+          final DirectBuffer variables = collectVariables(jobRecord.getElementInstanceKey());
+          jobRecord.setVariables(variables);
+
           if (remainingAmount >= 0
               && (record.getLength() + jobRecord.getLength()) <= maxJobBatchLength) {
 
             remainingAmount = amount.decrementAndGet();
             jobKeyIterator.add().setValue(key);
-            final JobRecord arrayValueJob = jobIterator.add();
 
-            // clone job record since buffer is reused during iteration
-            final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer(jobRecord.getLength());
-            jobRecord.write(buffer, 0);
-            arrayValueJob.wrap(buffer);
+            // copy the job record since the buffer is reused during iteration - the copy buffer
+            // can be reused for every job because adding the next job writes the previous one to
+            // the array
+            final JobRecord arrayValueJob = jobIterator.add();
+            final int jobLength = jobRecord.getLength();
+            jobRecord.write(jobBuffer, 0);
+            arrayValueJob.wrap(jobBuffer, 0, jobLength);
           } else {
             value.setTruncated(true);
             return false;
@@ -160,25 +173,45 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
       final long key = next1.getValue();
 
       // update state and write follow up event for job record
-      // we have to copy the job record because #write will reset the iterator state
-      final ExpandableArrayBuffer copy = new ExpandableArrayBuffer();
-      jobRecord.write(copy, 0);
-      final JobRecord copiedJob = new JobRecord();
-      copiedJob.wrap(copy, 0, jobRecord.getLength());
+      // we have to copy the job record because #write will reset the iterator state - the copy
+      // can be reused since the follow up event is written to the batch immediately
+      final int jobLength = jobRecord.getLength();
+      jobRecord.write(jobCopyBuffer, 0);
+      jobCopy.wrap(jobCopyBuffer, 0, jobLength);
 
       // first write follow up event as state.activate will clear the variables
-      streamWriter.appendFollowUpEvent(key, JobIntent.ACTIVATED, copiedJob);
-      jobState.activate(key, copiedJob);
+      streamWriter.appendFollowUpEvent(key, JobIntent.ACTIVATED, jobCopy);
+      jobState.activate(key, jobCopy);
     }
   }
 
+  private DirectBuffer collectVariables(final long elementInstanceKey) {
+    if (elementInstanceKey < 0) {
+      return DocumentValue.EMPTY_DOCUMENT;
+    }
+
+    // the variables of the job are the same as the variables of the closest scope that has
+    // variables - collect them only once per scope for all jobs of the batch
+    final long scopeKey = variablesState.getClosestScopeWithVariables(elementInstanceKey);
+    if (scopeKey < 0) {
+      return DocumentValue.EMPTY_DOCUMENT;
+    }
+
+    DirectBuffer variables = variablesByScope.get(scopeKey);
+    if (variables == null) {
+      variables = BufferUtil.cloneBuffer(collectVariables(variableNames, scopeKey));
+      variablesByScope.put(scopeKey, variables);
+    }
+    return variables;
+  }
+
   private DirectBuffer collectVariables(
-      final Collection<DirectBuffer> variableNames, final long elementInstanceKey) {
+      final Collection<DirectBuffer> variableNames, final long scopeKey) {
     final DirectBuffer variables;
     if (variableNames.isEmpty()) {
-      variables = variablesState.getVariablesAsDocument(elementInstanceKey);
+      variables = variablesState.getVariablesAsDocument(scopeKey);
     } else {
-      variables = variablesState.getVariablesAsDocument(elementInstanceKey, variableNames);
+      variables = variablesState.getVariablesAsDocument(scopeKey, variableNames);
     }
     return variables;
   }
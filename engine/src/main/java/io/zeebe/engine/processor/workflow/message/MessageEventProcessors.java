@@ -25,7 +25,8 @@ public final class MessageEventProcessors {
   public static void addMessageProcessors(
       final TypedRecordProcessors typedRecordProcessors,
       final ZeebeState zeebeState,
-      final SubscriptionCommandSender subscriptionCommandSender) {
+      final SubscriptionCommandSender subscriptionCommandSender,
+      final int maxExpiredMessagesPerCheck) {
 
     final MessageState messageState = zeebeState.getMessageState();
     final MessageSubscriptionState subscriptionState = zeebeState.getMessageSubscriptionState();
@@ -35,6 +36,9 @@ public final class MessageEventProcessors {
         zeebeState.getWorkflowState().getEventScopeInstanceState();
     final KeyGenerator keyGenerator = zeebeState.getKeyGenerator();
 
+    final MessageTimeToLiveChecker timeToLiveChecker =
+        new MessageTimeToLiveChecker(messageState, maxExpiredMessagesPerCheck);
+
     typedRecordProcessors
         .onCommand(
             ValueType.MESSAGE,
@@ -45,7 +49,8 @@ public final class MessageEventProcessors {
                 startEventSubscriptionState,
                 eventScopeInstanceState,
                 subscriptionCommandSender,
-                keyGenerator))
+                keyGenerator,
+                timeToLiveChecker))
         .onCommand(
             ValueType.MESSAGE, MessageIntent.DELETE, new DeleteMessageProcessor(messageState))
         .onCommand(
@@ -76,7 +81,7 @@ public final class MessageEventProcessors {
             ValueType.MESSAGE_START_EVENT_SUBSCRIPTION,
             MessageStartEventSubscriptionIntent.CLOSE,
             new CloseMessageStartEventSubscriptionProcessor(startEventSubscriptionState))
-        .withListener(
-            new MessageObserver(messageState, subscriptionState, subscriptionCommandSender));
+        .withListener(new MessageObserver(subscriptionState, subscriptionCommandSender))
+        .withListener(timeToLiveChecker);
   }
 }
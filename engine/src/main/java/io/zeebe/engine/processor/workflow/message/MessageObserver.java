@@ -10,38 +10,28 @@ package io.zeebe.engine.processor.workflow.message;
 import io.zeebe.engine.processor.ReadonlyProcessingContext;
 import io.zeebe.engine.processor.StreamProcessorLifecycleAware;
 import io.zeebe.engine.processor.workflow.message.command.SubscriptionCommandSender;
-import io.zeebe.engine.state.message.MessageState;
 import io.zeebe.engine.state.message.MessageSubscriptionState;
 import io.zeebe.util.sched.ActorControl;
 import java.time.Duration;
 
 public final class MessageObserver implements StreamProcessorLifecycleAware {
 
-  public static final Duration MESSAGE_TIME_TO_LIVE_CHECK_INTERVAL = Duration.ofSeconds(60);
-
   public static final Duration SUBSCRIPTION_TIMEOUT = Duration.ofSeconds(10);
   public static final Duration SUBSCRIPTION_CHECK_INTERVAL = Duration.ofSeconds(30);
 
   private final SubscriptionCommandSender subscriptionCommandSender;
-  private final MessageState messageState;
   private final MessageSubscriptionState subscriptionState;
 
   public MessageObserver(
-      final MessageState messageState,
       final MessageSubscriptionState subscriptionState,
       final SubscriptionCommandSender subscriptionCommandSender) {
     this.subscriptionCommandSender = subscriptionCommandSender;
-    this.messageState = messageState;
     this.subscriptionState = subscriptionState;
   }
 
   @Override
   public void onRecovered(ReadonlyProcessingContext context) {
     final ActorControl actor = context.getActor();
-    // it is safe to reuse the write because we running in the same actor/thread
-    final MessageTimeToLiveChecker timeToLiveChecker =
-        new MessageTimeToLiveChecker(context.getLogStreamWriter(), messageState);
-    context.getActor().runAtFixedRate(MESSAGE_TIME_TO_LIVE_CHECK_INTERVAL, timeToLiveChecker);
 
     final PendingMessageSubscriptionChecker pendingSubscriptionChecker =
         new PendingMessageSubscriptionChecker(
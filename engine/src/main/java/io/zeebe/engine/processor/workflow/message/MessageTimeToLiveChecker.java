@@ -7,30 +7,113 @@
  */
 package io.zeebe.engine.processor.workflow.message;
 
+import io.zeebe.engine.processor.ReadonlyProcessingContext;
+import io.zeebe.engine.processor.StreamProcessorLifecycleAware;
 import io.zeebe.engine.processor.TypedCommandWriter;
 import io.zeebe.engine.state.message.Message;
 import io.zeebe.engine.state.message.MessageState;
 import io.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.zeebe.protocol.record.intent.MessageIntent;
+import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.ScheduledTimer;
 import io.zeebe.util.sched.clock.ActorClock;
+import java.time.Duration;
 
-public final class MessageTimeToLiveChecker implements Runnable {
+public final class MessageTimeToLiveChecker implements StreamProcessorLifecycleAware {
 
-  private final TypedCommandWriter writer;
-  private final MessageState messageState;
+  private static final long TIMER_RESOLUTION = Duration.ofMillis(100).toMillis();
 
   private final MessageRecord deleteMessageCommand = new MessageRecord();
 
+  private final MessageState messageState;
+  private final int maxExpiredMessagesPerCheck;
+
+  private ActorControl actor;
+  private TypedCommandWriter writer;
+
+  private ScheduledTimer scheduledTimer;
+  private long nextDeadline = -1L;
+
+  // the last message for which a delete command was written
+  // - the message is removed from the state when the command is processed
+  // - the next check continues after this message, so the messages are not visited again
+  private long lastExpiredDeadline = -1L;
+  private long lastExpiredMessageKey = -1L;
+  private int expiredMessages;
+
+  /**
+   * @param messageState the state of the messages
+   * @param maxExpiredMessagesPerCheck the max number of messages which are expired in one actor
+   *     job; if more messages are expired then the check continues in the next job
+   */
   public MessageTimeToLiveChecker(
-      final TypedCommandWriter writer, final MessageState messageState) {
-    this.writer = writer;
+      final MessageState messageState, final int maxExpiredMessagesPerCheck) {
     this.messageState = messageState;
+    this.maxExpiredMessagesPerCheck = maxExpiredMessagesPerCheck;
   }
 
   @Override
-  public void run() {
-    messageState.visitMessagesWithDeadlineBefore(
-        ActorClock.currentTimeMillis(), this::writeDeleteMessageCommand);
+  public void onRecovered(final ReadonlyProcessingContext context) {
+    actor = context.getActor();
+    // it is safe to reuse the writer because we are running in the same actor/thread
+    writer = context.getLogStreamWriter();
+    // check if messages are expired after restart
+    checkMessages();
+  }
+
+  public void scheduleMessageExpiry(final long deadline) {
+
+    // Like the timers, we schedule only one runnable for all messages. The runnable is only
+    // re-scheduled if the new message expires before the runnable is executed.
+
+    if (nextDeadline < 0) {
+      scheduleCheck(deadline);
+
+    } else if (nextDeadline - deadline > TIMER_RESOLUTION) {
+      if (scheduledTimer != null) {
+        scheduledTimer.cancel();
+      }
+      scheduleCheck(deadline);
+    }
+  }
+
+  private void scheduleCheck(final long deadline) {
+    final long delay = Math.max(0L, deadline - ActorClock.currentTimeMillis());
+
+    nextDeadline = deadline;
+    scheduledTimer = actor.runDelayed(Duration.ofMillis(delay), this::checkMessages);
+  }
+
+  private void checkMessages() {
+    scheduledTimer = null;
+    nextDeadline = -1L;
+    expiredMessages = 0;
+
+    final long currentTime = ActorClock.currentTimeMillis();
+    final long nextMessageDeadline =
+        messageState.visitMessagesWithDeadlineBefore(
+            currentTime, lastExpiredDeadline, lastExpiredMessageKey, this::expireMessage);
+
+    if (expiredMessages >= maxExpiredMessagesPerCheck) {
+      // continue in the next job to give other jobs of the actor a chance to run in between
+      nextDeadline = currentTime;
+      actor.submit(this::checkMessages);
+
+    } else if (nextMessageDeadline > 0) {
+      // if a delete command could not be written then retry after a short delay
+      scheduleCheck(Math.max(nextMessageDeadline, currentTime + TIMER_RESOLUTION));
+    }
+  }
+
+  private boolean expireMessage(final Message message) {
+    if (expiredMessages >= maxExpiredMessagesPerCheck || !writeDeleteMessageCommand(message)) {
+      return false;
+    }
+
+    lastExpiredDeadline = message.getDeadline();
+    lastExpiredMessageKey = message.getKey();
+    expiredMessages += 1;
+    return true;
   }
 
   private boolean writeDeleteMessageCommand(final Message message) {
@@ -39,12 +39,14 @@ public final class PublishMessageProcessor implements TypedRecordProcessor<Messa
   private final SubscriptionCommandSender commandSender;
   private final KeyGenerator keyGenerator;
   private final EventHandle eventHandle;
+  private final MessageTimeToLiveChecker timeToLiveChecker;
 
   private final Subscriptions correlatingSubscriptions = new Subscriptions();
 
   private TypedResponseWriter responseWriter;
   private MessageRecord messageRecord;
   private long messageKey;
+  private long messageDeadline;
 
   public PublishMessageProcessor(
       final MessageState messageState,
@@ -52,12 +54,14 @@ public final class PublishMessageProcessor implements TypedRecordProcessor<Messa
       final MessageStartEventSubscriptionState startEventSubscriptionState,
       final EventScopeInstanceState scopeEventInstanceState,
       final SubscriptionCommandSender commandSender,
-      final KeyGenerator keyGenerator) {
+      final KeyGenerator keyGenerator,
+      final MessageTimeToLiveChecker timeToLiveChecker) {
     this.messageState = messageState;
     this.subscriptionState = subscriptionState;
     this.startEventSubscriptionState = startEventSubscriptionState;
     this.commandSender = commandSender;
     this.keyGenerator = keyGenerator;
+    this.timeToLiveChecker = timeToLiveChecker;
 
     eventHandle = new EventHandle(keyGenerator, scopeEventInstanceState);
   }
@@ -104,17 +108,20 @@ public final class PublishMessageProcessor implements TypedRecordProcessor<Messa
     correlateToSubscriptions(messageKey, messageRecord);
     correlateToMessageStartEvents(messageRecord, streamWriter);
 
-    sideEffect.accept(this::sendCorrelateCommand);
-
     if (messageRecord.getTimeToLive() > 0L) {
       final Message message = newMessage(messageKey, messageRecord);
       messageState.put(message);
 
+      messageDeadline = message.getDeadline();
+      sideEffect.accept(this::sendCorrelateCommandAndScheduleExpiry);
+
       // avoid correlating this message to the workflow again
       correlatingSubscriptions.visitBpmnProcessIds(
           bpmnProcessId -> messageState.putMessageCorrelation(messageKey, bpmnProcessId));
 
     } else {
+      sideEffect.accept(this::sendCorrelateCommand);
+
       // don't need to add the message to the store - it can not be correlated afterwards
       streamWriter.appendFollowUpEvent(messageKey, MessageIntent.DELETED, messageRecord);
     }
@@ -182,6 +189,11 @@ public final class PublishMessageProcessor implements TypedRecordProcessor<Messa
         });
   }
 
+  private boolean sendCorrelateCommandAndScheduleExpiry() {
+    timeToLiveChecker.scheduleMessageExpiry(messageDeadline);
+    return sendCorrelateCommand();
+  }
+
   private boolean sendCorrelateCommand() {
 
     final var success =
@@ -0,0 +1,102 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processor.workflow.message.command;
+
+import io.zeebe.util.buffer.BufferWriter;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+
+/**
+ * A batch of subscription commands which are sent to the same partition as one message. The
+ * commands are framed by their length:
+ *
+ * <pre>
+ * +----------------+-----------------+----------------+-----------------+-----
+ * | length (int32) | command (bytes) | length (int32) | command (bytes) | ...
+ * +----------------+-----------------+----------------+-----------------+-----
+ * </pre>
+ */
+public final class SubscriptionCommandBatch {
+
+  private static final int LENGTH_FIELD_LENGTH = BitUtil.SIZE_OF_INT;
+
+  private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+  private int length;
+  private int commandCount;
+
+  public void add(final BufferWriter command) {
+    final int commandLength = command.getLength();
+    final int commandOffset = length + LENGTH_FIELD_LENGTH;
+
+    buffer.checkLimit(commandOffset + commandLength);
+    buffer.putInt(length, commandLength);
+    command.write(buffer, commandOffset);
+
+    length = commandOffset + commandLength;
+    commandCount += 1;
+  }
+
+  public boolean isEmpty() {
+    return commandCount == 0;
+  }
+
+  public int getCommandCount() {
+    return commandCount;
+  }
+
+  public int getLength() {
+    return length;
+  }
+
+  public byte[] toByteArray() {
+    final byte[] bytes = new byte[length];
+    buffer.getBytes(0, bytes, 0, length);
+    return bytes;
+  }
+
+  public void reset() {
+    length = 0;
+    commandCount = 0;
+  }
+
+  /**
+   * Visits the commands of a batch which was written by {@link #add(BufferWriter)}.
+   *
+   * @param buffer the buffer which contains the batch
+   * @param offset the offset of the batch in the buffer
+   * @param length the length of the batch
+   * @param consumer the consumer of the commands
+   * @return the number of visited commands
+   */
+  public static int forEachCommand(
+      final DirectBuffer buffer,
+      final int offset,
+      final int length,
+      final CommandConsumer consumer) {
+    final int limit = offset + length;
+
+    int commandCount = 0;
+    int commandOffset = offset;
+    while (commandOffset + LENGTH_FIELD_LENGTH <= limit) {
+      final int commandLength = buffer.getInt(commandOffset);
+      commandOffset += LENGTH_FIELD_LENGTH;
+
+      consumer.accept(buffer, commandOffset, commandLength);
+
+      commandOffset += commandLength;
+      commandCount += 1;
+    }
+    return commandCount;
+  }
+
+  @FunctionalInterface
+  public interface CommandConsumer {
+    void accept(DirectBuffer buffer, int offset, int length);
+  }
+}
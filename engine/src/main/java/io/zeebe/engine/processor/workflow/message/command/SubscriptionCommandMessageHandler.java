@@ -7,6 +7,9 @@
  */
 package io.zeebe.engine.processor.workflow.message.command;
 
+import io.zeebe.engine.Loggers;
+import io.zeebe.engine.metrics.SubscriptionCommandMetrics;
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.zeebe.msgpack.UnpackedObject;
 import io.zeebe.protocol.Protocol;
@@ -23,11 +26,15 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.IntFunction;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.IntArrayList;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.slf4j.Logger;
 
 public final class SubscriptionCommandMessageHandler
     implements Function<byte[], CompletableFuture<Void>> {
 
+  private static final Logger LOG = Loggers.WORKFLOW_PROCESSOR_LOGGER;
+
   private final MessageHeaderDecoder messageHeaderDecoder = new MessageHeaderDecoder();
 
   private final OpenMessageSubscriptionCommand openMessageSubscriptionCommand =
@@ -60,14 +67,35 @@ public final class SubscriptionCommandMessageHandler
   private final WorkflowInstanceSubscriptionRecord workflowInstanceSubscriptionRecord =
       new WorkflowInstanceSubscriptionRecord();
 
+  private final SubscriptionCommandMetrics metrics = new SubscriptionCommandMetrics();
+
   private final Consumer<Runnable> enviromentToRun;
   private final IntFunction<LogStreamRecordWriter> logstreamRecordWriterSupplier;
+  private final IntFunction<LogStreamBatchWriter> logstreamBatchWriterSupplier;
+
+  private boolean isBatching;
+  private int batchPartitionId;
+  private int batchCommandCount;
+  private LogStreamBatchWriter batchWriter;
+  private int commandOffset;
+  private int batchFirstCommandOffset;
+  private int batchLastCommandOffset;
+  // pairs of the offsets of the first and the last command of the batches which are not written
+  private final IntArrayList failedBatches = new IntArrayList();
 
   public SubscriptionCommandMessageHandler(
       final Consumer<Runnable> enviromentToRun,
       final IntFunction<LogStreamRecordWriter> logstreamRecordWriterSupplier) {
+    this(enviromentToRun, logstreamRecordWriterSupplier, partitionId -> null);
+  }
+
+  public SubscriptionCommandMessageHandler(
+      final Consumer<Runnable> enviromentToRun,
+      final IntFunction<LogStreamRecordWriter> logstreamRecordWriterSupplier,
+      final IntFunction<LogStreamBatchWriter> logstreamBatchWriterSupplier) {
     this.enviromentToRun = enviromentToRun;
     this.logstreamRecordWriterSupplier = logstreamRecordWriterSupplier;
+    this.logstreamBatchWriterSupplier = logstreamBatchWriterSupplier;
   }
 
   @Override
@@ -76,43 +104,99 @@ public final class SubscriptionCommandMessageHandler
     enviromentToRun.accept(
         () -> {
           final DirectBuffer buffer = new UnsafeBuffer(bytes);
-          final int offset = 0;
-          final int length = buffer.capacity();
-          messageHeaderDecoder.wrap(buffer, offset);
-
-          if (messageHeaderDecoder.schemaId() == OpenMessageSubscriptionDecoder.SCHEMA_ID) {
-
-            switch (messageHeaderDecoder.templateId()) {
-              case OpenMessageSubscriptionDecoder.TEMPLATE_ID:
-                onOpenMessageSubscription(buffer, offset, length);
-                break;
-              case OpenWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
-                onOpenWorkflowInstanceSubscription(buffer, offset, length);
-                break;
-              case CorrelateWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
-                onCorrelateWorkflowInstanceSubscription(buffer, offset, length);
-                break;
-              case CorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
-                onCorrelateMessageSubscription(buffer, offset, length);
-                break;
-              case CloseMessageSubscriptionDecoder.TEMPLATE_ID:
-                onCloseMessageSubscription(buffer, offset, length);
-                break;
-              case CloseWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
-                onCloseWorkflowInstanceSubscription(buffer, offset, length);
-                break;
-              case RejectCorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
-                onRejectCorrelateMessageSubscription(buffer, offset, length);
-                break;
-              default:
-                break;
-            }
+          handleCommand(buffer, 0, buffer.capacity());
+          future.complete(null);
+        });
+    return future;
+  }
+
+  /**
+   * Handles a message which contains a {@link SubscriptionCommandBatch}. The commands of the batch
+   * are written to the log stream of their partition as one batch. If the batch can't be written,
+   * for example because it exceeds the max fragment size, then the commands are written separately.
+   */
+  public CompletableFuture<Void> applyBatch(final byte[] bytes) {
+    final CompletableFuture<Void> future = new CompletableFuture<>();
+    enviromentToRun.accept(
+        () -> {
+          final DirectBuffer buffer = new UnsafeBuffer(bytes);
+
+          isBatching = true;
+          try {
+            SubscriptionCommandBatch.forEachCommand(
+                buffer, 0, buffer.capacity(), this::handleBatchedCommand);
+            flushBatch();
+          } finally {
+            isBatching = false;
+            batchWriter = null;
+            batchCommandCount = 0;
           }
+
+          if (!failedBatches.isEmpty()) {
+            writeFailedBatchesSeparately(buffer);
+          }
+
           future.complete(null);
         });
     return future;
   }
 
+  private void handleBatchedCommand(final DirectBuffer buffer, final int offset, final int length) {
+    commandOffset = offset;
+    handleCommand(buffer, offset, length);
+  }
+
+  private void writeFailedBatchesSeparately(final DirectBuffer buffer) {
+    for (int i = 0; i < failedBatches.size(); i += 2) {
+      final int firstCommandOffset = failedBatches.getInt(i);
+      final int lastCommandOffset = failedBatches.getInt(i + 1);
+
+      SubscriptionCommandBatch.forEachCommand(
+          buffer,
+          0,
+          buffer.capacity(),
+          (commandBuffer, offset, length) -> {
+            if (offset >= firstCommandOffset && offset <= lastCommandOffset) {
+              handleCommand(commandBuffer, offset, length);
+            }
+          });
+    }
+    failedBatches.clear();
+  }
+
+  private void handleCommand(final DirectBuffer buffer, final int offset, final int length) {
+    messageHeaderDecoder.wrap(buffer, offset);
+
+    if (messageHeaderDecoder.schemaId() == OpenMessageSubscriptionDecoder.SCHEMA_ID) {
+
+      switch (messageHeaderDecoder.templateId()) {
+        case OpenMessageSubscriptionDecoder.TEMPLATE_ID:
+          onOpenMessageSubscription(buffer, offset, length);
+          break;
+        case OpenWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
+          onOpenWorkflowInstanceSubscription(buffer, offset, length);
+          break;
+        case CorrelateWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
+          onCorrelateWorkflowInstanceSubscription(buffer, offset, length);
+          break;
+        case CorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
+          onCorrelateMessageSubscription(buffer, offset, length);
+          break;
+        case CloseMessageSubscriptionDecoder.TEMPLATE_ID:
+          onCloseMessageSubscription(buffer, offset, length);
+          break;
+        case CloseWorkflowInstanceSubscriptionDecoder.TEMPLATE_ID:
+          onCloseWorkflowInstanceSubscription(buffer, offset, length);
+          break;
+        case RejectCorrelateMessageSubscriptionDecoder.TEMPLATE_ID:
+          onRejectCorrelateMessageSubscription(buffer, offset, length);
+          break;
+        default:
+          break;
+      }
+    }
+  }
+
   private boolean onOpenMessageSubscription(
       final DirectBuffer buffer, final int offset, final int length) {
     openMessageSubscriptionCommand.wrap(buffer, offset, length);
@@ -274,6 +358,27 @@ public final class SubscriptionCommandMessageHandler
       final Intent intent,
       final UnpackedObject command) {
 
+    if (isBatching) {
+      final LogStreamBatchWriter logStreamBatchWriter = getBatchWriter(partitionId);
+      if (logStreamBatchWriter != null) {
+        recordMetadata.reset().recordType(RecordType.COMMAND).valueType(valueType).intent(intent);
+
+        logStreamBatchWriter
+            .event()
+            .key(-1)
+            .metadataWriter(recordMetadata)
+            .valueWriter(command)
+            .done();
+
+        if (batchCommandCount == 0) {
+          batchFirstCommandOffset = commandOffset;
+        }
+        batchLastCommandOffset = commandOffset;
+        batchCommandCount += 1;
+        return true;
+      }
+    }
+
     final LogStreamRecordWriter logStreamRecordWriter =
         logstreamRecordWriterSupplier.apply(partitionId);
     if (logStreamRecordWriter == null) {
@@ -293,4 +398,40 @@ public final class SubscriptionCommandMessageHandler
 
     return position > 0;
   }
+
+  private LogStreamBatchWriter getBatchWriter(final int partitionId) {
+    if (batchWriter == null || batchPartitionId != partitionId) {
+      // the commands of a batch are sent to the same partition
+      flushBatch();
+
+      batchWriter = logstreamBatchWriterSupplier.apply(partitionId);
+      batchPartitionId = partitionId;
+
+      if (batchWriter != null) {
+        batchWriter.reset();
+      }
+    }
+    return batchWriter;
+  }
+
+  private void flushBatch() {
+    if (batchWriter != null && batchCommandCount > 0) {
+      final long position = batchWriter.tryWrite();
+      if (position > 0) {
+        metrics.batchReceived(batchPartitionId, batchCommandCount);
+
+      } else {
+        // the commands are written separately after the batch is handled, commands which can't be
+        // written at all are sent again by the pending subscription checkers
+        LOG.warn(
+            "Failed to write a batch of {} subscription commands to partition {}, write them separately",
+            batchCommandCount,
+            batchPartitionId);
+        failedBatches.addInt(batchFirstCommandOffset);
+        failedBatches.addInt(batchLastCommandOffset);
+        batchWriter.reset();
+      }
+    }
+    batchCommandCount = 0;
+  }
 }
@@ -12,12 +12,21 @@ import io.zeebe.db.DbContext;
 import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.impl.DbLong;
 import io.zeebe.db.impl.DbNil;
+import org.agrona.collections.LongHashSet;
 
+/**
+ * Stores the keys of the blacklisted workflow instances. Since the blacklist is checked for every
+ * processed record but is usually empty or tiny, the keys are mirrored in memory. The in-memory set
+ * is loaded from the column family on the first access, after the state is recovered.
+ */
 public final class BlackList {
 
   private final ColumnFamily<DbLong, DbNil> blackListColumnFamily;
   private final DbLong workflowInstanceKey;
 
+  private final LongHashSet blacklistedInstances = new LongHashSet();
+  private boolean isLoaded;
+
   public BlackList(final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext) {
     workflowInstanceKey = new DbLong();
     blackListColumnFamily =
@@ -28,10 +37,32 @@ public final class BlackList {
   public void blacklist(final long key) {
     workflowInstanceKey.wrapLong(key);
     blackListColumnFamily.put(workflowInstanceKey, DbNil.INSTANCE);
+
+    ensureLoaded();
+    blacklistedInstances.add(key);
   }
 
   public boolean isOnBlacklist(final long key) {
-    workflowInstanceKey.wrapLong(key);
-    return blackListColumnFamily.exists(workflowInstanceKey);
+    ensureLoaded();
+    return blacklistedInstances.contains(key);
+  }
+
+  /**
+   * Must be called after the current transaction is rolled back. The in-memory set may contain keys
+   * which were blacklisted in this transaction, so it is reloaded on the next access.
+   */
+  public void onRollback() {
+    blacklistedInstances.clear();
+    isLoaded = false;
+  }
+
+  private void ensureLoaded() {
+    if (!isLoaded) {
+      blackListColumnFamily.forEach(
+          (key, nil) -> {
+            blacklistedInstances.add(key.getValue());
+          });
+      isLoaded = true;
+    }
   }
 }
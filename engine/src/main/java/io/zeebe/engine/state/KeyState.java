@@ -12,15 +12,25 @@ import io.zeebe.db.ZeebeDb;
 import io.zeebe.engine.processor.KeyGenerator;
 import io.zeebe.protocol.Protocol;
 
+/**
+ * Generates the keys of a partition. The latest key is kept in memory and is only written to the
+ * state once at the end of the processing of a record (see {@link #persistLatestKey()}), instead of
+ * on every generated key. The keys must be generated in the same order on reprocessing, so the
+ * latest key is always persisted exactly and not as an upper bound of a reserved range.
+ */
 public final class KeyState implements KeyGenerator {
 
   private static final long INITIAL_VALUE = 0;
+  private static final long UNKNOWN_KEY = -1L;
 
   private static final String LATEST_KEY = "latestKey";
 
   private final long keyStartValue;
   private final NextValueManager nextValueManager;
 
+  private long latestKey = UNKNOWN_KEY;
+  private boolean hasUnpersistedKeys;
+
   /**
    * Initializes the key state with the corresponding partition id, so that unique keys are
    * generated over all partitions.
@@ -36,6 +46,29 @@ public final class KeyState implements KeyGenerator {
 
   @Override
   public long nextKey() {
-    return nextValueManager.getNextValue(LATEST_KEY);
+    if (latestKey == UNKNOWN_KEY) {
+      latestKey = nextValueManager.getCurrentValue(LATEST_KEY);
+    }
+
+    latestKey += 1;
+    hasUnpersistedKeys = true;
+    return latestKey;
+  }
+
+  /** Writes the latest generated key to the state, if a key was generated since the last call. */
+  public void persistLatestKey() {
+    if (hasUnpersistedKeys) {
+      nextValueManager.setValue(LATEST_KEY, latestKey);
+      hasUnpersistedKeys = false;
+    }
+  }
+
+  /**
+   * Must be called after the current transaction is rolled back to discard the keys which were
+   * generated in the transaction.
+   */
+  public void onRollback() {
+    latestKey = UNKNOWN_KEY;
+    hasUnpersistedKeys = false;
   }
 }
@@ -42,19 +42,27 @@ public final class NextValueManager {
   }
 
   public long getNextValue(final String key) {
+    final long nextKey = getCurrentValue(key) + 1;
+    setValue(key, nextKey);
+
+    return nextKey;
+  }
+
+  public long getCurrentValue(final String key) {
     nextValueKey.wrapString(key);
 
     final NextValue readValue = nextValueColumnFamily.get(nextValueKey);
 
-    long previousKey = initialValue;
+    long currentValue = initialValue;
     if (readValue != null) {
-      previousKey = readValue.get();
+      currentValue = readValue.get();
     }
+    return currentValue;
+  }
 
-    final long nextKey = previousKey + 1;
-    nextValue.set(nextKey);
+  public void setValue(final String key, final long value) {
+    nextValueKey.wrapString(key);
+    nextValue.set(value);
     nextValueColumnFamily.put(nextValueKey, nextValue);
-
-    return nextKey;
   }
 }
@@ -81,5 +81,7 @@ public enum ZbColumnFamilies {
 
   EXPORTER,
 
-  AWAIT_WORKLOW_RESULT
+  AWAIT_WORKLOW_RESULT,
+
+  MULTI_INSTANCE_INPUT_COLLECTION
 }
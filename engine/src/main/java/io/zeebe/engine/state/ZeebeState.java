@@ -57,7 +57,7 @@ public class ZeebeState {
       final int partitionId, final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext) {
     this.partitionId = partitionId;
     keyState = new KeyState(partitionId, zeebeDb, dbContext);
-    workflowState = new WorkflowState(zeebeDb, dbContext, keyState);
+    workflowState = new WorkflowState(zeebeDb, dbContext, keyState, partitionId);
     deploymentState = new DeploymentsState(zeebeDb, dbContext);
     jobState = new JobState(zeebeDb, dbContext, partitionId);
     messageState = new MessageState(zeebeDb, dbContext);
@@ -149,7 +149,24 @@ public class ZeebeState {
     }
   }
 
+  /**
+   * Must be called after the current transaction is rolled back to discard the in-memory views of
+   * the state which may contain changes of the transaction.
+   */
+  public void onRollback() {
+    messageSubscriptionState.onRollback();
+    messageStartEventSubscriptionState.onRollback();
+    keyState.onRollback();
+    workflowState.onRollback();
+    blackList.onRollback();
+  }
+
+  /**
+   * Must be called at the end of the transaction which processes the record. Besides the position,
+   * it writes the latest generated key, so that the key is only written once per record.
+   */
   public void markAsProcessed(final long position) {
+    keyState.persistLatestKey();
     lastProcessedPositionState.setPosition(position);
   }
 
@@ -8,16 +8,21 @@
 package io.zeebe.engine.state.deployment;
 
 import io.zeebe.engine.processor.workflow.deployment.model.element.ExecutableWorkflow;
+import java.util.function.Function;
 import org.agrona.DirectBuffer;
 
 public final class DeployedWorkflow {
-  private final ExecutableWorkflow workflow;
   private final PersistedWorkflow persistedWorkflow;
+  private final Function<PersistedWorkflow, ExecutableWorkflow> transformer;
+
+  // transformed on first access
+  private ExecutableWorkflow workflow;
 
   public DeployedWorkflow(
-      final ExecutableWorkflow workflow, final PersistedWorkflow persistedWorkflow) {
-    this.workflow = workflow;
+      final PersistedWorkflow persistedWorkflow,
+      final Function<PersistedWorkflow, ExecutableWorkflow> transformer) {
     this.persistedWorkflow = persistedWorkflow;
+    this.transformer = transformer;
   }
 
   public DirectBuffer getResourceName() {
@@ -25,6 +30,9 @@ public final class DeployedWorkflow {
   }
 
   public ExecutableWorkflow getWorkflow() {
+    if (workflow == null) {
+      workflow = transformer.apply(persistedWorkflow);
+    }
     return workflow;
   }
 
@@ -13,6 +13,7 @@ import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.impl.DbCompositeKey;
 import io.zeebe.db.impl.DbLong;
 import io.zeebe.db.impl.DbString;
+import io.zeebe.engine.metrics.WorkflowCacheMetrics;
 import io.zeebe.engine.processor.workflow.deployment.model.BpmnFactory;
 import io.zeebe.engine.processor.workflow.deployment.model.element.ExecutableWorkflow;
 import io.zeebe.engine.processor.workflow.deployment.model.transformation.BpmnTransformer;
@@ -23,26 +24,45 @@ import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.zeebe.protocol.impl.record.value.deployment.DeploymentResource;
 import io.zeebe.protocol.impl.record.value.deployment.Workflow;
 import io.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.collections.LongHashSet;
+import org.agrona.collections.Object2IntHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.io.DirectBufferInputStream;
 
+/**
+ * Keeps the deployed workflows in memory. The workflows are loaded from the state on the first
+ * access and are transformed when the executable workflow is requested. The number of workflows in
+ * memory is bounded - if the limit is exceeded then the least recently used workflows are evicted,
+ * except the latest version of a workflow. An evicted workflow is loaded again on the next access.
+ */
 public final class WorkflowPersistenceCache {
 
+  public static final int DEFAULT_CAPACITY = 1_000;
+
+  private static final int NO_VERSION = -1;
+
   private final BpmnTransformer transformer = BpmnFactory.createTransformer();
 
   private final Map<DirectBuffer, Long2ObjectHashMap<DeployedWorkflow>>
       workflowsByProcessIdAndVersion = new HashMap<>();
   private final LongHashSet deployments;
-  private final Long2ObjectHashMap<DeployedWorkflow> workflowsByKey;
+  // in access order - the first workflow is the least recently used one
+  private final LinkedHashMap<Long, DeployedWorkflow> workflowsByKey;
+  // mirrors the latest versions of the state, so that the eviction doesn't need to read them
+  private final Object2IntHashMap<DirectBuffer> latestVersionsByProcessId =
+      new Object2IntHashMap<>(NO_VERSION);
+  private final int capacity;
+  private final WorkflowCacheMetrics metrics;
 
   // workflow
   private final ColumnFamily<DbLong, PersistedWorkflow> workflowColumnFamily;
@@ -61,7 +81,15 @@ public final class WorkflowPersistenceCache {
   private final Digest digest = new Digest();
 
   public WorkflowPersistenceCache(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext, final int partitionId) {
+    this(zeebeDb, dbContext, partitionId, DEFAULT_CAPACITY);
+  }
+
+  WorkflowPersistenceCache(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final DbContext dbContext,
+      final int partitionId,
+      final int capacity) {
     workflowKey = new DbLong();
     persistedWorkflow = new PersistedWorkflow();
     workflowColumnFamily =
@@ -87,7 +115,9 @@ public final class WorkflowPersistenceCache {
             ZbColumnFamilies.WORKFLOW_CACHE_DIGEST_BY_ID, dbContext, workflowId, digest);
 
     deployments = new LongHashSet();
-    workflowsByKey = new Long2ObjectHashMap<>();
+    workflowsByKey = new LinkedHashMap<>(16, 0.75f, true);
+    this.capacity = capacity;
+    metrics = new WorkflowCacheMetrics(partitionId);
   }
 
   boolean putDeployment(final long deploymentKey, final DeploymentRecord deploymentRecord) {
@@ -121,18 +151,44 @@ public final class WorkflowPersistenceCache {
   }
 
   private void updateLatestVersion(final Workflow workflow) {
-    workflowId.wrapBuffer(workflow.getBpmnProcessIdBuffer());
-    final LatestWorkflowVersion storedVersion = latestWorkflowColumnFamily.get(workflowId);
-    final long latestVersion = storedVersion == null ? -1 : storedVersion.get();
+    final DirectBuffer processId = workflow.getBpmnProcessIdBuffer();
+    final int latestVersion = getLatestVersion(processId);
 
     if (workflow.getVersion() > latestVersion) {
+      workflowId.wrapBuffer(processId);
       this.latestVersion.set(workflow.getVersion());
       latestWorkflowColumnFamily.put(workflowId, this.latestVersion);
+
+      latestVersionsByProcessId.put(BufferUtil.cloneBuffer(processId), workflow.getVersion());
+    }
+  }
+
+  private int getLatestVersion(final DirectBuffer processId) {
+    int version = latestVersionsByProcessId.getValue(processId);
+
+    if (version == NO_VERSION) {
+      workflowId.wrapBuffer(processId);
+      final LatestWorkflowVersion storedVersion = latestWorkflowColumnFamily.get(workflowId);
+
+      if (storedVersion != null) {
+        version = (int) storedVersion.get();
+        latestVersionsByProcessId.put(BufferUtil.cloneBuffer(processId), version);
+      }
     }
+    return version;
+  }
+
+  /**
+   * Discards the in-memory latest versions. It must be called if a transaction is rolled back. The
+   * versions are read again from the state on the next access.
+   */
+  void onRollback() {
+    latestVersionsByProcessId.clear();
   }
 
   // is called on getters, if workflow is not in memory
   private DeployedWorkflow updateInMemoryState(final PersistedWorkflow persistedWorkflow) {
+    metrics.miss();
 
     // we have to copy to store this in cache
     final byte[] bytes = new byte[persistedWorkflow.getLength()];
@@ -142,24 +198,28 @@ public final class WorkflowPersistenceCache {
     final PersistedWorkflow copiedWorkflow = new PersistedWorkflow();
     copiedWorkflow.wrap(buffer, 0, persistedWorkflow.getLength());
 
-    final BpmnModelInstance modelInstance =
-        readModelInstanceFromBuffer(copiedWorkflow.getResource());
-    final List<ExecutableWorkflow> definitions = transformer.transformDefinitions(modelInstance);
-
-    final ExecutableWorkflow executableWorkflow =
-        definitions.stream()
-            .filter((w) -> BufferUtil.equals(persistedWorkflow.getBpmnProcessId(), w.getId()))
-            .findFirst()
-            .get();
-
     final DeployedWorkflow deployedWorkflow =
-        new DeployedWorkflow(executableWorkflow, copiedWorkflow);
+        new DeployedWorkflow(copiedWorkflow, this::transformWorkflow);
 
     addWorkflowToInMemoryState(deployedWorkflow);
+    evictLeastRecentlyUsedWorkflows(deployedWorkflow);
 
     return deployedWorkflow;
   }
 
+  private ExecutableWorkflow transformWorkflow(final PersistedWorkflow persistedWorkflow) {
+    final BpmnModelInstance modelInstance =
+        readModelInstanceFromBuffer(persistedWorkflow.getResource());
+    final List<ExecutableWorkflow> definitions = transformer.transformDefinitions(modelInstance);
+
+    metrics.workflowTransformed();
+
+    return definitions.stream()
+        .filter((w) -> BufferUtil.equals(persistedWorkflow.getBpmnProcessId(), w.getId()))
+        .findFirst()
+        .get();
+  }
+
   private BpmnModelInstance readModelInstanceFromBuffer(final DirectBuffer buffer) {
     try (final DirectBufferInputStream stream = new DirectBufferInputStream(buffer)) {
       return Bpmn.readModelFromStream(stream);
@@ -182,38 +242,59 @@ public final class WorkflowPersistenceCache {
     versionMap.put(version, deployedWorkflow);
   }
 
-  public DeployedWorkflow getLatestWorkflowVersionByProcessId(final DirectBuffer processId) {
+  private void evictLeastRecentlyUsedWorkflows(final DeployedWorkflow addedWorkflow) {
+    final Iterator<DeployedWorkflow> iterator = workflowsByKey.values().iterator();
+
+    while (workflowsByKey.size() > capacity && iterator.hasNext()) {
+      final DeployedWorkflow workflow = iterator.next();
+
+      if (workflow != addedWorkflow && !isLatestVersion(workflow)) {
+        iterator.remove();
+        removeFromVersionMap(workflow);
+        metrics.workflowEvicted();
+      }
+    }
+
+    metrics.setSize(workflowsByKey.size());
+  }
+
+  private boolean isLatestVersion(final DeployedWorkflow deployedWorkflow) {
+    return getLatestVersion(deployedWorkflow.getBpmnProcessId()) == deployedWorkflow.getVersion();
+  }
+
+  private void removeFromVersionMap(final DeployedWorkflow deployedWorkflow) {
+    final DirectBuffer bpmnProcessId = deployedWorkflow.getBpmnProcessId();
     final Long2ObjectHashMap<DeployedWorkflow> versionMap =
-        workflowsByProcessIdAndVersion.get(processId);
+        workflowsByProcessIdAndVersion.get(bpmnProcessId);
 
-    workflowId.wrapBuffer(processId);
-    final LatestWorkflowVersion latestVersion = latestWorkflowColumnFamily.get(workflowId);
+    if (versionMap != null) {
+      versionMap.remove(deployedWorkflow.getVersion());
 
-    DeployedWorkflow deployedWorkflow;
-    if (versionMap == null) {
-      deployedWorkflow = lookupWorkflowByIdAndPersistedVersion(latestVersion);
-    } else {
-      deployedWorkflow = versionMap.get(latestVersion.get());
-      if (deployedWorkflow == null) {
-        deployedWorkflow = lookupWorkflowByIdAndPersistedVersion(latestVersion);
+      if (versionMap.isEmpty()) {
+        workflowsByProcessIdAndVersion.remove(bpmnProcessId);
       }
     }
-    return deployedWorkflow;
   }
 
-  private DeployedWorkflow lookupWorkflowByIdAndPersistedVersion(
-      final LatestWorkflowVersion version) {
-    final long latestVersion = version != null ? version.get() : -1;
-    workflowVersion.wrapLong(latestVersion);
+  public DeployedWorkflow getLatestWorkflowVersionByProcessId(final DirectBuffer processId) {
+    final int latestVersion = getLatestVersion(processId);
+    if (latestVersion == NO_VERSION) {
+      return null;
+    }
 
-    final PersistedWorkflow persistedWorkflow =
-        workflowByIdAndVersionColumnFamily.get(idAndVersionKey);
+    final Long2ObjectHashMap<DeployedWorkflow> versionMap =
+        workflowsByProcessIdAndVersion.get(processId);
 
-    if (persistedWorkflow != null) {
-      final DeployedWorkflow deployedWorkflow = updateInMemoryState(persistedWorkflow);
-      return deployedWorkflow;
+    DeployedWorkflow deployedWorkflow = null;
+    if (versionMap != null) {
+      deployedWorkflow = versionMap.get(latestVersion);
+    }
+
+    if (deployedWorkflow != null) {
+      return cacheHit(deployedWorkflow);
+    } else {
+      return lookupPersistenceState(processId, latestVersion);
     }
-    return null;
   }
 
   public DeployedWorkflow getWorkflowByProcessIdAndVersion(
@@ -224,7 +305,7 @@ public final class WorkflowPersistenceCache {
     if (versionMap != null) {
       final DeployedWorkflow deployedWorkflow = versionMap.get(version);
       return deployedWorkflow != null
-          ? deployedWorkflow
+          ? cacheHit(deployedWorkflow)
           : lookupPersistenceState(processId, version);
     } else {
       return lookupPersistenceState(processId, version);
@@ -239,14 +320,7 @@ public final class WorkflowPersistenceCache {
         workflowByIdAndVersionColumnFamily.get(idAndVersionKey);
 
     if (persistedWorkflow != null) {
-      updateInMemoryState(persistedWorkflow);
-
-      final Long2ObjectHashMap<DeployedWorkflow> newVersionMap =
-          workflowsByProcessIdAndVersion.get(processId);
-
-      if (newVersionMap != null) {
-        return newVersionMap.get(version);
-      }
+      return updateInMemoryState(persistedWorkflow);
     }
     // does not exist in persistence and in memory state
     return null;
@@ -256,7 +330,7 @@ public final class WorkflowPersistenceCache {
     final DeployedWorkflow deployedWorkflow = workflowsByKey.get(key);
 
     if (deployedWorkflow != null) {
-      return deployedWorkflow;
+      return cacheHit(deployedWorkflow);
     } else {
       return lookupPersistenceStateForWorkflowByKey(key);
     }
@@ -267,35 +341,51 @@ public final class WorkflowPersistenceCache {
 
     final PersistedWorkflow persistedWorkflow = workflowColumnFamily.get(this.workflowKey);
     if (persistedWorkflow != null) {
-      updateInMemoryState(persistedWorkflow);
-
-      final DeployedWorkflow deployedWorkflow = workflowsByKey.get(workflowKey);
-      return deployedWorkflow;
+      return updateInMemoryState(persistedWorkflow);
     }
     // does not exist in persistence and in memory state
     return null;
   }
 
+  private DeployedWorkflow cacheHit(final DeployedWorkflow deployedWorkflow) {
+    // refresh the access order, also if the workflow was found by its process id and version
+    workflowsByKey.get(deployedWorkflow.getKey());
+    metrics.hit();
+    return deployedWorkflow;
+  }
+
   public Collection<DeployedWorkflow> getWorkflows() {
-    updateCompleteInMemoryState();
-    return workflowsByKey.values();
+    final List<DeployedWorkflow> workflows = new ArrayList<>();
+
+    workflowColumnFamily.forEach(
+        (key, workflow) -> workflows.add(getOrLoadWorkflow(key.getValue(), workflow)));
+
+    return workflows;
   }
 
   public Collection<DeployedWorkflow> getWorkflowsByBpmnProcessId(
       final DirectBuffer bpmnProcessId) {
-    updateCompleteInMemoryState();
+    final List<DeployedWorkflow> workflows = new ArrayList<>();
 
-    final Long2ObjectHashMap<DeployedWorkflow> workflowsByVersions =
-        workflowsByProcessIdAndVersion.get(bpmnProcessId);
+    workflowId.wrapBuffer(bpmnProcessId);
+    workflowByIdAndVersionColumnFamily.whileEqualPrefix(
+        workflowId,
+        (key, workflow) -> {
+          workflows.add(getOrLoadWorkflow(workflow.getKey(), workflow));
+        });
 
-    if (workflowsByVersions != null) {
-      return workflowsByVersions.values();
-    }
-    return Collections.emptyList();
+    return workflows;
   }
 
-  private void updateCompleteInMemoryState() {
-    workflowColumnFamily.forEach((workflow) -> updateInMemoryState(persistedWorkflow));
+  private DeployedWorkflow getOrLoadWorkflow(
+      final long workflowKey, final PersistedWorkflow persistedWorkflow) {
+    final DeployedWorkflow deployedWorkflow = workflowsByKey.get(workflowKey);
+
+    if (deployedWorkflow != null) {
+      return cacheHit(deployedWorkflow);
+    } else {
+      return updateInMemoryState(persistedWorkflow);
+    }
   }
 
   public void putLatestVersionDigest(final DirectBuffer processId, final DirectBuffer digest) {
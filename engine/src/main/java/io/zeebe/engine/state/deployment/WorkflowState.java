@@ -33,9 +33,10 @@ public final class WorkflowState {
   public WorkflowState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final DbContext dbContext,
-      final KeyGenerator keyGenerator) {
+      final KeyGenerator keyGenerator,
+      final int partitionId) {
     versionManager = new NextValueManager(zeebeDb, dbContext, ZbColumnFamilies.WORKFLOW_VERSION);
-    workflowPersistenceCache = new WorkflowPersistenceCache(zeebeDb, dbContext);
+    workflowPersistenceCache = new WorkflowPersistenceCache(zeebeDb, dbContext, partitionId);
     timerInstanceState = new TimerInstanceState(zeebeDb, dbContext);
     elementInstanceState = new ElementInstanceState(zeebeDb, dbContext, keyGenerator);
     eventScopeInstanceState = new EventScopeInstanceState(zeebeDb, dbContext);
@@ -49,6 +50,11 @@ public final class WorkflowState {
     return workflowPersistenceCache.putDeployment(deploymentKey, deploymentRecord);
   }
 
+  /** Discards the in-memory latest versions, which may contain changes of the transaction. */
+  public void onRollback() {
+    workflowPersistenceCache.onRollback();
+  }
+
   public DeployedWorkflow getWorkflowByProcessIdAndVersion(
       final DirectBuffer bpmnProcessId, final int version) {
     return workflowPersistenceCache.getWorkflowByProcessIdAndVersion(bpmnProcessId, version);
@@ -19,8 +19,10 @@ import io.zeebe.engine.state.ZbColumnFamilies;
 import io.zeebe.engine.state.instance.StoredRecord.Purpose;
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
 import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
+import io.zeebe.util.buffer.BufferUtil;
 import java.util.ArrayList;
 import java.util.List;
+import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public final class ElementInstanceState {
@@ -48,6 +50,9 @@ public final class ElementInstanceState {
   private final ColumnFamily<DbLong, AwaitWorkflowInstanceResultMetadata>
       awaitWorkflowInstanceResultMetadataColumnFamily;
 
+  private final MultiInstanceInputCollection inputCollection;
+  private final ColumnFamily<DbLong, MultiInstanceInputCollection> inputCollectionColumnFamily;
+
   private final VariablesState variablesState;
 
   public ElementInstanceState(
@@ -95,6 +100,14 @@ public final class ElementInstanceState {
             dbContext,
             elementInstanceKey,
             awaitResultMetadata);
+
+    inputCollection = new MultiInstanceInputCollection();
+    inputCollectionColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.MULTI_INSTANCE_INPUT_COLLECTION,
+            dbContext,
+            elementInstanceKey,
+            inputCollection);
   }
 
   public ElementInstance newInstance(
@@ -155,6 +168,7 @@ public final class ElementInstanceState {
       variablesState.removeScope(key);
 
       awaitWorkflowInstanceResultMetadataColumnFamily.delete(elementInstanceKey);
+      inputCollectionColumnFamily.delete(elementInstanceKey);
 
       final long parentKey = instance.getParentKey();
       if (parentKey > 0) {
@@ -181,23 +195,46 @@ public final class ElementInstanceState {
 
   public List<ElementInstance> getChildren(final long parentKey) {
     final List<ElementInstance> children = new ArrayList<>();
-    final ElementInstance parentInstance = getInstance(parentKey);
-    if (parentInstance != null) {
-      this.parentKey.wrapLong(parentKey);
-
-      parentChildColumnFamily.whileEqualPrefix(
-          this.parentKey,
-          (key, value) -> {
-            final DbLong childKey = key.getSecond();
-            final ElementInstance childInstance = getInstance(childKey.getValue());
-
-            final ElementInstance copiedElementInstance = copyElementInstance(childInstance);
-            children.add(copiedElementInstance);
-          });
-    }
+    forEachChild(
+        parentKey,
+        childInstance -> {
+          final ElementInstance copiedElementInstance = copyElementInstance(childInstance);
+          children.add(copiedElementInstance);
+          return true;
+        });
     return children;
   }
 
+  /**
+   * Visits the child instances of the given element instance without copying them. The visited
+   * instance is only valid until the visitor returns, it must not be stored or modified. The number
+   * of children is available from {@link ElementInstance#getNumberOfActiveElementInstances()} of
+   * the parent instance.
+   *
+   * @param parentKey the key of the parent element instance
+   * @param visitor the visitor of the child instances; the iteration stops if it returns false
+   */
+  public void forEachChild(final long parentKey, final ElementInstanceVisitor visitor) {
+    elementInstanceKey.wrapLong(parentKey);
+    if (!elementInstanceColumnFamily.exists(elementInstanceKey)) {
+      return;
+    }
+
+    this.parentKey.wrapLong(parentKey);
+
+    parentChildColumnFamily.whileEqualPrefix(
+        this.parentKey,
+        (key, value) -> {
+          final DbLong childKey = key.getSecond();
+          final ElementInstance childInstance = elementInstanceColumnFamily.get(childKey);
+
+          if (childInstance != null) {
+            return visitor.visit(childInstance);
+          }
+          return true;
+        });
+  }
+
   public void consumeToken(final long scopeKey) {
     final ElementInstance elementInstance = getInstance(scopeKey);
     if (elementInstance != null) {
@@ -286,7 +323,8 @@ public final class ElementInstanceState {
         && recordColumnFamily.isEmpty()
         && recordParentChildColumnFamily.isEmpty()
         && variablesState.isEmpty()
-        && awaitWorkflowInstanceResultMetadataColumnFamily.isEmpty();
+        && awaitWorkflowInstanceResultMetadataColumnFamily.isEmpty()
+        && inputCollectionColumnFamily.isEmpty();
   }
 
   private void visitRecords(
@@ -334,8 +372,39 @@ public final class ElementInstanceState {
     return awaitWorkflowInstanceResultMetadataColumnFamily.get(elementInstanceKey);
   }
 
+  /**
+   * Stores the evaluated input collection of a multi-instance body whose inner instances are
+   * created in multiple steps. It is removed together with the body instance.
+   *
+   * @param multiInstanceBodyKey the key of the multi-instance body instance
+   * @param collection the input collection as msgpack array
+   */
+  public void setMultiInstanceInputCollection(
+      final long multiInstanceBodyKey, final DirectBuffer collection) {
+    elementInstanceKey.wrapLong(multiInstanceBodyKey);
+    inputCollection.set(collection);
+    inputCollectionColumnFamily.put(elementInstanceKey, inputCollection);
+  }
+
+  public DirectBuffer getMultiInstanceInputCollection(final long multiInstanceBodyKey) {
+    elementInstanceKey.wrapLong(multiInstanceBodyKey);
+    final MultiInstanceInputCollection collection =
+        inputCollectionColumnFamily.get(elementInstanceKey);
+    return collection != null ? BufferUtil.cloneBuffer(collection.get()) : null;
+  }
+
+  public void removeMultiInstanceInputCollection(final long multiInstanceBodyKey) {
+    elementInstanceKey.wrapLong(multiInstanceBodyKey);
+    inputCollectionColumnFamily.delete(elementInstanceKey);
+  }
+
   @FunctionalInterface
   public interface RecordVisitor {
     void visitRecord(IndexedRecord indexedRecord);
   }
+
+  @FunctionalInterface
+  public interface ElementInstanceVisitor {
+    boolean visit(ElementInstance elementInstance);
+  }
 }
@@ -70,6 +70,7 @@ public class VariablesState {
 
   private VariableListener listener;
   private int variableCount = 0;
+  private boolean hasVariablesLocal;
 
   public VariablesState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
@@ -326,6 +327,39 @@ public class VariablesState {
     return parentKey != null ? parentKey.get() : NO_PARENT;
   }
 
+  /**
+   * Returns the key of the closest scope in the hierarchy of the given scope, including itself,
+   * that has local variables. The same variables are visible in the given scope and in the returned
+   * scope.
+   *
+   * @param scopeKey the key of the scope to start from
+   * @return the key of the closest scope with local variables, or {@link #NO_PARENT} if no scope in
+   *     the hierarchy has variables
+   */
+  public long getClosestScopeWithVariables(final long scopeKey) {
+    long currentScope = scopeKey;
+
+    while (currentScope >= 0 && !hasVariablesLocal(currentScope)) {
+      currentScope = getParent(currentScope);
+    }
+
+    return currentScope;
+  }
+
+  private boolean hasVariablesLocal(final long scopeKey) {
+    this.scopeKey.wrapLong(scopeKey);
+    hasVariablesLocal = false;
+
+    variablesColumnFamily.whileEqualPrefix(
+        this.scopeKey,
+        (key, variable) -> {
+          hasVariablesLocal = true;
+          return false;
+        });
+
+    return hasVariablesLocal;
+  }
+
   public DirectBuffer getVariablesAsDocument(final long scopeKey) {
 
     collectedVariables.clear();
@@ -14,6 +14,7 @@ import io.zeebe.db.impl.DbCompositeKey;
 import io.zeebe.db.impl.DbLong;
 import io.zeebe.db.impl.DbNil;
 import io.zeebe.db.impl.DbString;
+import io.zeebe.engine.metrics.MessageCorrelationMetrics;
 import io.zeebe.engine.state.ZbColumnFamilies;
 import io.zeebe.protocol.impl.record.value.message.MessageStartEventSubscriptionRecord;
 import org.agrona.DirectBuffer;
@@ -34,6 +35,10 @@ public final class MessageStartEventSubscriptionState {
   private final ColumnFamily<DbCompositeKey<DbLong, DbString>, DbNil>
       subscriptionsOfWorkflowKeyColumnFamily;
 
+  // hash(messageName) => number of subscriptions
+  private final SubscriptionIndex subscriptionIndex;
+  private int visitedSubscriptions;
+
   public MessageStartEventSubscriptionState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext) {
     messageName = new DbString();
@@ -53,9 +58,21 @@ public final class MessageStartEventSubscriptionState {
             dbContext,
             workflowKeyAndMessageName,
             DbNil.INSTANCE);
+
+    subscriptionIndex =
+        new SubscriptionIndex(
+            new MessageCorrelationMetrics("message start event subscription"),
+            this::loadSubscriptionIndex);
+  }
+
+  private void loadSubscriptionIndex(final SubscriptionIndex index) {
+    subscriptionsColumnFamily.forEach(
+        (key, value) -> index.add(SubscriptionIndex.hash(key.getFirst().getBuffer())));
   }
 
   public void put(final MessageStartEventSubscriptionRecord subscription) {
+    subscriptionIndex.add(SubscriptionIndex.hash(subscription.getMessageNameBuffer()));
+
     subscriptionValue.set(subscription);
 
     messageName.wrapBuffer(subscription.getMessageNameBuffer());
@@ -70,6 +87,7 @@ public final class MessageStartEventSubscriptionState {
     subscriptionsOfWorkflowKeyColumnFamily.whileEqualPrefix(
         this.workflowKey,
         (key, value) -> {
+          subscriptionIndex.remove(SubscriptionIndex.hash(key.getSecond().getBuffer()));
           subscriptionsColumnFamily.delete(messageNameAndWorkflowKey);
           subscriptionsOfWorkflowKeyColumnFamily.delete(key);
         });
@@ -85,12 +103,30 @@ public final class MessageStartEventSubscriptionState {
   public void visitSubscriptionsByMessageName(
       final DirectBuffer messageName, final MessageStartEventSubscriptionVisitor visitor) {
 
+    // most of the published messages have no start event subscription - skip the lookup if possible
+    if (!subscriptionIndex.mayContain(SubscriptionIndex.hash(messageName))) {
+      return;
+    }
+
     this.messageName.wrapBuffer(messageName);
+
+    visitedSubscriptions = 0;
     subscriptionsColumnFamily.whileEqualPrefix(
         this.messageName,
         (key, value) -> {
+          visitedSubscriptions += 1;
           visitor.visit(value.get());
         });
+
+    subscriptionIndex.onLookup(visitedSubscriptions > 0);
+  }
+
+  /**
+   * Discards the in-memory index of the subscriptions. It must be called if a transaction is rolled
+   * back. The index is rebuilt from the state on the next lookup.
+   */
+  public void onRollback() {
+    subscriptionIndex.invalidate();
   }
 
   @FunctionalInterface
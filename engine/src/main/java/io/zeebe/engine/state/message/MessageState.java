@@ -12,6 +12,7 @@ import static io.zeebe.util.EnsureUtil.ensureNotNullOrEmpty;
 
 import io.zeebe.db.ColumnFamily;
 import io.zeebe.db.DbContext;
+import io.zeebe.db.KeyValuePairVisitor;
 import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.impl.DbCompositeKey;
 import io.zeebe.db.impl.DbLong;
@@ -90,6 +91,8 @@ public final class MessageState {
 
   private final ColumnFamily<DbLong, DbString> workflowInstanceCorrelationKeyColumnFamiliy;
 
+  private long nextDeadline;
+
   public MessageState(final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext) {
     messageKey = new DbLong();
     message = new Message();
@@ -267,17 +270,62 @@ public final class MessageState {
     return messageColumnFamily.get(this.messageKey);
   }
 
-  public void visitMessagesWithDeadlineBefore(final long timestamp, final MessageVisitor visitor) {
-    deadlineColumnFamily.whileTrue(
-        ((compositeKey, zbNil) -> {
+  /**
+   * Visits the messages with a deadline before or equal to the given timestamp, ordered by their
+   * deadline. The visitor can stop the iteration by returning {@code false}.
+   *
+   * @return the deadline of the first message which is not visited or not consumed by the visitor,
+   *     or {@code -1} if there is no such message
+   */
+  public long visitMessagesWithDeadlineBefore(final long timestamp, final MessageVisitor visitor) {
+    return visitMessagesWithDeadlineBefore(timestamp, -1L, -1L, visitor);
+  }
+
+  /**
+   * Visits the messages with a deadline before or equal to the given timestamp, ordered by their
+   * deadline and key, which are ordered after the given deadline and message key. It allows to
+   * continue the iteration after the last visited message without visiting the previous messages
+   * again. The visitor can stop the iteration by returning {@code false}.
+   *
+   * @param afterDeadline the deadline of the last visited message, or {@code -1} to begin with the
+   *     first message
+   * @param afterMessageKey the key of the last visited message
+   * @return the deadline of the first message which is not visited or not consumed by the visitor,
+   *     or {@code -1} if there is no such message
+   */
+  public long visitMessagesWithDeadlineBefore(
+      final long timestamp,
+      final long afterDeadline,
+      final long afterMessageKey,
+      final MessageVisitor visitor) {
+    nextDeadline = -1L;
+
+    final KeyValuePairVisitor<DbCompositeKey<DbLong, DbLong>, DbNil> deadlineVisitor =
+        (compositeKey, zbNil) -> {
           final long deadline = compositeKey.getFirst().getValue();
+
+          boolean consumed = false;
           if (deadline <= timestamp) {
             final long messageKey = compositeKey.getSecond().getValue();
             final Message message = getMessage(messageKey);
-            return visitor.visit(message);
+            consumed = visitor.visit(message);
           }
-          return false;
-        }));
+
+          if (!consumed) {
+            nextDeadline = deadline;
+          }
+          return consumed;
+        };
+
+    if (afterDeadline < 0) {
+      deadlineColumnFamily.whileTrue(deadlineVisitor);
+    } else {
+      deadline.wrapLong(afterDeadline);
+      messageKey.wrapLong(afterMessageKey + 1);
+      deadlineColumnFamily.whileTrue(deadlineMessageKey, deadlineVisitor);
+    }
+
+    return nextDeadline;
   }
 
   public boolean exist(
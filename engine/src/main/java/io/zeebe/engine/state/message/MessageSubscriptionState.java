@@ -14,6 +14,7 @@ import io.zeebe.db.impl.DbCompositeKey;
 import io.zeebe.db.impl.DbLong;
 import io.zeebe.db.impl.DbNil;
 import io.zeebe.db.impl.DbString;
+import io.zeebe.engine.metrics.MessageCorrelationMetrics;
 import io.zeebe.engine.state.ZbColumnFamilies;
 import org.agrona.DirectBuffer;
 
@@ -43,6 +44,10 @@ public final class MessageSubscriptionState {
   private final ColumnFamily<DbCompositeKey<DbCompositeKey<DbString, DbString>, DbLong>, DbNil>
       messageNameAndCorrelationKeyColumnFamily;
 
+  // hash(messageName, correlationKey) => number of subscriptions
+  private final SubscriptionIndex subscriptionIndex;
+  private int visitedSubscriptions;
+
   public MessageSubscriptionState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext) {
     this.dbContext = dbContext;
@@ -77,6 +82,21 @@ public final class MessageSubscriptionState {
             dbContext,
             nameCorrelationAndElementInstanceKey,
             DbNil.INSTANCE);
+
+    subscriptionIndex =
+        new SubscriptionIndex(
+            new MessageCorrelationMetrics("message subscription"), this::loadSubscriptionIndex);
+  }
+
+  private void loadSubscriptionIndex(final SubscriptionIndex index) {
+    messageNameAndCorrelationKeyColumnFamily.forEach(
+        (key, nil) -> {
+          final var nameAndCorrelationKey = key.getFirst();
+          index.add(
+              SubscriptionIndex.hash(
+                  nameAndCorrelationKey.getFirst().getBuffer(),
+                  nameAndCorrelationKey.getSecond().getBuffer()));
+        });
   }
 
   public MessageSubscription get(final long elementInstanceKey, final DirectBuffer messageName) {
@@ -93,6 +113,9 @@ public final class MessageSubscriptionState {
     correlationKey.wrapBuffer(subscription.getCorrelationKey());
     messageNameAndCorrelationKeyColumnFamily.put(
         nameCorrelationAndElementInstanceKey, DbNil.INSTANCE);
+
+    subscriptionIndex.add(
+        SubscriptionIndex.hash(subscription.getMessageName(), subscription.getCorrelationKey()));
   }
 
   public void visitSubscriptions(
@@ -100,14 +123,23 @@ public final class MessageSubscriptionState {
       final DirectBuffer correlationKey,
       final MessageSubscriptionVisitor visitor) {
 
+    // most of the published messages have no subscription - skip the lookup if possible
+    if (!subscriptionIndex.mayContain(SubscriptionIndex.hash(messageName, correlationKey))) {
+      return;
+    }
+
     this.messageName.wrapBuffer(messageName);
     this.correlationKey.wrapBuffer(correlationKey);
 
+    visitedSubscriptions = 0;
     messageNameAndCorrelationKeyColumnFamily.whileEqualPrefix(
         nameAndCorrelationKey,
         (compositeKey, nil) -> {
+          visitedSubscriptions += 1;
           return visitMessageSubscription(elementKeyAndMessageName, visitor);
         });
+
+    subscriptionIndex.onLookup(visitedSubscriptions > 0);
   }
 
   private Boolean visitMessageSubscription(
@@ -202,6 +234,17 @@ public final class MessageSubscriptionState {
     messageNameAndCorrelationKeyColumnFamily.delete(nameCorrelationAndElementInstanceKey);
 
     removeSubscriptionFromSentTimeColumnFamily(subscription);
+
+    subscriptionIndex.remove(
+        SubscriptionIndex.hash(subscription.getMessageName(), subscription.getCorrelationKey()));
+  }
+
+  /**
+   * Discards the in-memory index of the subscriptions. It must be called if a transaction is rolled
+   * back. The index is rebuilt from the state on the next lookup.
+   */
+  public void onRollback() {
+    subscriptionIndex.invalidate();
   }
 
   private void removeSubscriptionFromSentTimeColumnFamily(final MessageSubscription subscription) {
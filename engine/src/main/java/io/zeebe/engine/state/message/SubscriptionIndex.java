@@ -0,0 +1,107 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state.message;
+
+import io.zeebe.engine.metrics.MessageCorrelationMetrics;
+import java.util.function.Consumer;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2LongHashMap;
+
+/**
+ * An in-memory index which counts the subscriptions per hash of their lookup key (e.g. message name
+ * and correlation key). It is used to skip the lookup in the state if no subscription can exist for
+ * the key. Since different keys can have the same hash, the index can only tell that there may be a
+ * subscription.
+ *
+ * <p>The index is built from the state on the first access. It must be invalidated if a transaction
+ * is rolled back, because the changes of the transaction are not reverted in the index.
+ */
+final class SubscriptionIndex {
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private final Long2LongHashMap subscriptionCounts = new Long2LongHashMap(0);
+  private final MessageCorrelationMetrics metrics;
+  private final Consumer<SubscriptionIndex> loader;
+
+  private boolean isLoaded;
+
+  SubscriptionIndex(
+      final MessageCorrelationMetrics metrics, final Consumer<SubscriptionIndex> loader) {
+    this.metrics = metrics;
+    this.loader = loader;
+  }
+
+  void add(final long hash) {
+    if (isLoaded) {
+      subscriptionCounts.put(hash, subscriptionCounts.get(hash) + 1);
+    }
+  }
+
+  void remove(final long hash) {
+    if (isLoaded) {
+      final long count = subscriptionCounts.get(hash) - 1;
+      if (count > 0) {
+        subscriptionCounts.put(hash, count);
+      } else {
+        subscriptionCounts.remove(hash);
+      }
+    }
+  }
+
+  boolean mayContain(final long hash) {
+    ensureLoaded();
+
+    final boolean mayContain = subscriptionCounts.containsKey(hash);
+    if (!mayContain) {
+      metrics.lookupSkipped();
+    }
+    return mayContain;
+  }
+
+  void onLookup(final boolean found) {
+    if (found) {
+      metrics.lookupHit();
+    } else {
+      metrics.lookupFalsePositive();
+    }
+  }
+
+  void invalidate() {
+    subscriptionCounts.clear();
+    isLoaded = false;
+  }
+
+  private void ensureLoaded() {
+    if (!isLoaded) {
+      // the subscriptions are added by the loader - the index must be marked as loaded before
+      isLoaded = true;
+      loader.accept(this);
+    }
+  }
+
+  static long hash(final DirectBuffer buffer) {
+    return hash(FNV_OFFSET_BASIS, buffer);
+  }
+
+  static long hash(final DirectBuffer first, final DirectBuffer second) {
+    // the length separates the two parts, e.g. ("ab", "c") and ("a", "bc")
+    long hash = hash(FNV_OFFSET_BASIS, first);
+    hash = (hash ^ first.capacity()) * FNV_PRIME;
+    return hash(hash, second);
+  }
+
+  private static long hash(final long initialHash, final DirectBuffer buffer) {
+    long hash = initialHash;
+    for (int i = 0; i < buffer.capacity(); i++) {
+      hash = (hash ^ (buffer.getByte(i) & 0xff)) * FNV_PRIME;
+    }
+    return hash;
+  }
+}
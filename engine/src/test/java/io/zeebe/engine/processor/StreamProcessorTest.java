@@ -15,6 +15,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
@@ -22,6 +23,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.engine.util.StreamProcessorRule;
@@ -36,6 +38,8 @@ import io.zeebe.protocol.record.intent.DeploymentIntent;
 import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
 import io.zeebe.util.exception.RecoverableException;
 import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.future.ActorFuture;
+import io.zeebe.util.sched.future.CompletableActorFuture;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
@@ -232,6 +236,33 @@ public final class StreamProcessorTest {
     inOrder.verifyNoMoreInteractions();
   }
 
+  @Test
+  public void shouldProcessRecordWhenPrepared() {
+    // given
+    final CompletableActorFuture<Void> preparation = new CompletableActorFuture<>();
+    final TypedRecordProcessor<?> typedRecordProcessor = mock(TypedRecordProcessor.class);
+    when(typedRecordProcessor.prepareRecord(any())).thenReturn((ActorFuture) preparation);
+    streamProcessorRule.startTypedStreamProcessor(
+        (processors, state) ->
+            processors.onEvent(
+                ValueType.WORKFLOW_INSTANCE,
+                WorkflowInstanceIntent.ELEMENT_ACTIVATING,
+                typedRecordProcessor));
+
+    // when
+    final long position =
+        streamProcessorRule.writeWorkflowInstanceEvent(WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+
+    // then
+    verify(typedRecordProcessor, TIMEOUT.times(1)).prepareRecord(any());
+    verify(typedRecordProcessor, after(200).never())
+        .processRecord(anyLong(), any(), any(), any(), any());
+
+    preparation.complete(null);
+    verify(typedRecordProcessor, TIMEOUT.times(1))
+        .processRecord(eq(position), any(), any(), any(), any());
+  }
+
   @Test
   public void shouldWriteFollowUpEvent() {
     // given
@@ -31,6 +31,7 @@ import io.zeebe.protocol.record.RecordType;
 import io.zeebe.protocol.record.intent.DeploymentIntent;
 import io.zeebe.protocol.record.value.deployment.ResourceType;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
 import org.assertj.core.api.Assertions;
@@ -78,7 +79,8 @@ public final class TransformingDeploymentCreateProcessorTest {
               zeebeState,
               new CatchEventBehavior(
                   zeebeState, expressionProcessor, mockSubscriptionCommandSender, 1),
-              expressionProcessor);
+              expressionProcessor,
+              ForkJoinPool.commonPool());
           return typedRecordProcessors;
         });
   }
@@ -0,0 +1,81 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processor.workflow.deployment.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.el.Expression;
+import io.zeebe.el.ExpressionLanguage;
+import io.zeebe.el.ExpressionLanguageFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public final class ExpressionCacheTest {
+
+  private final ExpressionLanguage expressionLanguage =
+      ExpressionLanguageFactory.createExpressionLanguage();
+
+  @Test
+  public void shouldReturnCachedExpression() {
+    // given
+    final var cache = new ExpressionCache(10);
+    final var parseCount = new AtomicInteger();
+
+    // when
+    final var first = cache.computeIfAbsent("=x", e -> parse(e, parseCount));
+    final var second = cache.computeIfAbsent("=x", e -> parse(e, parseCount));
+
+    // then
+    assertThat(second).isSameAs(first);
+    assertThat(parseCount).hasValue(1);
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedExpression() {
+    // given
+    final var cache = new ExpressionCache(2);
+    final var parseCount = new AtomicInteger();
+
+    cache.computeIfAbsent("=a", e -> parse(e, parseCount));
+    cache.computeIfAbsent("=b", e -> parse(e, parseCount));
+    cache.computeIfAbsent("=a", e -> parse(e, parseCount));
+
+    // when
+    cache.computeIfAbsent("=c", e -> parse(e, parseCount));
+
+    // then
+    assertThat(cache.size()).isEqualTo(2);
+
+    cache.computeIfAbsent("=a", e -> parse(e, parseCount));
+    assertThat(parseCount).hasValue(3);
+
+    cache.computeIfAbsent("=b", e -> parse(e, parseCount));
+    assertThat(parseCount).hasValue(4);
+  }
+
+  @Test
+  public void shouldShareExpressionsBetweenLanguages() {
+    // given
+    final var cache = new ExpressionCache(10);
+    final var language1 = new CachedExpressionLanguage(expressionLanguage, cache);
+    final var language2 =
+        new CachedExpressionLanguage(ExpressionLanguageFactory.createExpressionLanguage(), cache);
+
+    // when
+    final var expression = language1.parseExpression("=x + 1");
+
+    // then
+    assertThat(language2.parseExpression("=x + 1")).isSameAs(expression);
+    assertThat(language2.parseExpression("=x + 2")).isNotSameAs(expression);
+  }
+
+  private Expression parse(final String expression, final AtomicInteger parseCount) {
+    parseCount.incrementAndGet();
+    return expressionLanguage.parseExpression(expression);
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processor.workflow.deployment.transform;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.engine.processor.workflow.deployment.transform.DeploymentResourceParser.ParsedResource;
+import io.zeebe.model.bpmn.Bpmn;
+import io.zeebe.model.bpmn.BpmnModelInstance;
+import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.zeebe.protocol.record.value.deployment.ResourceType;
+import io.zeebe.util.sched.future.ActorFuture;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.After;
+import org.junit.Test;
+
+public final class DeploymentResourceParserTest {
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
+  private final DeploymentResourceParser parser = new DeploymentResourceParser(executor);
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void shouldParseResourcesAsynchronously() {
+    // given
+    final DeploymentRecord deployment = new DeploymentRecord();
+    addResource(deployment, "process-1.bpmn", Bpmn.createExecutableProcess("process-1").done());
+    addResource(deployment, "process-2.bpmn", Bpmn.createExecutableProcess("process-2").done());
+
+    // when
+    final ActorFuture<List<ParsedResource>> result = parser.parseAsync(deployment.resources());
+    deployment.reset();
+
+    // then
+    final List<ParsedResource> parsedResources = result.join();
+    assertThat(parsedResources).extracting(ParsedResource::getFailure).containsOnlyNulls();
+    assertThat(parsedResources)
+        .extracting(r -> r.getDefinition().getModelElementById("process-2") != null)
+        .containsExactly(false, true);
+  }
+
+  @Test
+  public void shouldParseResourcesInOrder() {
+    // given
+    final DeploymentRecord deployment = new DeploymentRecord();
+    addResource(deployment, "process-1.bpmn", Bpmn.createExecutableProcess("process-1").done());
+    addResource(deployment, "process-2.bpmn", Bpmn.createExecutableProcess("process-2").done());
+    addResource(deployment, "process-3.bpmn", Bpmn.createExecutableProcess("process-3").done());
+
+    // when
+    final List<ParsedResource> parsedResources = parser.parse(deployment.resources());
+
+    // then
+    assertThat(parsedResources).hasSize(3);
+    assertThat(parsedResources).extracting(ParsedResource::getFailure).containsOnlyNulls();
+    assertThat(parsedResources)
+        .extracting(r -> r.getDefinition().getModelElementById("process-1") != null)
+        .containsExactly(true, false, false);
+    assertThat(parsedResources)
+        .extracting(r -> r.getDefinition().getModelElementById("process-3") != null)
+        .containsExactly(false, false, true);
+  }
+
+  @Test
+  public void shouldReportDesignTimeValidationErrors() {
+    // given
+    final DeploymentRecord deployment = new DeploymentRecord();
+    addResource(
+        deployment,
+        "process.bpmn",
+        Bpmn.createExecutableProcess("process").startEvent().serviceTask("task").done());
+
+    // when
+    final List<ParsedResource> parsedResources = parser.parse(deployment.resources());
+
+    // then
+    final ParsedResource parsedResource = parsedResources.get(0);
+    assertThat(parsedResource.getFailure()).isNull();
+    assertThat(parsedResource.getDesignTimeResults().hasErrors()).isTrue();
+  }
+
+  @Test
+  public void shouldReportFailureIfResourceIsNotReadable() {
+    // given
+    final DeploymentRecord deployment = new DeploymentRecord();
+    deployment
+        .resources()
+        .add()
+        .setResourceName(wrapString("invalid.bpmn"))
+        .setResource(wrapString("not a workflow"))
+        .setResourceType(ResourceType.BPMN_XML);
+    addResource(deployment, "process.bpmn", Bpmn.createExecutableProcess("process").done());
+
+    // when
+    final List<ParsedResource> parsedResources = parser.parse(deployment.resources());
+
+    // then
+    assertThat(parsedResources.get(0).getFailure()).isNotNull();
+    assertThat(parsedResources.get(0).getDefinition()).isNull();
+    assertThat(parsedResources.get(1).getFailure()).isNull();
+    assertThat(parsedResources.get(1).getDefinition()).isNotNull();
+  }
+
+  private static void addResource(
+      final DeploymentRecord deployment,
+      final String resourceName,
+      final BpmnModelInstance modelInstance) {
+    deployment
+        .resources()
+        .add()
+        .setResourceName(wrapString(resourceName))
+        .setResource(wrapString(Bpmn.convertToString(modelInstance)))
+        .setResourceType(ResourceType.BPMN_XML);
+  }
+}
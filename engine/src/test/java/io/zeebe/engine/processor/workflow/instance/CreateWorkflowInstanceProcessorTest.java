@@ -74,7 +74,9 @@ public final class CreateWorkflowInstanceProcessorTest
         new ExpressionProcessor(ExpressionLanguageFactory.createExpressionLanguage(), emptyLookup);
     transformer =
         new DeploymentTransformer(
-            CommandProcessorTestCase.ZEEBE_STATE_RULE.getZeebeState(), expressionProcessor);
+            CommandProcessorTestCase.ZEEBE_STATE_RULE.getZeebeState(),
+            expressionProcessor,
+            Runnable::run);
   }
 
   @Before
@@ -330,7 +332,7 @@ public final class CreateWorkflowInstanceProcessorTest
     Bpmn.writeModelToStream(output, model);
     record.resources().add().setResource(output.toByteArray());
 
-    final boolean transformed = transformer.transform(record);
+    final boolean transformed = transformer.transform(-1L, record);
     assertThat(transformed)
         .as("Failed to transform deployment: %s", transformer.getRejectionReason())
         .isTrue();
@@ -13,6 +13,7 @@ import static io.zeebe.test.util.record.RecordingExporter.jobRecords;
 import static io.zeebe.test.util.record.RecordingExporter.workflowInstanceRecords;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
 
 import io.zeebe.engine.util.EngineRule;
 import io.zeebe.model.bpmn.Bpmn;
@@ -34,6 +35,7 @@ import io.zeebe.util.sched.clock.ControlledActorClock;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -375,6 +377,40 @@ public final class ActivateJobsTest {
     assertThat(jobActivated.getCustomHeaders()).isEqualTo(jobRecordValue.getCustomHeaders());
   }
 
+  @Test
+  public void shouldActivateJobsWithVariablesOfTheirScopes() {
+    // given
+    final BpmnModelInstance modelInstance =
+        Bpmn.createExecutableProcess(PROCESS_ID)
+            .startEvent()
+            .parallelGateway("fork")
+            .serviceTask("task1", b -> b.zeebeJobType(taskType))
+            .endEvent()
+            .moveToNode("fork")
+            .serviceTask("task2", b -> b.zeebeJobType(taskType))
+            .endEvent()
+            .moveToNode("fork")
+            .serviceTask("task3", b -> b.zeebeJobType(taskType).zeebeInput("=foo", "bar"))
+            .endEvent()
+            .done();
+
+    ENGINE.deployment().withXmlResource(PROCESS_ID, modelInstance).deploy();
+    final long workflowInstanceKey = createWorkflowInstances(1, "{'foo':'baz'}").get(0);
+    waitForJobs(taskType, 3, List.of(workflowInstanceKey));
+
+    // when
+    final List<JobRecordValue> jobs =
+        ENGINE.jobs().withType(taskType).withMaxJobsToActivate(3).activate().getValue().getJobs();
+
+    // then
+    assertThat(jobs)
+        .extracting(JobRecordValue::getElementId, JobRecordValue::getVariables)
+        .containsExactlyInAnyOrder(
+            tuple("task1", Map.of("foo", "baz")),
+            tuple("task2", Map.of("foo", "baz")),
+            tuple("task3", Map.of("foo", "baz", "bar", "baz")));
+  }
+
   @Test
   public void shouldLimitJobsInBatch() {
     // given
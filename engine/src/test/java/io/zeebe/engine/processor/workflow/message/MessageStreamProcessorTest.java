@@ -19,6 +19,7 @@ import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.zeebe.engine.processor.workflow.EngineConfiguration;
 import io.zeebe.engine.processor.workflow.message.command.SubscriptionCommandSender;
 import io.zeebe.engine.util.StreamProcessorRule;
 import io.zeebe.protocol.impl.record.value.message.MessageRecord;
@@ -64,7 +65,10 @@ public final class MessageStreamProcessorTest {
         (typedRecordProcessors, processingContext) -> {
           final var zeebeState = processingContext.getZeebeState();
           MessageEventProcessors.addMessageProcessors(
-              typedRecordProcessors, zeebeState, mockSubscriptionCommandSender);
+              typedRecordProcessors,
+              zeebeState,
+              mockSubscriptionCommandSender,
+              EngineConfiguration.DEFAULT_MAX_EXPIRED_MESSAGES_PER_CHECK);
           return typedRecordProcessors;
         });
   }
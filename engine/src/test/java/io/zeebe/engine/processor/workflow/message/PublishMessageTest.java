@@ -10,6 +10,7 @@ package io.zeebe.engine.processor.workflow.message;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 
+import io.zeebe.engine.processor.workflow.EngineConfiguration;
 import io.zeebe.engine.util.EngineRule;
 import io.zeebe.engine.util.client.PublishMessageClient;
 import io.zeebe.protocol.record.Assertions;
@@ -21,6 +22,10 @@ import io.zeebe.protocol.record.intent.MessageIntent;
 import io.zeebe.protocol.record.value.MessageRecordValue;
 import io.zeebe.test.util.record.RecordingExporter;
 import io.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.Before;
 import org.junit.ClassRule;
 import org.junit.Rule;
@@ -180,7 +185,7 @@ public final class PublishMessageTest {
     final Record<MessageRecordValue> publishedRecord =
         messageClient.withTimeToLive(timeToLive).publish();
 
-    ENGINE_RULE.increaseTime(MessageObserver.MESSAGE_TIME_TO_LIVE_CHECK_INTERVAL);
+    ENGINE_RULE.increaseTime(Duration.ofMillis(timeToLive));
 
     // then
     final Record<MessageRecordValue> deletedEvent =
@@ -196,6 +201,54 @@ public final class PublishMessageTest {
         .hasMessageId("");
   }
 
+  @Test
+  public void shouldDeleteMessageWithShorterTTLFirst() {
+    // given
+    messageClient.withTimeToLive(Duration.ofHours(1).toMillis()).publish();
+
+    // when
+    final Record<MessageRecordValue> shortLivingMessage =
+        messageClient.withTimeToLive(Duration.ofSeconds(1).toMillis()).publish();
+
+    ENGINE_RULE.increaseTime(Duration.ofSeconds(1));
+
+    // then
+    assertThat(
+            RecordingExporter.messageRecords()
+                .withIntent(MessageIntent.DELETED)
+                .withRecordKey(shortLivingMessage.getKey())
+                .exists())
+        .isTrue();
+  }
+
+  @Test
+  public void shouldDeleteMoreMessagesThanExpiredPerCheck() {
+    // given
+    final int messageCount = EngineConfiguration.DEFAULT_MAX_EXPIRED_MESSAGES_PER_CHECK * 2 + 50;
+    final List<Long> messageKeys =
+        IntStream.range(0, messageCount)
+            .mapToObj(
+                i ->
+                    messageClient
+                        .withCorrelationKey("expired-" + i)
+                        .withTimeToLive(Duration.ofSeconds(1).toMillis())
+                        .publish()
+                        .getKey())
+            .collect(Collectors.toList());
+
+    // when
+    ENGINE_RULE.increaseTime(Duration.ofSeconds(1));
+
+    // then
+    assertThat(
+            RecordingExporter.messageRecords()
+                .withIntent(MessageIntent.DELETED)
+                .filter(r -> r.getValue().getCorrelationKey().startsWith("expired-"))
+                .limit(messageCount))
+        .extracting(Record::getKey)
+        .containsExactlyElementsOf(messageKeys);
+  }
+
   @Test
   public void shouldDeleteMessageImmediatelyWithZeroTTL() {
     // given
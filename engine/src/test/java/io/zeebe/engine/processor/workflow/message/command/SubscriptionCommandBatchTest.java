@@ -0,0 +1,96 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processor.workflow.message.command;
+
+import static io.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.assertj.core.groups.Tuple;
+import org.junit.Test;
+
+public final class SubscriptionCommandBatchTest {
+
+  private final SubscriptionCommandBatch batch = new SubscriptionCommandBatch();
+
+  @Test
+  public void shouldBeEmpty() {
+    // when
+    final byte[] bytes = batch.toByteArray();
+
+    // then
+    assertThat(batch.isEmpty()).isTrue();
+    assertThat(bytes).isEmpty();
+    assertThat(readCommands(bytes)).isEmpty();
+  }
+
+  @Test
+  public void shouldReadAddedCommands() {
+    // given
+    batch.add(closeCommand(1, 10L, "foo"));
+    batch.add(closeCommand(2, 20L, "bar"));
+
+    // when
+    final byte[] bytes = batch.toByteArray();
+
+    // then
+    assertThat(batch.getCommandCount()).isEqualTo(2);
+    assertThat(batch.getLength()).isEqualTo(bytes.length);
+    assertThat(readCommands(bytes)).containsExactly(tuple(1, 10L, "foo"), tuple(2, 20L, "bar"));
+  }
+
+  @Test
+  public void shouldReset() {
+    // given
+    batch.add(closeCommand(1, 10L, "foo"));
+
+    // when
+    batch.reset();
+    batch.add(closeCommand(2, 20L, "bar"));
+
+    // then
+    assertThat(batch.getCommandCount()).isEqualTo(1);
+    assertThat(readCommands(batch.toByteArray())).containsExactly(tuple(2, 20L, "bar"));
+  }
+
+  private static CloseMessageSubscriptionCommand closeCommand(
+      final int subscriptionPartitionId, final long workflowInstanceKey, final String messageName) {
+    final CloseMessageSubscriptionCommand command = new CloseMessageSubscriptionCommand();
+    command.setSubscriptionPartitionId(subscriptionPartitionId);
+    command.setWorkflowInstanceKey(workflowInstanceKey);
+    command.setElementInstanceKey(-1L);
+    command.setMessageName(wrapString(messageName));
+    return command;
+  }
+
+  private static List<Tuple> readCommands(final byte[] bytes) {
+    final List<Tuple> commands = new ArrayList<>();
+    final CloseMessageSubscriptionCommand command = new CloseMessageSubscriptionCommand();
+
+    final int commandCount =
+        SubscriptionCommandBatch.forEachCommand(
+            new UnsafeBuffer(bytes),
+            0,
+            bytes.length,
+            (buffer, offset, length) -> {
+              command.wrap(buffer, offset, length);
+              commands.add(
+                  tuple(
+                      command.getSubscriptionPartitionId(),
+                      command.getWorkflowInstanceKey(),
+                      bufferAsString(command.getMessageName())));
+            });
+
+    assertThat(commandCount).isEqualTo(commands.size());
+    return commands;
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processor.workflow.message.command;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.zeebe.logstreams.log.LogStreamBatchWriter;
+import io.zeebe.logstreams.log.LogStreamBatchWriter.LogEntryBuilder;
+import io.zeebe.logstreams.log.LogStreamRecordWriter;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class SubscriptionCommandMessageHandlerTest {
+
+  private static final int PARTITION_ID = 1;
+
+  private LogStreamRecordWriter recordWriter;
+  private LogStreamBatchWriter batchWriter;
+  private LogEntryBuilder logEntryBuilder;
+  private SubscriptionCommandMessageHandler handler;
+
+  @Before
+  public void setUp() {
+    recordWriter = mock(LogStreamRecordWriter.class, RETURNS_SELF);
+    batchWriter = mock(LogStreamBatchWriter.class);
+    logEntryBuilder = mock(LogEntryBuilder.class, RETURNS_SELF);
+    when(batchWriter.event()).thenReturn(logEntryBuilder);
+    when(batchWriter.tryWrite()).thenReturn(1L);
+    when(recordWriter.tryWrite()).thenReturn(1L);
+
+    handler =
+        new SubscriptionCommandMessageHandler(
+            Runnable::run,
+            partitionId -> partitionId == PARTITION_ID ? recordWriter : null,
+            partitionId -> partitionId == PARTITION_ID ? batchWriter : null);
+  }
+
+  @Test
+  public void shouldWriteCommandsOfBatchAsOneBatch() {
+    // given
+    final SubscriptionCommandBatch batch = new SubscriptionCommandBatch();
+    batch.add(closeCommand(PARTITION_ID, 10L));
+    batch.add(closeCommand(PARTITION_ID, 20L));
+    batch.add(closeCommand(PARTITION_ID, 30L));
+
+    // when
+    handler.applyBatch(batch.toByteArray()).join();
+
+    // then
+    verify(logEntryBuilder, times(3)).done();
+    verify(batchWriter).tryWrite();
+    verify(recordWriter, never()).tryWrite();
+  }
+
+  @Test
+  public void shouldWriteCommandsSeparatelyIfBatchCantBeWritten() {
+    // given
+    when(batchWriter.tryWrite()).thenReturn(-1L);
+
+    final SubscriptionCommandBatch batch = new SubscriptionCommandBatch();
+    batch.add(closeCommand(PARTITION_ID, 10L));
+    batch.add(closeCommand(PARTITION_ID, 20L));
+    batch.add(closeCommand(PARTITION_ID, 30L));
+
+    // when
+    handler.applyBatch(batch.toByteArray()).join();
+
+    // then
+    verify(batchWriter).tryWrite();
+    verify(recordWriter, times(3)).tryWrite();
+  }
+
+  @Test
+  public void shouldIgnoreBatchIfNotLeader() {
+    // given
+    final SubscriptionCommandBatch batch = new SubscriptionCommandBatch();
+    batch.add(closeCommand(PARTITION_ID + 1, 10L));
+    batch.add(closeCommand(PARTITION_ID + 1, 20L));
+
+    // when
+    handler.applyBatch(batch.toByteArray()).join();
+
+    // then
+    verify(batchWriter, never()).event();
+    verify(batchWriter, never()).tryWrite();
+    verify(recordWriter, never()).tryWrite();
+  }
+
+  @Test
+  public void shouldWriteSingleCommand() {
+    // given
+    final CloseMessageSubscriptionCommand command = closeCommand(PARTITION_ID, 10L);
+    final byte[] bytes = new byte[command.getLength()];
+    command.write(new UnsafeBuffer(bytes), 0);
+
+    // when
+    handler.apply(bytes).join();
+
+    // then
+    verify(recordWriter).tryWrite();
+    verify(recordWriter).key(anyLong());
+    verify(recordWriter).valueWriter(any());
+    verify(batchWriter, never()).tryWrite();
+  }
+
+  private static CloseMessageSubscriptionCommand closeCommand(
+      final int subscriptionPartitionId, final long workflowInstanceKey) {
+    final CloseMessageSubscriptionCommand command = new CloseMessageSubscriptionCommand();
+    command.setSubscriptionPartitionId(subscriptionPartitionId);
+    command.setWorkflowInstanceKey(workflowInstanceKey);
+    command.setElementInstanceKey(-1L);
+    command.setMessageName(wrapString("message"));
+    return command;
+  }
+}
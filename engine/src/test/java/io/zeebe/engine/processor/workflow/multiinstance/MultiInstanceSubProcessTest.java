@@ -18,15 +18,19 @@ import io.zeebe.protocol.record.Record;
 import io.zeebe.protocol.record.intent.JobIntent;
 import io.zeebe.protocol.record.intent.MessageSubscriptionIntent;
 import io.zeebe.protocol.record.intent.TimerIntent;
+import io.zeebe.protocol.record.intent.VariableIntent;
 import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
+import io.zeebe.protocol.record.value.BpmnElementType;
 import io.zeebe.protocol.record.value.JobBatchRecordValue;
 import io.zeebe.test.util.record.RecordingExporter;
 import io.zeebe.test.util.record.RecordingExporterTestWatcher;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.ClassRule;
 import org.junit.Rule;
 import org.junit.Test;
@@ -296,4 +300,153 @@ public final class MultiInstanceSubProcessTest {
         .extracting(Record::getIntent)
         .containsExactly(WorkflowInstanceIntent.ELEMENT_COMPLETED);
   }
+
+  @Test
+  public void shouldCompleteSubProcessForEachElementOfLargeCollection() {
+    // given
+    ENGINE.deployment().withXmlResource(EMPTY_SUB_PROCESS).deploy();
+
+    final List<Integer> inputCollection =
+        IntStream.range(0, 1_200).boxed().collect(Collectors.toList());
+
+    // when
+    final long workflowInstanceKey =
+        ENGINE
+            .workflowInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable(INPUT_COLLECTION, inputCollection)
+            .create();
+
+    // then
+    assertThat(
+            RecordingExporter.workflowInstanceRecords(WorkflowInstanceIntent.ELEMENT_COMPLETED)
+                .withWorkflowInstanceKey(workflowInstanceKey)
+                .limitToWorkflowInstanceCompleted()
+                .withElementType(BpmnElementType.SUB_PROCESS))
+        .hasSize(inputCollection.size());
+  }
+
+  @Test
+  public void shouldTerminateSubProcessesOfLargeCollection() {
+    // given
+    ENGINE.deployment().withXmlResource(SERVICE_TASK_SUB_PROCESS).deploy();
+
+    final long workflowInstanceKey =
+        ENGINE
+            .workflowInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable(
+                INPUT_COLLECTION, IntStream.range(0, 1_200).boxed().collect(Collectors.toList()))
+            .create();
+
+    RecordingExporter.jobRecords(JobIntent.CREATED)
+        .withWorkflowInstanceKey(workflowInstanceKey)
+        .exists();
+
+    // when
+    ENGINE.workflowInstance().withInstanceKey(workflowInstanceKey).cancel();
+
+    // then
+    final long activatedSubProcesses =
+        RecordingExporter.workflowInstanceRecords(WorkflowInstanceIntent.ELEMENT_ACTIVATING)
+            .withWorkflowInstanceKey(workflowInstanceKey)
+            .limitToWorkflowInstanceTerminated()
+            .withElementType(BpmnElementType.SUB_PROCESS)
+            .count();
+
+    assertThat(
+            RecordingExporter.workflowInstanceRecords(WorkflowInstanceIntent.ELEMENT_TERMINATED)
+                .withWorkflowInstanceKey(workflowInstanceKey)
+                .limitToWorkflowInstanceTerminated()
+                .withElementType(BpmnElementType.SUB_PROCESS))
+        .hasSize((int) activatedSubProcesses);
+  }
+
+  @Test
+  public void shouldNotReadChangedCollectionForNextInnerInstances() {
+    // given
+    ENGINE.deployment().withXmlResource(EMPTY_SUB_PROCESS).deploy();
+
+    final List<Integer> inputCollection =
+        IntStream.range(0, 1_500).boxed().collect(Collectors.toList());
+
+    final long workflowInstanceKey =
+        ENGINE
+            .workflowInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable(INPUT_COLLECTION, inputCollection)
+            .create();
+
+    RecordingExporter.workflowInstanceRecords(WorkflowInstanceIntent.ELEMENT_ACTIVATED)
+        .withWorkflowInstanceKey(workflowInstanceKey)
+        .withElementType(BpmnElementType.SUB_PROCESS)
+        .exists();
+
+    // when
+    ENGINE
+        .variables()
+        .ofScope(workflowInstanceKey)
+        .withDocument(
+            Map.of(
+                INPUT_COLLECTION,
+                IntStream.range(10_000, 11_500).boxed().collect(Collectors.toList())))
+        .update();
+
+    // then
+    assertThat(
+            RecordingExporter.variableRecords(VariableIntent.CREATED)
+                .withWorkflowInstanceKey(workflowInstanceKey)
+                .withName(INPUT_ELEMENT)
+                .limit(inputCollection.size()))
+        .extracting(r -> r.getValue().getValue())
+        .containsExactlyElementsOf(
+            inputCollection.stream().map(String::valueOf).collect(Collectors.toList()));
+
+    assertThat(
+            RecordingExporter.workflowInstanceRecords(WorkflowInstanceIntent.ELEMENT_COMPLETED)
+                .withWorkflowInstanceKey(workflowInstanceKey)
+                .limitToWorkflowInstanceCompleted()
+                .withElementType(BpmnElementType.SUB_PROCESS))
+        .hasSize(inputCollection.size());
+  }
+
+  @Test
+  public void shouldNotReadShadowedCollectionForNextInnerInstances() {
+    // given
+    final BpmnModelInstance workflow =
+        Bpmn.createExecutableProcess(PROCESS_ID)
+            .startEvent()
+            .subProcess(
+                SUB_PROCESS_ELEMENT_ID,
+                s ->
+                    s.multiInstance(
+                        b ->
+                            b.zeebeInputCollectionExpression(INPUT_COLLECTION)
+                                .zeebeInputElement(INPUT_COLLECTION)))
+            .embeddedSubProcess()
+            .startEvent()
+            .endEvent()
+            .done();
+
+    ENGINE.deployment().withXmlResource(workflow).deploy();
+
+    final List<Integer> inputCollection =
+        IntStream.range(0, 1_200).boxed().collect(Collectors.toList());
+
+    // when
+    final long workflowInstanceKey =
+        ENGINE
+            .workflowInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable(INPUT_COLLECTION, inputCollection)
+            .create();
+
+    // then
+    assertThat(
+            RecordingExporter.workflowInstanceRecords(WorkflowInstanceIntent.ELEMENT_COMPLETED)
+                .withWorkflowInstanceKey(workflowInstanceKey)
+                .limitToWorkflowInstanceCompleted()
+                .withElementType(BpmnElementType.SUB_PROCESS))
+        .hasSize(inputCollection.size());
+  }
 }
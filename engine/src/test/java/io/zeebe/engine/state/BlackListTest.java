@@ -0,0 +1,86 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.db.DbContext;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.engine.util.ZeebeStateRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class BlackListTest {
+
+  @Rule public final ZeebeStateRule stateRule = new ZeebeStateRule();
+
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private DbContext dbContext;
+  private BlackList blackList;
+
+  @Before
+  public void setUp() {
+    zeebeDb = stateRule.getZeebeDb();
+    dbContext = zeebeDb.createContext();
+    blackList = new BlackList(zeebeDb, dbContext);
+  }
+
+  @Test
+  public void shouldNotBeOnBlacklist() {
+    // when
+    final boolean isOnBlacklist = blackList.isOnBlacklist(1L);
+
+    // then
+    assertThat(isOnBlacklist).isFalse();
+  }
+
+  @Test
+  public void shouldBeOnBlacklist() {
+    // given
+    blackList.isOnBlacklist(1L);
+
+    // when
+    blackList.blacklist(1L);
+
+    // then
+    assertThat(blackList.isOnBlacklist(1L)).isTrue();
+    assertThat(blackList.isOnBlacklist(2L)).isFalse();
+  }
+
+  @Test
+  public void shouldLoadBlacklistedInstances() {
+    // given
+    blackList.blacklist(1L);
+    blackList.blacklist(2L);
+
+    // when
+    final BlackList recoveredBlackList = new BlackList(zeebeDb, zeebeDb.createContext());
+
+    // then
+    assertThat(recoveredBlackList.isOnBlacklist(1L)).isTrue();
+    assertThat(recoveredBlackList.isOnBlacklist(2L)).isTrue();
+    assertThat(recoveredBlackList.isOnBlacklist(3L)).isFalse();
+  }
+
+  @Test
+  public void shouldDiscardBlacklistedInstancesOnRollback() throws Exception {
+    // given
+    blackList.blacklist(1L);
+
+    // when
+    final var transaction = dbContext.getCurrentTransaction();
+    transaction.run(() -> blackList.blacklist(2L));
+    transaction.rollback();
+    blackList.onRollback();
+
+    // then
+    assertThat(blackList.isOnBlacklist(1L)).isTrue();
+    assertThat(blackList.isOnBlacklist(2L)).isFalse();
+  }
+}
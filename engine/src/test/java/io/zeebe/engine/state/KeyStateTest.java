@@ -0,0 +1,95 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.db.DbContext;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.engine.util.ZeebeStateRule;
+import io.zeebe.protocol.Protocol;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class KeyStateTest {
+
+  private static final int PARTITION_ID = 1;
+
+  @Rule public final ZeebeStateRule stateRule = new ZeebeStateRule();
+
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private DbContext dbContext;
+  private KeyState keyState;
+
+  @Before
+  public void setUp() {
+    zeebeDb = stateRule.getZeebeDb();
+    dbContext = zeebeDb.createContext();
+    keyState = new KeyState(PARTITION_ID, zeebeDb, dbContext);
+  }
+
+  @Test
+  public void shouldGenerateKeysOfPartition() {
+    // when
+    final long firstKey = keyState.nextKey();
+    final long secondKey = keyState.nextKey();
+
+    // then
+    assertThat(Protocol.decodePartitionId(firstKey)).isEqualTo(PARTITION_ID);
+    assertThat(secondKey).isEqualTo(firstKey + 1);
+  }
+
+  @Test
+  public void shouldContinueWithPersistedKey() {
+    // given
+    keyState.nextKey();
+    final long latestKey = keyState.nextKey();
+
+    // when
+    keyState.persistLatestKey();
+
+    // then
+    final KeyState recoveredKeyState = new KeyState(PARTITION_ID, zeebeDb, dbContext);
+    assertThat(recoveredKeyState.nextKey()).isEqualTo(latestKey + 1);
+  }
+
+  @Test
+  public void shouldNotPersistKeyBeforeEndOfProcessing() {
+    // given
+    final long firstKey = keyState.nextKey();
+    keyState.persistLatestKey();
+
+    // when
+    keyState.nextKey();
+
+    // then
+    final KeyState recoveredKeyState = new KeyState(PARTITION_ID, zeebeDb, dbContext);
+    assertThat(recoveredKeyState.nextKey()).isEqualTo(firstKey + 1);
+  }
+
+  @Test
+  public void shouldDiscardGeneratedKeysOnRollback() throws Exception {
+    // given
+    final long firstKey = keyState.nextKey();
+    keyState.persistLatestKey();
+
+    // when
+    final var transaction = dbContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          keyState.nextKey();
+          keyState.persistLatestKey();
+        });
+    transaction.rollback();
+    keyState.onRollback();
+
+    // then
+    assertThat(keyState.nextKey()).isEqualTo(firstKey + 1);
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state.deployment;
+
+import static io.zeebe.engine.state.deployment.WorkflowStateTest.creatingDeploymentRecord;
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.engine.state.ZeebeState;
+import io.zeebe.engine.util.ZeebeStateRule;
+import io.zeebe.protocol.Protocol;
+import org.agrona.DirectBuffer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class WorkflowPersistenceCacheTest {
+
+  private static final DirectBuffer PROCESS_ID = wrapString("processId");
+
+  @Rule public final ZeebeStateRule stateRule = new ZeebeStateRule();
+
+  private WorkflowPersistenceCache cache;
+  private ZeebeState zeebeState;
+
+  @Before
+  public void setUp() {
+    zeebeState = stateRule.getZeebeState();
+
+    final var zeebeDb = stateRule.getZeebeDb();
+    cache =
+        new WorkflowPersistenceCache(
+            zeebeDb, zeebeDb.createContext(), Protocol.DEPLOYMENT_PARTITION, 1);
+
+    cache.putDeployment(1, creatingDeploymentRecord(zeebeState));
+    cache.putDeployment(2, creatingDeploymentRecord(zeebeState));
+    cache.putDeployment(3, creatingDeploymentRecord(zeebeState));
+  }
+
+  @Test
+  public void shouldReturnCachedWorkflow() {
+    // given
+    final var workflow = cache.getWorkflowByProcessIdAndVersion(PROCESS_ID, 1);
+
+    // when
+    final var cachedWorkflow = cache.getWorkflowByKey(workflow.getKey());
+
+    // then
+    assertThat(cachedWorkflow).isSameAs(workflow);
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedWorkflow() {
+    // given
+    final var workflow = cache.getWorkflowByProcessIdAndVersion(PROCESS_ID, 1);
+
+    // when
+    cache.getWorkflowByProcessIdAndVersion(PROCESS_ID, 2);
+
+    // then
+    final var reloadedWorkflow = cache.getWorkflowByProcessIdAndVersion(PROCESS_ID, 1);
+    assertThat(reloadedWorkflow).isNotSameAs(workflow);
+    assertThat(reloadedWorkflow.getKey()).isEqualTo(workflow.getKey());
+    assertThat(reloadedWorkflow.getVersion()).isEqualTo(1);
+    assertThat(reloadedWorkflow.getWorkflow().getId()).isEqualTo(PROCESS_ID);
+  }
+
+  @Test
+  public void shouldRefreshAccessOrderOnLookupByProcessIdAndVersion() {
+    // given
+    final var zeebeDb = stateRule.getZeebeDb();
+    final var cache =
+        new WorkflowPersistenceCache(
+            zeebeDb, zeebeDb.createContext(), Protocol.DEPLOYMENT_PARTITION, 2);
+    final var firstVersion = cache.getWorkflowByProcessIdAndVersion(PROCESS_ID, 1);
+    final var secondVersion = cache.getWorkflowByProcessIdAndVersion(PROCESS_ID, 2);
+
+    // when
+    cache.getWorkflowByProcessIdAndVersion(PROCESS_ID, 1);
+    cache.getLatestWorkflowVersionByProcessId(PROCESS_ID);
+
+    // then
+    assertThat(cache.getWorkflowByProcessIdAndVersion(PROCESS_ID, 1)).isSameAs(firstVersion);
+    assertThat(cache.getWorkflowByProcessIdAndVersion(PROCESS_ID, 2)).isNotSameAs(secondVersion);
+  }
+
+  @Test
+  public void shouldNotEvictLatestVersion() {
+    // given
+    final var latestWorkflow = cache.getLatestWorkflowVersionByProcessId(PROCESS_ID);
+
+    // when
+    cache.getWorkflowByProcessIdAndVersion(PROCESS_ID, 1);
+    cache.getWorkflowByProcessIdAndVersion(PROCESS_ID, 2);
+
+    // then
+    assertThat(latestWorkflow.getVersion()).isEqualTo(3);
+    assertThat(cache.getLatestWorkflowVersionByProcessId(PROCESS_ID)).isSameAs(latestWorkflow);
+    assertThat(cache.getWorkflowByKey(latestWorkflow.getKey())).isSameAs(latestWorkflow);
+  }
+
+  @Test
+  public void shouldReturnAllWorkflowsExceedingCapacity() {
+    // when
+    final var workflows = cache.getWorkflowsByBpmnProcessId(PROCESS_ID);
+
+    // then
+    assertThat(workflows).extracting(DeployedWorkflow::getVersion).containsExactly(1, 2, 3);
+    assertThat(cache.getWorkflows()).hasSize(3);
+  }
+}
@@ -18,6 +18,7 @@ import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
 import io.zeebe.protocol.record.value.BpmnElementType;
 import io.zeebe.test.util.MsgPackUtil;
 import io.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
 import java.util.List;
 import org.agrona.DirectBuffer;
 import org.assertj.core.api.Assertions;
@@ -215,6 +216,82 @@ public final class ElementInstanceStateTest {
     assertElementInstance(updatedParent, 1);
   }
 
+  @Test
+  public void shouldVisitChildInstances() {
+    // given
+    final WorkflowInstanceRecord workflowInstanceRecord = createWorkflowInstanceRecord();
+    final ElementInstance parentInstance =
+        elementInstanceState.newInstance(
+            100, workflowInstanceRecord, WorkflowInstanceIntent.ELEMENT_ACTIVATED);
+    elementInstanceState.newInstance(
+        parentInstance, 101, workflowInstanceRecord, WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+    elementInstanceState.newInstance(
+        parentInstance, 102, workflowInstanceRecord, WorkflowInstanceIntent.ELEMENT_ACTIVATED);
+    elementInstanceState.newInstance(
+        parentInstance, 103, workflowInstanceRecord, WorkflowInstanceIntent.ELEMENT_ACTIVATED);
+
+    // when
+    final List<Long> visitedChildren = new ArrayList<>();
+    elementInstanceState.forEachChild(
+        100L,
+        child -> {
+          visitedChildren.add(child.getKey());
+          return true;
+        });
+
+    // then
+    assertThat(visitedChildren).containsExactly(101L, 102L, 103L);
+  }
+
+  @Test
+  public void shouldStopVisitingChildInstances() {
+    // given
+    final WorkflowInstanceRecord workflowInstanceRecord = createWorkflowInstanceRecord();
+    final ElementInstance parentInstance =
+        elementInstanceState.newInstance(
+            100, workflowInstanceRecord, WorkflowInstanceIntent.ELEMENT_ACTIVATED);
+    elementInstanceState.newInstance(
+        parentInstance, 101, workflowInstanceRecord, WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+    elementInstanceState.newInstance(
+        parentInstance, 102, workflowInstanceRecord, WorkflowInstanceIntent.ELEMENT_ACTIVATED);
+
+    // when
+    final List<Long> visitedChildren = new ArrayList<>();
+    elementInstanceState.forEachChild(
+        100L,
+        child -> {
+          visitedChildren.add(child.getKey());
+          return false;
+        });
+
+    // then
+    assertThat(visitedChildren).containsExactly(101L);
+  }
+
+  @Test
+  public void shouldNotVisitChildInstancesOfRemovedParent() {
+    // given
+    final WorkflowInstanceRecord workflowInstanceRecord = createWorkflowInstanceRecord();
+    final ElementInstance parentInstance =
+        elementInstanceState.newInstance(
+            100, workflowInstanceRecord, WorkflowInstanceIntent.ELEMENT_ACTIVATED);
+    elementInstanceState.newInstance(
+        parentInstance, 101, workflowInstanceRecord, WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+    elementInstanceState.removeInstance(100L);
+
+    // when
+    final List<Long> visitedChildren = new ArrayList<>();
+    elementInstanceState.forEachChild(
+        100L,
+        child -> {
+          visitedChildren.add(child.getKey());
+          return true;
+        });
+
+    // then
+    assertThat(visitedChildren).isEmpty();
+  }
+
   @Test
   public void shouldUpdateElementInstance() {
     // given
@@ -233,6 +233,26 @@ public final class MessageStateTest {
     assertThat(readMessage).containsExactly(1L, 2L);
   }
 
+  @Test
+  public void shouldVisitMessagesBeforeTimeAfterLastVisitedMessage() {
+    // given
+    final Message message = createMessage(1L, "name", "correlationKey", "{}", "nr1", 1234);
+    final Message message2 = createMessage(2L, "name", "correlationKey", "{}", "nr2", 1234);
+    final Message message3 = createMessage(3L, "name", "correlationKey", "{}", "nr3", 2000);
+
+    messageState.put(message);
+    messageState.put(message2);
+    messageState.put(message3);
+
+    // when
+    final List<Long> readMessage = new ArrayList<>();
+    messageState.visitMessagesWithDeadlineBefore(
+        3_000L, message.getDeadline(), message.getKey(), m -> readMessage.add(m.getKey()));
+
+    // then
+    assertThat(readMessage).containsExactly(2L, 3L);
+  }
+
   @Test
   public void shouldRemoveMessage() {
     // given
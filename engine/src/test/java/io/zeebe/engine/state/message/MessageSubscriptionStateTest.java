@@ -10,6 +10,8 @@ package io.zeebe.engine.state.message;
 import static io.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.zeebe.db.DbContext;
+import io.zeebe.db.ZeebeDbTransaction;
 import io.zeebe.engine.state.ZeebeState;
 import io.zeebe.engine.util.ZeebeStateRule;
 import java.util.ArrayList;
@@ -329,6 +331,53 @@ public final class MessageSubscriptionStateTest {
     assertThat(keys).hasSize(1).contains(1L);
   }
 
+  @Test
+  public void shouldVisitSubscriptionWhichIsAddedAfterLookup() {
+    // given
+    final List<Long> keys = new ArrayList<>();
+    state.visitSubscriptions(
+        wrapString("messageName"),
+        wrapString("correlationKey"),
+        s -> keys.add(s.getElementInstanceKey()));
+
+    // when
+    state.put(subscription("messageName", "correlationKey", 1L));
+
+    // then
+    state.visitSubscriptions(
+        wrapString("messageName"),
+        wrapString("correlationKey"),
+        s -> keys.add(s.getElementInstanceKey()));
+
+    assertThat(keys).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldVisitSubscriptionIfRemoveIsRolledBack() throws Exception {
+    // given
+    final DbContext dbContext = stateRule.getZeebeDb().createContext();
+    final ZeebeState zeebeState = new ZeebeState(1, stateRule.getZeebeDb(), dbContext);
+    final MessageSubscriptionState subscriptionState = zeebeState.getMessageSubscriptionState();
+
+    subscriptionState.put(subscription("messageName", "correlationKey", 1L));
+
+    final ZeebeDbTransaction transaction = dbContext.getCurrentTransaction();
+    transaction.run(() -> subscriptionState.remove(1L, wrapString("messageName")));
+
+    // when
+    transaction.rollback();
+    zeebeState.onRollback();
+
+    // then
+    final List<Long> keys = new ArrayList<>();
+    subscriptionState.visitSubscriptions(
+        wrapString("messageName"),
+        wrapString("correlationKey"),
+        s -> keys.add(s.getElementInstanceKey()));
+
+    assertThat(keys).containsExactly(1L);
+  }
+
   private MessageSubscription subscriptionWithElementInstanceKey(final long elementInstanceKey) {
     return subscription("messageName", "correlationKey", elementInstanceKey);
   }
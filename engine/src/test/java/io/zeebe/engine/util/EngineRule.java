@@ -16,6 +16,7 @@ import io.zeebe.engine.processor.ReadonlyProcessingContext;
 import io.zeebe.engine.processor.RecordValues;
 import io.zeebe.engine.processor.StreamProcessorLifecycleAware;
 import io.zeebe.engine.processor.TypedEventImpl;
+import io.zeebe.engine.processor.workflow.EngineConfiguration;
 import io.zeebe.engine.processor.workflow.EngineProcessors;
 import io.zeebe.engine.processor.workflow.deployment.distribute.DeploymentDistributor;
 import io.zeebe.engine.processor.workflow.deployment.distribute.PendingDeploymentDistribution;
@@ -58,6 +59,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -78,6 +80,9 @@ public final class EngineRule extends ExternalResource {
   private final int partitionCount;
   private final boolean explicitStart;
   private Consumer<String> jobsAvailableCallback = type -> {};
+  // parse the deployment resources asynchronously, like the broker
+  private final EngineConfiguration engineConfiguration =
+      new EngineConfiguration().setDeploymentResourceParserExecutor(ForkJoinPool.commonPool());
 
   private final Int2ObjectHashMap<SubscriptionCommandMessageHandler> subscriptionHandlers =
       new Int2ObjectHashMap<>();
@@ -162,7 +167,8 @@ public final class EngineRule extends ExternalResource {
                               partitionId, new PartitionCommandSenderImpl()),
                           new DeploymentDistributionImpl(),
                           (key, partition) -> {},
-                          jobsAvailableCallback)
+                          jobsAvailableCallback,
+                          engineConfiguration)
                       .withListener(new ProcessingExporterTransistor()));
 
           // sequenialize the commands to avoid concurrency
@@ -53,6 +53,10 @@ public final class ZeebeStateRule extends ExternalResource {
     return zeebeState;
   }
 
+  public ZeebeDb<ZbColumnFamilies> getZeebeDb() {
+    return db;
+  }
+
   public KeyGenerator getKeyGenerator() {
     return zeebeState.getKeyGenerator();
   }
@@ -8,18 +8,29 @@
 package io.zeebe.el.impl.feel
 
 import io.zeebe.el.EvaluationContext
+import io.zeebe.util.buffer.BufferUtil.cloneBuffer
+import org.agrona.DirectBuffer
 import org.camunda.feel.context.{CustomContext, VariableProvider}
 
+import scala.collection.mutable
+
 class FeelVariableContext(context: EvaluationContext) extends CustomContext {
 
   override val variableProvider: VariableProvider = new EvaluationContextWrapper
 
   class EvaluationContextWrapper extends VariableProvider {
 
-    override def getVariable(name: String): Option[Any] = {
+    // the evaluation context may reuse the returned buffer - copy a variable once on the first
+    // access so that the MessagePack contexts can refer to it without copying the nested values
+    private val resolvedVariables = mutable.HashMap.empty[String, Option[DirectBuffer]]
+
+    override def getVariable(name: String): Option[Any] =
+      resolvedVariables.getOrElseUpdate(name, resolveVariable(name))
+
+    private def resolveVariable(name: String): Option[DirectBuffer] =
       Option(context.getVariable(name))
         .filter(_.capacity > 0)
-    }
+        .map(cloneBuffer)
 
     override def keys: Iterable[String] = List.empty
   }
@@ -7,61 +7,104 @@
  */
 package io.zeebe.el.impl.feel
 
+import java.nio.charset.StandardCharsets
+
 import io.zeebe.msgpack.spec.MsgPackReader
-import io.zeebe.util.buffer.BufferUtil.{bufferAsString, cloneBuffer}
+import io.zeebe.util.buffer.BufferUtil.{bufferAsString, cloneBuffer, equals => buffersEqual}
 import org.agrona.DirectBuffer
 import org.agrona.concurrent.UnsafeBuffer
 import org.camunda.feel.context.{CustomContext, VariableProvider}
 
+import scala.collection.mutable
+
+/**
+ * A FEEL context that is backed by a MessagePack encoded map. The entries of the map are not
+ * decoded upfront. Instead, a variable is resolved on the first access by scanning the map and
+ * comparing the encoded keys. Only the resolved entries are cached.
+ *
+ * The given buffer must not be modified while the context is in use, since the entries are
+ * returned as views on it.
+ *
+ * @param buffer the buffer that contains the MessagePack map
+ * @param offset the offset of the map header in the buffer
+ * @param length the total length of the map, including its header
+ */
 class MessagePackContext(
-                          reader: MsgPackReader,
+                          buffer: DirectBuffer,
                           offset: Int,
-                          size: Int
+                          length: Int
                         ) extends CustomContext {
 
-  private val valueOffsets: Map[String, (Int, Int)] = readValueOffsets(reader, size)
-  private val length = reader.getOffset - offset
-
-  val messagePackMap: DirectBuffer = cloneBuffer(reader.getBuffer, offset, length)
+  val messagePackMap: DirectBuffer = new UnsafeBuffer(buffer, offset, length)
 
   override val variableProvider: VariableProvider = new MessagePackMapVariableProvider(messagePackMap)
 
   class MessagePackMapVariableProvider(entries: DirectBuffer) extends VariableProvider {
 
-    private val resultView = new UnsafeBuffer
-
-    override def keys: Iterable[String] = valueOffsets.keys
+    private lazy val reader = new MsgPackReader
+    private lazy val nameBuffer = new UnsafeBuffer
 
-    override def getVariable(name: String): Option[Any] = {
-      valueOffsets
-        .get(name)
-        .map { case (offset, length) =>
-          resultView.wrap(entries, offset, length)
-          resultView
-        }
-    }
+    private val resolvedEntries = mutable.HashMap.empty[String, Option[DirectBuffer]]
 
-    override def getVariables: Map[String, Any] = valueOffsets.map { case (key, (offset, length)) =>
-      key -> cloneBuffer(entries, offset, length)
+    override def keys: Iterable[String] = {
+      val keys = List.newBuilder[String]
+      scanEntries { (key, _, _) =>
+        keys += bufferAsString(key)
+        false
+      }
+      keys.result()
     }
 
-  }
+    override def getVariable(name: String): Option[Any] =
+      resolvedEntries.getOrElseUpdate(name, findEntry(name))
 
-  private def readValueOffsets(reader: MsgPackReader, size: Int): Map[String, (Int, Int)] = {
-    val offsets = (0 until size).map { _ =>
+    override def getVariables: Map[String, Any] = {
+      val variables = Map.newBuilder[String, Any]
+      scanEntries { (key, valueOffset, valueLength) =>
+        variables += bufferAsString(key) -> cloneBuffer(entries, valueOffset, valueLength)
+        false
+      }
+      variables.result()
+    }
 
-      val keyToken = reader.readToken()
-      val keyBuffer = keyToken.getValueBuffer
-      val key = bufferAsString(keyBuffer)
+    private def findEntry(name: String): Option[DirectBuffer] = {
+      nameBuffer.wrap(name.getBytes(StandardCharsets.UTF_8))
 
-      val valueOffset = reader.getOffset
-      reader.skipValue()
-      val valueLength = reader.getOffset - valueOffset
+      var entry: Option[DirectBuffer] = None
+      scanEntries { (key, valueOffset, valueLength) =>
+        if (buffersEqual(key, nameBuffer)) {
+          entry = Some(new UnsafeBuffer(entries, valueOffset, valueLength))
+          true
+        } else {
+          false
+        }
+      }
+      entry
+    }
 
-      key -> (valueOffset, valueLength)
+    /**
+     * Iterates over the entries of the map until the visitor returns true. The visitor gets the
+     * key as view on the buffer, and the offset and the length of the encoded value.
+     */
+    private def scanEntries(visitor: (DirectBuffer, Int, Int) => Boolean): Unit = {
+      reader.wrap(entries, 0, entries.capacity)
+      val size = reader.readMapHeader()
+
+      var found = false
+      var i = 0
+      while (i < size && !found) {
+        val keyToken = reader.readToken()
+        val key = keyToken.getValueBuffer
+
+        val valueOffset = reader.getOffset
+        reader.skipValue()
+        val valueLength = reader.getOffset - valueOffset
+
+        found = visitor(key, valueOffset, valueLength)
+        i += 1
+      }
     }
 
-    offsets.toMap
   }
 
 }
@@ -56,10 +56,13 @@ class MessagePackValueMapper extends CustomValueMapper {
         ValList(items)
       }
       case MsgPackType.MAP => {
+        // skip the entries - they are read lazily by the context on access
+        reader.skipValues(2L * token.getSize)
+
         val context = new MessagePackContext(
-          reader = reader,
+          buffer = reader.getBuffer,
           offset = offset,
-          size = token.getSize
+          length = reader.getOffset - offset
         )
 
         ValContext(context)
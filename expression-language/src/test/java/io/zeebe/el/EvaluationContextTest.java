@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Map;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Test;
 
 public class EvaluationContextTest {
@@ -103,6 +104,41 @@ public class EvaluationContextTest {
     assertThat(evaluationResult.toBuffer()).isEqualTo(variable);
   }
 
+  @Test
+  public void contextEntry() {
+    final var variable = asMsgPack(Map.of("y", 1, "z", Map.of("a", "b")));
+
+    final var parseExpression = expressionLanguage.parseExpression("=x.z.a");
+    final var evaluationResult =
+        expressionLanguage.evaluateExpression(parseExpression, Map.of("x", variable)::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.STRING);
+    assertThat(evaluationResult.getString()).isEqualTo("b");
+  }
+
+  @Test
+  public void contextVariablesFromReusedBuffer() {
+    final var variables =
+        Map.of("x", asMsgPack(Map.of("a", 1)), "y", asMsgPack(Map.of("a", 2, "b", 3)));
+
+    // the evaluation context reuses the same buffer for all variables
+    final var reusedBuffer = new UnsafeBuffer(new byte[64]);
+    final var resultView = new UnsafeBuffer();
+    final EvaluationContext context =
+        name -> {
+          final var variable = variables.get(name);
+          reusedBuffer.putBytes(0, variable, 0, variable.capacity());
+          resultView.wrap(reusedBuffer, 0, variable.capacity());
+          return resultView;
+        };
+
+    final var parseExpression = expressionLanguage.parseExpression("=x.a + y.a + y.b");
+    final var evaluationResult = expressionLanguage.evaluateExpression(parseExpression, context);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.NUMBER);
+    assertThat(evaluationResult.getNumber()).isEqualTo(6L);
+  }
+
   private EvaluationResult evaluateExpressionWithContext(final DirectBuffer variable) {
     final var parseExpression = expressionLanguage.parseExpression("=x");
     final var evaluationResult =
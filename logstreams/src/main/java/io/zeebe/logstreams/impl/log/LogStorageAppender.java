@@ -43,6 +43,7 @@ public final class LogStorageAppender extends Actor implements HealthMonitorable
       Map.of("vegas", new AppenderVegasCfg(), "gradient2", new AppenderGradient2Cfg());
 
   private final String name;
+  private final int partitionId;
   private final Subscription writeBufferSubscription;
   private final int maxAppendBlockSize;
   private final LogStorage logStorage;
@@ -61,6 +62,7 @@ public final class LogStorageAppender extends Actor implements HealthMonitorable
       final int maxBlockSize) {
     this.env = new Environment();
     this.name = name;
+    this.partitionId = partitionId;
     this.logStorage = logStorage;
     this.writeBufferSubscription = writeBufferSubscription;
     this.maxAppendBlockSize = maxBlockSize;
@@ -134,6 +136,11 @@ public final class LogStorageAppender extends Actor implements HealthMonitorable
     return name;
   }
 
+  @Override
+  public int getPartitionAffinity() {
+    return partitionId;
+  }
+
   @Override
   protected void onActorStarting() {
     actor.consume(writeBufferSubscription, this::onWriteBufferAvailable);
@@ -9,7 +9,6 @@ package io.zeebe.logstreams.impl.log;
 
 import static io.zeebe.dispatcher.impl.log.DataFrameDescriptor.alignedFramedLength;
 import static io.zeebe.dispatcher.impl.log.LogBufferAppender.RESULT_PADDING_AT_END_OF_PARTITION;
-import static io.zeebe.logstreams.impl.log.LogEntryDescriptor.HEADER_BLOCK_LENGTH;
 import static io.zeebe.logstreams.impl.log.LogEntryDescriptor.headerLength;
 import static io.zeebe.logstreams.impl.log.LogEntryDescriptor.metadataOffset;
 import static io.zeebe.logstreams.impl.log.LogEntryDescriptor.setKey;
@@ -30,6 +29,7 @@ import io.zeebe.protocol.Protocol;
 import io.zeebe.util.buffer.BufferWriter;
 import io.zeebe.util.buffer.DirectBufferWriter;
 import io.zeebe.util.sched.clock.ActorClock;
+import java.util.Arrays;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableDirectByteBuffer;
 import org.agrona.LangUtil;
@@ -37,6 +37,7 @@ import org.agrona.MutableDirectBuffer;
 
 public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, LogEntryBuilder {
   private static final int INITIAL_BUFFER_CAPACITY = 1024 * 32;
+  private static final int INITIAL_EVENT_CAPACITY = 16;
 
   private final ClaimedFragmentBatch claimedBatch = new ClaimedFragmentBatch();
 
@@ -47,8 +48,9 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
   private final DirectBufferWriter bufferWriterInstance = new DirectBufferWriter();
 
   private int eventBufferOffset;
-  private int eventLength;
   private int eventCount;
+  private int[] fragmentLengths = new int[INITIAL_EVENT_CAPACITY];
+  private long[] positions = new long[INITIAL_EVENT_CAPACITY];
 
   private final Dispatcher logWriteBuffer;
   private final int logId;
@@ -89,7 +91,6 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
   @Override
   public void reset() {
     eventBufferOffset = 0;
-    eventLength = 0;
     eventCount = 0;
     sourceEventPosition = -1L;
     resetEvent();
@@ -183,7 +184,11 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
     valueWriter.write(eventBuffer, eventBufferOffset);
     eventBufferOffset += valueLength;
 
-    eventLength += metadataLength + valueLength;
+    if (eventCount == fragmentLengths.length) {
+      fragmentLengths = Arrays.copyOf(fragmentLengths, eventCount * 2);
+      positions = Arrays.copyOf(positions, eventCount * 2);
+    }
+    fragmentLengths[eventCount] = headerLength(metadataLength) + valueLength;
     eventCount += 1;
   }
 
@@ -215,11 +220,10 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
   }
 
   private long claimBatchForEvents() {
-    final int batchLength = eventLength + (eventCount * HEADER_BLOCK_LENGTH);
-
     long claimedPosition = -1;
     do {
-      claimedPosition = logWriteBuffer.claim(claimedBatch, eventCount, batchLength);
+      // the lengths of all events are known, so the batch is claimed without reserving extra space
+      claimedPosition = logWriteBuffer.claim(claimedBatch, fragmentLengths, eventCount);
     } while (claimedPosition == RESULT_PADDING_AT_END_OF_PARTITION);
 
     return claimedPosition;
@@ -229,7 +233,6 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
     long lastEventPosition = -1L;
     eventBufferOffset = 0;
 
-    final long[] positions = new long[eventCount];
     for (int i = 0; i < eventCount; i++) {
       final long key = eventBuffer.getLong(eventBufferOffset, Protocol.ENDIANNESS);
       eventBufferOffset += SIZE_OF_LONG;
@@ -243,7 +246,7 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
       final int valueLength = eventBuffer.getInt(eventBufferOffset, Protocol.ENDIANNESS);
       eventBufferOffset += SIZE_OF_INT;
 
-      final int fragmentLength = headerLength(metadataLength) + valueLength;
+      final int fragmentLength = fragmentLengths[i];
 
       // allocate fragment for log entry
       final long nextFragmentPosition = claimedBatch.nextFragment(fragmentLength, logId);
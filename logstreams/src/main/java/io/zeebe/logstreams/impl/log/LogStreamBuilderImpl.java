@@ -19,6 +19,7 @@ import java.util.Objects;
 public final class LogStreamBuilderImpl implements LogStreamBuilder {
   private static final int MINIMUM_FRAGMENT_SIZE = 4 * 1024;
   private int maxFragmentSize = 1024 * 1024 * 4;
+  private int maxBufferSize = -1;
   private int partitionId = -1;
   private ActorScheduler actorScheduler;
   private LogStorage logStorage;
@@ -37,6 +38,12 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public LogStreamBuilder withMaxBufferSize(final int maxBufferSize) {
+    this.maxBufferSize = maxBufferSize;
+    return this;
+  }
+
   @Override
   public LogStreamBuilder withLogStorage(final LogStorage logStorage) {
     this.logStorage = logStorage;
@@ -73,6 +80,7 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
             partitionId,
             nodeId,
             maxFragmentSize,
+            maxBufferSize,
             logStorage);
 
     final var logstreamInstallFuture = new CompletableActorFuture<LogStream>();
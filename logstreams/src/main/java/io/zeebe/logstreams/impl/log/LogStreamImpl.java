@@ -42,6 +42,7 @@ public final class LogStreamImpl extends Actor implements LogStream, FailureList
   private final String logName;
   private final int partitionId;
   private final int maxFrameLength;
+  private final int maxBufferSize;
   private final ActorScheduler actorScheduler;
   private final List<LogStreamReader> readers;
   private final LogStreamReaderImpl reader;
@@ -63,6 +64,7 @@ public final class LogStreamImpl extends Actor implements LogStream, FailureList
       final int partitionId,
       final int nodeId,
       final int maxFrameLength,
+      final int maxBufferSize,
       final LogStorage logStorage) {
     this.actorScheduler = actorScheduler;
     this.onCommitPositionUpdatedConditions = onCommitPositionUpdatedConditions;
@@ -73,6 +75,7 @@ public final class LogStreamImpl extends Actor implements LogStream, FailureList
     this.actorName = buildActorName(nodeId, "LogStream-" + partitionId);
 
     this.maxFrameLength = maxFrameLength;
+    this.maxBufferSize = maxBufferSize;
     this.logStorage = logStorage;
     this.closeFuture = new CompletableActorFuture<>();
 
@@ -265,6 +268,7 @@ public final class LogStreamImpl extends Actor implements LogStream, FailureList
     writeBuffer =
         Dispatchers.create(buildActorName(nodeId, "dispatcher-" + partitionId))
             .maxFragmentLength(maxFrameLength)
+            .maxBufferSize(maxBufferSize)
             .initialPartitionId(initialDispatcherPartitionId + 1)
             .name(logName + "-write-buffer")
             .actorScheduler(actorScheduler)
@@ -31,6 +31,16 @@ public interface LogStreamBuilder {
    */
   LogStreamBuilder withMaxFragmentSize(int maxFragmentSize);
 
+  /**
+   * The max size of the shared write buffer. If set, the buffer starts with the size which is
+   * required for the max fragment size and grows up to the given size if the log storage can't keep
+   * up with the writers. The max fragment size is not increased by the buffer growth.
+   *
+   * @param maxBufferSize the max buffer size in bytes, or a value <= 0 to use a fixed buffer size
+   * @return this builder
+   */
+  LogStreamBuilder withMaxBufferSize(int maxBufferSize);
+
   /**
    * The underlying log storage to read from/write to.
    *
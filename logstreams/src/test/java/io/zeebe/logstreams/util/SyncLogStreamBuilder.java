@@ -41,6 +41,12 @@ public final class SyncLogStreamBuilder implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public SyncLogStreamBuilder withMaxBufferSize(final int maxBufferSize) {
+    delegate.withMaxBufferSize(maxBufferSize);
+    return this;
+  }
+
   @Override
   public SyncLogStreamBuilder withLogStorage(final LogStorage logStorage) {
     delegate.withLogStorage(logStorage);
@@ -0,0 +1,137 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH result files (written with {@code -rf json}) and fails if a benchmark regressed
+ * by more than the given threshold in percent. Benchmarks in throughput mode regress if their score
+ * decreases, all other modes measure a time and regress if their score increases. Benchmarks which
+ * exist only in one of the files are ignored.
+ *
+ * <p>Usage: {@code BenchmarkComparison <baseline.json> <result.json> [threshold]}
+ */
+public final class BenchmarkComparison {
+
+  private static final double DEFAULT_THRESHOLD = 10.0;
+  private static final String THROUGHPUT_MODE = "thrpt";
+
+  private BenchmarkComparison() {}
+
+  public static void main(final String[] args) throws IOException {
+    if (args.length < 2) {
+      System.err.println("Usage: BenchmarkComparison <baseline.json> <result.json> [threshold]");
+      System.exit(2);
+    }
+
+    final double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+    final File baselineFile = new File(args[0]);
+    if (!baselineFile.exists()) {
+      System.out.printf("No baseline found at %s, skip the comparison.%n", baselineFile);
+      return;
+    }
+
+    final Map<String, Score> baseline = readScores(baselineFile);
+    final Map<String, Score> result = readScores(new File(args[1]));
+
+    int regressions = 0;
+    for (final Entry<String, Score> entry : result.entrySet()) {
+      final Score baselineScore = baseline.get(entry.getKey());
+      if (baselineScore == null) {
+        continue;
+      }
+
+      final Score score = entry.getValue();
+      final double change = score.changeInPercent(baselineScore);
+      final boolean hasRegressed = change < -threshold;
+      if (hasRegressed) {
+        regressions += 1;
+      }
+
+      System.out.printf(
+          "%s %s: %.3f -> %.3f %s (%+.1f%%)%n",
+          hasRegressed ? "REGRESSION" : "ok        ",
+          entry.getKey(),
+          baselineScore.value,
+          score.value,
+          score.unit,
+          change);
+    }
+
+    if (regressions > 0) {
+      System.out.printf(
+          "%d benchmark(s) regressed by more than %.1f%% compared to the baseline.%n",
+          regressions, threshold);
+      System.exit(1);
+    }
+  }
+
+  private static Map<String, Score> readScores(final File file) throws IOException {
+    final JsonNode results = new ObjectMapper().readTree(file);
+    final Map<String, Score> scores = new LinkedHashMap<>();
+
+    for (final JsonNode result : results) {
+      final String key = result.get("benchmark").asText() + formatParams(result.get("params"));
+      final JsonNode primaryMetric = result.get("primaryMetric");
+      scores.put(
+          key,
+          new Score(
+              primaryMetric.get("score").asDouble(),
+              primaryMetric.get("scoreUnit").asText(),
+              THROUGHPUT_MODE.equals(result.get("mode").asText())));
+    }
+
+    return scores;
+  }
+
+  private static String formatParams(final JsonNode params) {
+    if (params == null) {
+      return "";
+    }
+
+    // sort the parameters to get the same key regardless of the order in the file
+    final Map<String, String> sortedParams = new TreeMap<>();
+    final Iterator<Entry<String, JsonNode>> fields = params.fields();
+    while (fields.hasNext()) {
+      final Entry<String, JsonNode> field = fields.next();
+      sortedParams.put(field.getKey(), field.getValue().asText());
+    }
+    return sortedParams.toString();
+  }
+
+  private static final class Score {
+    private final double value;
+    private final String unit;
+    private final boolean isHigherBetter;
+
+    private Score(final double value, final String unit, final boolean isHigherBetter) {
+      this.value = value;
+      this.unit = unit;
+      this.isHigherBetter = isHigherBetter;
+    }
+
+    /** @return the improvement in percent compared to the baseline, negative if it is worse */
+    private double changeInPercent(final Score baseline) {
+      if (baseline.value == 0) {
+        return 0;
+      }
+
+      final double change = (value - baseline.value) / baseline.value * 100;
+      return isHigherBetter ? change : -change;
+    }
+  }
+}
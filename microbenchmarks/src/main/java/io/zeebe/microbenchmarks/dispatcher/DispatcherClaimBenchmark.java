@@ -0,0 +1,117 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks.dispatcher;
+
+import io.zeebe.dispatcher.BlockPeek;
+import io.zeebe.dispatcher.ClaimedFragment;
+import io.zeebe.dispatcher.Dispatcher;
+import io.zeebe.dispatcher.Dispatchers;
+import io.zeebe.dispatcher.Subscription;
+import io.zeebe.util.sched.ActorScheduler;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Control;
+
+/**
+ * Measures the throughput of publishers claiming and committing fragments of the dispatcher while a
+ * single subscriber consumes them in blocks, like the log stream writers and the log storage
+ * appender. The number of publishers can be changed with {@code -tg <publishers>,1}.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class DispatcherClaimBenchmark {
+
+  private static final int BUFFER_SIZE = 16 * 1024 * 1024;
+  private static final int MAX_BLOCK_SIZE = 1024 * 1024;
+  private static final String SUBSCRIPTION_NAME = "benchmark";
+
+  @Param({"64", "512", "4096"})
+  public int fragmentLength;
+
+  private ActorScheduler scheduler;
+  private Dispatcher dispatcher;
+  private Subscription subscription;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    scheduler.start();
+
+    dispatcher =
+        Dispatchers.create("benchmark")
+            .actorScheduler(scheduler)
+            .bufferSize(BUFFER_SIZE)
+            .build();
+    subscription = dispatcher.openSubscription(SUBSCRIPTION_NAME);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    dispatcher.closeAsync().join();
+    scheduler.stop().get();
+  }
+
+  @Benchmark
+  @Group("claim")
+  @GroupThreads(2)
+  public long publish(final PublisherState publisher, final Control control) {
+    long position;
+    do {
+      position = dispatcher.claim(publisher.claimedFragment, fragmentLength);
+    } while (position <= 0 && !control.stopMeasurement);
+
+    if (position > 0) {
+      publisher.claimedFragment.getBuffer().putLong(publisher.claimedFragment.getOffset(), 1L);
+      publisher.claimedFragment.commit();
+    }
+    return position;
+  }
+
+  @Benchmark
+  @Group("claim")
+  @GroupThreads(1)
+  public int consume(final ConsumerState consumer) {
+    final int bytes = subscription.peekBlock(consumer.blockPeek, MAX_BLOCK_SIZE, false);
+    if (bytes > 0) {
+      consumer.blockPeek.markCompleted();
+    }
+    return bytes;
+  }
+
+  @State(Scope.Thread)
+  public static class PublisherState {
+    private final ClaimedFragment claimedFragment = new ClaimedFragment();
+  }
+
+  @State(Scope.Thread)
+  public static class ConsumerState {
+    private final BlockPeek blockPeek = new BlockPeek();
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks.sched;
+
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorCondition;
+import io.zeebe.util.sched.ActorScheduler;
+import io.zeebe.util.sched.future.ActorFuture;
+import io.zeebe.util.sched.future.CompletableActorFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the latency from signaling an {@link ActorCondition} until the condition action of the
+ * actor is executed, e.g. when a dispatcher subscription notifies its consumer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ActorConditionBenchmark {
+
+  private ActorScheduler scheduler;
+  private ConditionActor conditionActor;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    scheduler.start();
+
+    conditionActor = new ConditionActor();
+    scheduler.submitActor(conditionActor).join();
+    conditionActor.registerCondition().join();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    conditionActor.closeAsync().join();
+    scheduler.stop().get();
+  }
+
+  @Benchmark
+  public Void signal() {
+    final CompletableActorFuture<Void> signaled = new CompletableActorFuture<>();
+    conditionActor.pending = signaled;
+    conditionActor.condition.signal();
+    return signaled.join();
+  }
+
+  private static final class ConditionActor extends Actor {
+
+    private volatile ActorCondition condition;
+    private volatile CompletableActorFuture<Void> pending;
+
+    ActorFuture<Void> registerCondition() {
+      return actor.call(
+          () -> {
+            condition = actor.onCondition("benchmark", this::onSignal);
+          });
+    }
+
+    private void onSignal() {
+      final CompletableActorFuture<Void> future = pending;
+      if (future != null) {
+        pending = null;
+        future.complete(null);
+      }
+    }
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks.sched;
+
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorScheduler;
+import io.zeebe.util.sched.future.ActorFuture;
+import io.zeebe.util.sched.future.CompletableActorFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the latency of submitting work to an actor from a non-actor thread and of the
+ * call/runOnCompletion round trip between two actors, which is the path of most of the broker's
+ * request handling.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ActorRoundTripBenchmark {
+
+  private ActorScheduler scheduler;
+  private PingActor pingActor;
+  private PongActor pongActor;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(2)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    scheduler.start();
+
+    pongActor = new PongActor();
+    pingActor = new PingActor(pongActor);
+    scheduler.submitActor(pongActor).join();
+    scheduler.submitActor(pingActor).join();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    pingActor.closeAsync().join();
+    pongActor.closeAsync().join();
+    scheduler.stop().get();
+  }
+
+  @Benchmark
+  public Integer call() {
+    return pongActor.increment().join();
+  }
+
+  @Benchmark
+  public Integer submitChain() {
+    return pingActor.submitChain(16).join();
+  }
+
+  @Benchmark
+  public Integer callAndRunOnCompletion() {
+    return pingActor.roundTrip().join();
+  }
+
+  private static final class PingActor extends Actor {
+
+    private final PongActor pongActor;
+    private int remainingSubmits;
+
+    private PingActor(final PongActor pongActor) {
+      this.pongActor = pongActor;
+    }
+
+    ActorFuture<Integer> roundTrip() {
+      final CompletableActorFuture<Integer> result = new CompletableActorFuture<>();
+      actor.run(
+          () ->
+              actor.runOnCompletion(
+                  pongActor.increment(),
+                  (value, error) -> {
+                    if (error == null) {
+                      result.complete(value);
+                    } else {
+                      result.completeExceptionally(error);
+                    }
+                  }));
+      return result;
+    }
+
+    ActorFuture<Integer> submitChain(final int length) {
+      final CompletableActorFuture<Integer> result = new CompletableActorFuture<>();
+      actor.run(
+          () -> {
+            remainingSubmits = length;
+            submitNext(result, length);
+          });
+      return result;
+    }
+
+    private void submitNext(final CompletableActorFuture<Integer> result, final int length) {
+      if (--remainingSubmits > 0) {
+        actor.submit(() -> submitNext(result, length));
+      } else {
+        result.complete(length);
+      }
+    }
+  }
+
+  private static final class PongActor extends Actor {
+
+    private int counter;
+
+    ActorFuture<Integer> increment() {
+      return actor.call(() -> ++counter);
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks.sched;
+
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorJob;
+import io.zeebe.util.sched.ActorTask;
+import io.zeebe.util.sched.ActorTimerQueue;
+import io.zeebe.util.sched.TimerSubscription;
+import io.zeebe.util.sched.clock.ControlledActorClock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the timer queue of an actor thread in isolation: scheduling and canceling a timer (e.g.
+ * a request timeout which is not reached) and scheduling a batch of timers which all expire.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ActorTimerQueueBenchmark {
+
+  @Param({"1", "1000"})
+  public int scheduledTimers;
+
+  private ControlledActorClock clock;
+  private ActorTimerQueue timerQueue;
+  private TimerSubscription[] timers;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    clock = new ControlledActorClock();
+    clock.pinCurrentTime();
+    timerQueue = new ActorTimerQueue(clock);
+
+    // the task is never scheduled, so expired timers don't wake it up
+    final ActorTask task = new ActorTask(new NoopActor());
+
+    timers = new TimerSubscription[scheduledTimers];
+    for (int i = 0; i < scheduledTimers; i++) {
+      final ActorJob job = new ActorJob();
+      job.onJobAddedToTask(task);
+
+      // spread the deadlines over multiple ticks of the timer wheel
+      timers[i] = new TimerSubscription(job, 1 + (i % 100), TimeUnit.MILLISECONDS, false);
+    }
+  }
+
+  @Benchmark
+  public void scheduleAndRemove() {
+    for (final TimerSubscription timer : timers) {
+      timerQueue.schedule(timer, clock);
+    }
+
+    for (final TimerSubscription timer : timers) {
+      timerQueue.remove(timer);
+    }
+  }
+
+  @Benchmark
+  public void scheduleAndExpire() {
+    for (final TimerSubscription timer : timers) {
+      timerQueue.schedule(timer, clock);
+    }
+
+    clock.addTime(Duration.ofMillis(100));
+    timerQueue.processExpiredTimers(clock);
+  }
+
+  private static final class NoopActor extends Actor {}
+}
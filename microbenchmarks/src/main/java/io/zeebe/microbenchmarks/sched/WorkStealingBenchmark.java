@@ -0,0 +1,164 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.microbenchmarks.sched;
+
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorScheduler;
+import io.zeebe.util.sched.future.ActorFuture;
+import io.zeebe.util.sched.future.CompletableActorFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the work-stealing scheduler with many actors on a few threads, with and without
+ * partition affinity. Two consecutive actors belong to the same partition, like the stream
+ * processor and the log stream of a broker partition.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class WorkStealingBenchmark {
+
+  private static final int ROUND_TRIPS = 100;
+
+  @Param({"8", "32"})
+  public int actorCount;
+
+  @Param({"2", "4"})
+  public int threadCount;
+
+  @Param({"false", "true"})
+  public boolean partitionAffinity;
+
+  private ActorScheduler scheduler;
+  private PartitionActor[] actors;
+  private ActorFuture<?>[] futures;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(threadCount)
+            .setIoBoundActorThreadCount(1)
+            .setPartitionAffinityEnabled(partitionAffinity)
+            .build();
+    scheduler.start();
+
+    actors = new PartitionActor[actorCount];
+    futures = new ActorFuture[actorCount];
+    for (int i = 0; i < actorCount; i++) {
+      actors[i] = new PartitionActor(i / 2);
+    }
+
+    for (int i = 0; i < actorCount; i += 2) {
+      actors[i].partner = actors[i + 1];
+      actors[i + 1].partner = actors[i];
+    }
+
+    for (final PartitionActor actor : actors) {
+      scheduler.submitActor(actor).join();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    for (final PartitionActor actor : actors) {
+      actor.closeAsync().join();
+    }
+    scheduler.stop().get();
+  }
+
+  /** Submits a job to every actor and waits until all jobs are executed. */
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public void submitRound() {
+    for (int i = 0; i < actors.length; i++) {
+      futures[i] = actors[i].increment();
+    }
+
+    for (final ActorFuture<?> future : futures) {
+      future.join();
+    }
+  }
+
+  /**
+   * Sends messages back and forth between all pairs of actors of the same partition concurrently.
+   * With partition affinity, both actors of a pair stay on the same thread.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  @OperationsPerInvocation(ROUND_TRIPS)
+  public void pingPong() {
+    for (int i = 0; i < actors.length; i += 2) {
+      futures[i] = actors[i].pingPong(ROUND_TRIPS);
+    }
+
+    for (int i = 0; i < actors.length; i += 2) {
+      futures[i].join();
+    }
+  }
+
+  private static final class PartitionActor extends Actor {
+
+    private final int partitionId;
+    private PartitionActor partner;
+    private int counter;
+
+    private PartitionActor(final int partitionId) {
+      this.partitionId = partitionId;
+    }
+
+    @Override
+    public int getPartitionAffinity() {
+      return partitionId;
+    }
+
+    ActorFuture<Integer> increment() {
+      return actor.call(() -> ++counter);
+    }
+
+    ActorFuture<Void> pingPong(final int roundTrips) {
+      final CompletableActorFuture<Void> result = new CompletableActorFuture<>();
+      actor.run(() -> ping(roundTrips, result));
+      return result;
+    }
+
+    private void ping(final int remaining, final CompletableActorFuture<Void> result) {
+      if (remaining == 0) {
+        result.complete(null);
+        return;
+      }
+
+      actor.runOnCompletion(
+          partner.increment(),
+          (value, error) -> {
+            if (error == null) {
+              ping(remaining - 1, result);
+            } else {
+              result.completeExceptionally(error);
+            }
+          });
+    }
+  }
+}
@@ -16,7 +16,8 @@ public final class AbortableRetryStrategy implements RetryStrategy {
 
   private final ActorControl actor;
   private final ActorRetryMechanism retryMechanism;
-  private CompletableActorFuture<Boolean> currentFuture;
+  private final CompletableActorFuture<Boolean> currentFuture = new CompletableActorFuture<>();
+  private final Runnable retryRunnable = this::run;
 
   public AbortableRetryStrategy(final ActorControl actor) {
     this.actor = actor;
@@ -31,10 +32,11 @@ public final class AbortableRetryStrategy implements RetryStrategy {
   @Override
   public ActorFuture<Boolean> runWithRetry(
       final OperationToRetry callable, final BooleanSupplier condition) {
-    currentFuture = new CompletableActorFuture<>();
+    currentFuture.close();
+    currentFuture.setAwaitingResult();
     retryMechanism.wrap(callable, condition, currentFuture);
 
-    actor.runUntilDone(this::run);
+    actor.runUntilDone(retryRunnable);
 
     return currentFuture;
   }
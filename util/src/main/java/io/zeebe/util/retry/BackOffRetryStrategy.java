@@ -15,11 +15,14 @@ import java.util.function.BooleanSupplier;
 
 public final class BackOffRetryStrategy implements RetryStrategy {
 
+  private static final Duration INITIAL_BACK_OFF = Duration.ofSeconds(1);
+
   private final ActorControl actor;
   private final Duration maxBackOff;
+  private final CompletableActorFuture<Boolean> currentFuture = new CompletableActorFuture<>();
+  private final Runnable retryRunnable = this::run;
 
   private Duration backOffDuration;
-  private CompletableActorFuture<Boolean> currentFuture;
   private BooleanSupplier currentTerminateCondition;
   private OperationToRetry currentCallable;
 
@@ -36,12 +39,13 @@ public final class BackOffRetryStrategy implements RetryStrategy {
   @Override
   public ActorFuture<Boolean> runWithRetry(
       final OperationToRetry callable, final BooleanSupplier terminateCondition) {
-    currentFuture = new CompletableActorFuture<>();
+    currentFuture.close();
+    currentFuture.setAwaitingResult();
     this.currentTerminateCondition = terminateCondition;
     currentCallable = callable;
-    backOffDuration = Duration.ofSeconds(1);
+    backOffDuration = INITIAL_BACK_OFF;
 
-    actor.run(this::run);
+    actor.run(retryRunnable);
 
     return currentFuture;
   }
@@ -70,6 +74,6 @@ public final class BackOffRetryStrategy implements RetryStrategy {
       final Duration nextBackOff = backOffDuration.multipliedBy(2);
       backOffDuration = nextBackOff.compareTo(maxBackOff) < 0 ? nextBackOff : maxBackOff;
     }
-    actor.runDelayed(backOffDuration, this::run);
+    actor.runDelayed(backOffDuration, retryRunnable);
   }
 }
@@ -20,7 +20,8 @@ public final class EndlessRetryStrategy implements RetryStrategy {
 
   private final ActorControl actor;
   private final ActorRetryMechanism retryMechanism;
-  private CompletableActorFuture<Boolean> currentFuture;
+  private final CompletableActorFuture<Boolean> currentFuture = new CompletableActorFuture<>();
+  private final Runnable retryRunnable = this::run;
   private BooleanSupplier terminateCondition;
 
   public EndlessRetryStrategy(final ActorControl actor) {
@@ -36,11 +37,12 @@ public final class EndlessRetryStrategy implements RetryStrategy {
   @Override
   public ActorFuture<Boolean> runWithRetry(
       final OperationToRetry callable, final BooleanSupplier condition) {
-    currentFuture = new CompletableActorFuture<>();
+    currentFuture.close();
+    currentFuture.setAwaitingResult();
     terminateCondition = condition;
     retryMechanism.wrap(callable, terminateCondition, currentFuture);
 
-    actor.runUntilDone(this::run);
+    actor.runUntilDone(retryRunnable);
 
     return currentFuture;
   }
@@ -16,7 +16,8 @@ public interface RetryStrategy {
    * Runs the given runnable with the defined retry strategy.
    *
    * <p>Returns an actor future, which will be completed when the callable was successfully executed
-   * and has returned true.
+   * and has returned true. The future is reused by the next call of this method, so it must not be
+   * retained after it is completed.
    *
    * @param callable the callable which should be executed
    * @return a future, which is completed with true if the execution was successful
@@ -27,7 +28,8 @@ public interface RetryStrategy {
    * Runs the given runnable with the defined retry strategy.
    *
    * <p>Returns an actor future, which will be completed when the callable was successfully executed
-   * and has returned true.
+   * and has returned true. The future is reused by the next call of this method, so it must not be
+   * retained after it is completed.
    *
    * @param callable the callable which should be executed
    * @param terminateCondition condition is called when callable returns false, if terminate
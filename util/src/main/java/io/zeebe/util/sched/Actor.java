@@ -15,6 +15,8 @@ import java.util.function.Consumer;
 
 public abstract class Actor implements CloseableSilently {
 
+  public static final int NO_PARTITION_AFFINITY = -1;
+
   private static final int MAX_CLOSE_TIMEOUT = 300;
   protected final ActorControl actor = new ActorControl(this);
 
@@ -22,6 +24,17 @@ public abstract class Actor implements CloseableSilently {
     return getClass().getName();
   }
 
+  /**
+   * If partition affinity is enabled in the scheduler, then all actors of the same partition are
+   * preferably executed by the same thread.
+   *
+   * @return the partition of the actor, or {@link #NO_PARTITION_AFFINITY} if it doesn't belong to a
+   *     partition
+   */
+  public int getPartitionAffinity() {
+    return NO_PARTITION_AFFINITY;
+  }
+
   public boolean isActorClosed() {
     return actor.isClosed();
   }
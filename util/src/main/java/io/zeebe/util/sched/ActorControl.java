@@ -16,14 +16,12 @@ import io.zeebe.util.sched.channel.ConsumableChannel;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.AllCompletedFutureConsumer;
 import io.zeebe.util.sched.future.FirstSuccessfullyCompletedFutureConsumer;
-import io.zeebe.util.sched.future.FutureContinuationRunnable;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
-import java.util.function.Function;
 
 public class ActorControl {
   final ActorTask task;
@@ -317,10 +315,7 @@ public class ActorControl {
     final ActorLifecyclePhase lifecyclePhase = task.getLifecyclePhase();
     if (lifecyclePhase != ActorLifecyclePhase.CLOSE_REQUESTED
         && lifecyclePhase != ActorLifecyclePhase.CLOSED) {
-      this.submitContinuationJob(
-          future,
-          callback,
-          (job) -> new ActorFutureSubscription(future, job, lifecyclePhase.getValue()));
+      this.submitContinuationJob(future, callback, lifecyclePhase.getValue());
     }
   }
 
@@ -345,26 +340,14 @@ public class ActorControl {
       this.submitContinuationJob(
           future,
           callback,
-          (job) ->
-              new ActorFutureSubscription(
-                  future,
-                  job,
-                  (task.getLifecyclePhase().getValue()
-                      | ActorLifecyclePhase.CLOSE_REQUESTED.getValue())));
+          lifecyclePhase.getValue() | ActorLifecyclePhase.CLOSE_REQUESTED.getValue());
     }
   }
 
   private <T> void submitContinuationJob(
-      final ActorFuture<T> future,
-      final BiConsumer<T, Throwable> callback,
-      final Function<ActorJob, ActorFutureSubscription> futureSubscriptionSupplier) {
-    final ActorJob continuationJob = new ActorJob();
-    continuationJob.setRunnable(new FutureContinuationRunnable<>(future, callback));
-    continuationJob.setAutoCompleting(true);
-    continuationJob.onJobAddedToTask(task);
-
-    final ActorFutureSubscription subscription = futureSubscriptionSupplier.apply(continuationJob);
-    continuationJob.setSubscription(subscription);
+      final ActorFuture<T> future, final BiConsumer<T, Throwable> callback, final int phaseMask) {
+    final ActorFutureSubscription subscription = task.newFutureSubscription();
+    subscription.wrap(task, future, callback, phaseMask);
 
     future.block(task);
   }
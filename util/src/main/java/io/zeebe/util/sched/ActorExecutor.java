@@ -23,6 +23,7 @@ public final class ActorExecutor {
   private final ActorThreadGroup cpuBoundThreads;
   private final ActorThreadGroup ioBoundThreads;
   private final ThreadPoolExecutor blockingTasksRunner;
+  private final long[] taskExecutionBudgetsNanos;
   private Duration blockingTasksShutdownTime;
 
   public ActorExecutor(final ActorSchedulerBuilder builder) {
@@ -30,6 +31,13 @@ public final class ActorExecutor {
     this.cpuBoundThreads = builder.getCpuBoundActorThreads();
     this.blockingTasksRunner = builder.getBlockingTasksRunner();
     this.blockingTasksShutdownTime = builder.getBlockingTasksShutdownTime();
+
+    final Duration[] taskExecutionBudgets = builder.getTaskExecutionBudgets();
+    this.taskExecutionBudgetsNanos = new long[taskExecutionBudgets.length];
+    for (int i = 0; i < taskExecutionBudgets.length; i++) {
+      final long budget = taskExecutionBudgets[i].toNanos();
+      taskExecutionBudgetsNanos[i] = budget > 0 ? budget : Long.MAX_VALUE;
+    }
   }
 
   /**
@@ -93,6 +101,14 @@ public final class ActorExecutor {
     return ioBoundThreads;
   }
 
+  /**
+   * @param priority the priority class of the task
+   * @return the time in nanoseconds which a task can execute jobs before it is resubmitted
+   */
+  public long getTaskExecutionBudgetNanos(final int priority) {
+    return taskExecutionBudgetsNanos[priority];
+  }
+
   public Duration getBlockingTasksShutdownTime() {
     return blockingTasksShutdownTime;
   }
@@ -9,17 +9,37 @@ package io.zeebe.util.sched;
 
 import io.zeebe.util.sched.ActorTask.ActorLifecyclePhase;
 import io.zeebe.util.sched.future.ActorFuture;
+import io.zeebe.util.sched.future.FutureContinuationRunnable;
+import java.util.function.BiConsumer;
 
+/**
+ * Subscription which triggers the callback of {@link ActorControl#runOnCompletion(ActorFuture,
+ * BiConsumer)} when the future is completed. The subscription owns its callback job and is returned
+ * to the pool of the task after the callback is executed, so that waiting on a future does not
+ * allocate in the steady state.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
 public final class ActorFutureSubscription implements ActorSubscription {
-  private final ActorJob callbackJob;
-  private final int phaseMask;
-  private final ActorFuture<?> future;
+  private final ActorJob callbackJob = new ActorJob();
+  private final FutureContinuationRunnable continuation = new FutureContinuationRunnable();
+  private ActorTask task;
+  private int phaseMask;
+  private ActorFuture<?> future;
 
-  public ActorFutureSubscription(
-      final ActorFuture<?> future, final ActorJob callbackJob, final int phaseMask) {
+  <T> void wrap(
+      final ActorTask task,
+      final ActorFuture<T> future,
+      final BiConsumer<T, Throwable> callback,
+      final int phaseMask) {
+    this.task = task;
     this.future = future;
-    this.callbackJob = callbackJob;
     this.phaseMask = phaseMask;
+    continuation.wrap(future, callback);
+
+    callbackJob.setRunnable(continuation);
+    callbackJob.setAutoCompleting(true);
+    callbackJob.onJobAddedToTask(task);
+    callbackJob.setSubscription(this);
   }
 
   @Override
@@ -30,7 +50,10 @@ public final class ActorFutureSubscription implements ActorSubscription {
 
   @Override
   public boolean poll() {
-    return future.isDone();
+    // the task polls a copy of its subscriptions in tryWait(), while another thread may already
+    // execute the task and recycle this subscription
+    final ActorFuture<?> future = this.future;
+    return future != null && future.isDone();
   }
 
   @Override
@@ -42,4 +65,16 @@ public final class ActorFutureSubscription implements ActorSubscription {
   public boolean isRecurring() {
     return false;
   }
+
+  @Override
+  public void onJobCompleted() {
+    final ActorTask task = this.task;
+
+    this.task = null;
+    future = null;
+    continuation.reset();
+    callbackJob.reset();
+
+    task.recycleFutureSubscription(this);
+  }
 }
@@ -18,6 +18,9 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.agrona.concurrent.BackoffIdleStrategy;
+import org.agrona.concurrent.IdleStrategy;
 
 public final class ActorScheduler {
   private final AtomicReference<SchedulerState> state = new AtomicReference<>();
@@ -89,6 +92,11 @@ public final class ActorScheduler {
     }
   }
 
+  /** @return the group of the CPU-bound threads, e.g. to observe their load */
+  public ActorThreadGroup getCpuBoundThreadGroup() {
+    return actorTaskExecutor.getCpuBoundThreads();
+  }
+
   public void setBlockingTasksShutdownTime(final Duration shutdownTime) {
     actorTaskExecutor.setBlockingTasksShutdownTime(shutdownTime);
   }
@@ -102,12 +110,19 @@ public final class ActorScheduler {
   }
 
   public static class ActorSchedulerBuilder {
+    private static final Supplier<IdleStrategy> DEFAULT_IDLE_STRATEGY =
+        () -> new BackoffIdleStrategy(100, 100, 1, TimeUnit.MILLISECONDS.toNanos(1));
+
     private final double[] priorityQuotas = new double[] {0.60, 0.30, 0.10};
+    private final Duration[] taskExecutionBudgets =
+        new Duration[] {Duration.ofMillis(10), Duration.ofMillis(5), Duration.ofMillis(2)};
     private String schedulerName = "";
     private ActorClock actorClock;
     private int cpuBoundThreadsCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 2);
     private ActorThreadGroup cpuBoundActorGroup;
     private int ioBoundThreadsCount = 2;
+    private int maxIoBoundThreadsCount = 0;
+    private Duration ioBoundBlockingThreshold = Duration.ofMillis(50);
     private ActorThreadGroup ioBoundActorGroup;
 
     private ActorThreadFactory actorThreadFactory;
@@ -117,6 +132,12 @@ public final class ActorScheduler {
 
     private ActorTimerQueue actorTimerQueue;
 
+    private Supplier<IdleStrategy> cpuBoundIdleStrategy = DEFAULT_IDLE_STRATEGY;
+    private Supplier<IdleStrategy> ioBoundIdleStrategy = DEFAULT_IDLE_STRATEGY;
+
+    private boolean partitionAffinityEnabled;
+    private int affineTaskStealThreshold = 4;
+
     public String getSchedulerName() {
       return schedulerName;
     }
@@ -162,10 +183,105 @@ public final class ActorScheduler {
       return this;
     }
 
+    public int getMaxIoBoundActorThreadCount() {
+      return maxIoBoundThreadsCount;
+    }
+
+    /**
+     * If the maximum is larger than the io bound thread count, then the io thread group starts
+     * additional threads while its threads are blocked, see {@link IoThreadGroup}.
+     */
+    public ActorSchedulerBuilder setMaxIoBoundActorThreadCount(final int maxIoBoundThreadsCount) {
+      this.maxIoBoundThreadsCount = maxIoBoundThreadsCount;
+      return this;
+    }
+
+    public Duration getIoBoundBlockingThreshold() {
+      return ioBoundBlockingThreshold;
+    }
+
+    /**
+     * Sets the duration after which an io thread which executes the same task is considered
+     * blocked.
+     */
+    public ActorSchedulerBuilder setIoBoundBlockingThreshold(
+        final Duration ioBoundBlockingThreshold) {
+      this.ioBoundBlockingThreshold = ioBoundBlockingThreshold;
+      return this;
+    }
+
+    public Supplier<IdleStrategy> getCpuBoundIdleStrategy() {
+      return cpuBoundIdleStrategy;
+    }
+
+    /**
+     * Sets the idle strategy of the CPU bound threads. The supplier is called once per thread,
+     * because the strategies can hold state.
+     */
+    public ActorSchedulerBuilder setCpuBoundIdleStrategy(
+        final Supplier<IdleStrategy> cpuBoundIdleStrategy) {
+      this.cpuBoundIdleStrategy = cpuBoundIdleStrategy;
+      return this;
+    }
+
+    public Supplier<IdleStrategy> getIoBoundIdleStrategy() {
+      return ioBoundIdleStrategy;
+    }
+
+    /**
+     * Sets the idle strategy of the I/O bound threads. The supplier is called once per thread,
+     * because the strategies can hold state.
+     */
+    public ActorSchedulerBuilder setIoBoundIdleStrategy(
+        final Supplier<IdleStrategy> ioBoundIdleStrategy) {
+      this.ioBoundIdleStrategy = ioBoundIdleStrategy;
+      return this;
+    }
+
+    public boolean isPartitionAffinityEnabled() {
+      return partitionAffinityEnabled;
+    }
+
+    /**
+     * If enabled, then the actors of a partition (see {@link Actor#getPartitionAffinity()}) are
+     * always submitted to the same thread of a thread group. Other threads steal them only if the
+     * queue of the thread contains at least {@link #getAffineTaskStealThreshold()} tasks. It
+     * applies to the CPU bound actors only; the io bound actors are not affine to a thread.
+     */
+    public ActorSchedulerBuilder setPartitionAffinityEnabled(
+        final boolean partitionAffinityEnabled) {
+      this.partitionAffinityEnabled = partitionAffinityEnabled;
+      return this;
+    }
+
+    public int getAffineTaskStealThreshold() {
+      return affineTaskStealThreshold;
+    }
+
+    public ActorSchedulerBuilder setAffineTaskStealThreshold(final int affineTaskStealThreshold) {
+      this.affineTaskStealThreshold = affineTaskStealThreshold;
+      return this;
+    }
+
     public double[] getPriorityQuotas() {
       return Arrays.copyOf(priorityQuotas, priorityQuotas.length);
     }
 
+    public Duration[] getTaskExecutionBudgets() {
+      return Arrays.copyOf(taskExecutionBudgets, taskExecutionBudgets.length);
+    }
+
+    /**
+     * Sets the time which a task of the given priority can execute jobs before it is resubmitted,
+     * so that the other tasks of the thread can run in between. A budget of zero disables the
+     * preemption.
+     */
+    public ActorSchedulerBuilder setTaskExecutionBudget(
+        final ActorPriority priority, final Duration budget) {
+      taskExecutionBudgets[priority.getPriorityClass()] = budget;
+      return this;
+    }
+
     public ActorThreadFactory getActorThreadFactory() {
       return actorThreadFactory;
     }
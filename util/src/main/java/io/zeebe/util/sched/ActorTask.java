@@ -9,9 +9,11 @@ package io.zeebe.util.sched;
 
 import static io.zeebe.util.sched.ActorThread.ensureCalledFromActorThread;
 
+import io.zeebe.util.BoundedArrayQueue;
 import io.zeebe.util.Loggers;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
+import io.zeebe.util.sched.metrics.ActorMetrics;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
@@ -28,6 +30,8 @@ import org.agrona.concurrent.ManyToOneConcurrentLinkedQueue;
 @SuppressWarnings("restriction")
 public class ActorTask {
 
+  private static final int FUTURE_SUBSCRIPTION_POOL_CAPACITY = 32;
+
   public final CompletableActorFuture<Void> closeFuture = new CompletableActorFuture<>();
   final Actor actor;
   ActorJob currentJob;
@@ -42,6 +46,9 @@ public class ActorTask {
   private Deque<ActorJob> fastLaneJobs = new ClosedQueue();
   private volatile ActorLifecyclePhase lifecyclePhase = ActorLifecyclePhase.CLOSED;
   private List<ActorSubscription> subscriptions = new ArrayList<>();
+  /** only accessed by the thread which executes the task */
+  private final BoundedArrayQueue<ActorFutureSubscription> futureSubscriptionPool =
+      new BoundedArrayQueue<>(FUTURE_SUBSCRIPTION_POOL_CAPACITY);
   /**
    * the priority class of the task. Only set if the task is scheduled as non-blocking, CPU-bound
    */
@@ -52,6 +59,11 @@ public class ActorTask {
    */
   private volatile Queue<ActorJob> submittedJobs = new ClosedQueue();
 
+  private int partitionAffinity = Actor.NO_PARTITION_AFFINITY;
+  private ActorMetrics metrics;
+  private boolean isSubmissionSampled;
+  private long submissionNanoTime;
+
   public ActorTask(final Actor actor) {
     this.actor = actor;
   }
@@ -61,6 +73,11 @@ public class ActorTask {
       final ActorExecutor actorExecutor, final ActorThreadGroup actorThreadGroup) {
     this.actorExecutor = actorExecutor;
     this.actorThreadGroup = actorThreadGroup;
+    this.partitionAffinity = actor.getPartitionAffinity();
+    if (metrics == null) {
+      // the name of the actor may not be available before the actor is scheduled
+      metrics = new ActorMetrics(actor.getName());
+    }
     // reset previous state to allow re-scheduling
     this.closeFuture.close();
     this.closeFuture.setAwaitingResult();
@@ -113,9 +130,26 @@ public class ActorTask {
   public boolean execute(final ActorThread runner) {
     schedulingState.set(TaskSchedulingState.ACTIVE);
 
+    final long executionStartTime = System.nanoTime();
+    final long executionBudget = actorExecutor.getTaskExecutionBudgetNanos(priority);
+    if (isSubmissionSampled) {
+      isSubmissionSampled = false;
+      final long schedulingLatency = executionStartTime - submissionNanoTime;
+      metrics.observeSchedulingLatency(schedulingLatency);
+      runner.getActorThreadGroup().observeSchedulingLatency(executionStartTime, schedulingLatency);
+    }
+
+    int executedJobs = 0;
     boolean resubmit = false;
     while (!resubmit && (currentJob != null || poll())) {
-      currentJob.execute(runner);
+      if (metrics.shouldSampleJob()) {
+        final long jobStartTime = System.nanoTime();
+        currentJob.execute(runner);
+        metrics.observeJobExecutionTime(System.nanoTime() - jobStartTime);
+      } else {
+        currentJob.execute(runner);
+      }
+      executedJobs += 1;
 
       switch (currentJob.schedulingState) {
         case TERMINATED:
@@ -152,15 +186,33 @@ public class ActorTask {
         resubmit = currentJob != null;
         break;
       }
+
+      if (!resubmit
+          && System.nanoTime() - executionStartTime >= executionBudget
+          && (currentJob != null || poll())) {
+        // the task used up its budget but has more jobs, either in the fast lane or submitted by
+        // others: resubmit it to give the other tasks of the thread a chance
+        metrics.taskPreempted();
+        resubmit = true;
+      }
     }
 
     if (currentJob == null) {
       resubmit = onAllJobsDone();
     }
 
+    metrics.taskExecuted(System.nanoTime() - executionStartTime, executedJobs, resubmit);
     return resubmit;
   }
 
+  /** Called when the task is submitted to a thread group, before it is added to the queue. */
+  void onSubmitted() {
+    isSubmissionSampled = metrics.shouldSampleSubmission();
+    if (isSubmissionSampled) {
+      submissionNanoTime = System.nanoTime();
+    }
+  }
+
   private boolean onAllJobsDone() {
     boolean resubmit = false;
 
@@ -471,6 +523,14 @@ public class ActorTask {
     return lifecyclePhase == ActorLifecyclePhase.CLOSING;
   }
 
+  public int getPartitionAffinity() {
+    return partitionAffinity;
+  }
+
+  public boolean hasPartitionAffinity() {
+    return partitionAffinity != Actor.NO_PARTITION_AFFINITY;
+  }
+
   public int getPriority() {
     return priority;
   }
@@ -503,6 +563,15 @@ public class ActorTask {
 
   // subscription helpers
 
+  ActorFutureSubscription newFutureSubscription() {
+    final ActorFutureSubscription subscription = futureSubscriptionPool.poll();
+    return subscription != null ? subscription : new ActorFutureSubscription();
+  }
+
+  void recycleFutureSubscription(final ActorFutureSubscription subscription) {
+    futureSubscriptionPool.offer(subscription);
+  }
+
   public void onSubscriptionCancelled(final ActorSubscription subscription) {
     if (lifecyclePhase != ActorLifecyclePhase.CLOSED) {
       removeSubscription(subscription);
@@ -9,6 +9,7 @@ package io.zeebe.util.sched;
 
 import static org.agrona.UnsafeAccess.UNSAFE;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import org.agrona.concurrent.ManyToOneConcurrentLinkedQueue;
 
 /** Adapted from Agrona's {@link ManyToOneConcurrentLinkedQueue}. */
@@ -17,6 +18,8 @@ public final class ActorTaskQueue extends ActorTaskQueueHead {
   @SuppressWarnings("unused")
   protected long p31, p32, p33, p34, p35, p36, p37, p38, p39, p40, p41, p42, p43, p44, p45;
   private final ActorTaskQueueNode empty = new ActorTaskQueueNode();
+  // the number of appended tasks which are not claimed yet
+  private final AtomicInteger size = new AtomicInteger();
 
   public ActorTaskQueue() {
     headOrdered(empty);
@@ -32,20 +35,23 @@ public final class ActorTaskQueue extends ActorTaskQueueHead {
     final ActorTaskQueueNode previousTail = swapTail(tail);
     previousTail.nextOrdered(tail);
     tail.prevOrdered(previousTail);
+    size.incrementAndGet();
   }
 
   /**
    * Attempts to steal a task from this list. The operation does not actually remove the task.
    * Instead, it modifies the task's state.
    *
+   * @param canStealAffineTasks if false, tasks with a partition affinity are not stolen
    * @return the actor which was stolen or null in case no actor is available
    */
-  public ActorTask trySteal() {
+  public ActorTask trySteal(final boolean canStealAffineTasks) {
     ActorTaskQueueNode node = this.tail;
 
     while (node != null && node != empty) {
       final ActorTask task = node.task;
-      if (task.claim(node.stateCount)) {
+      if ((canStealAffineTasks || !task.hasPartitionAffinity()) && task.claim(node.stateCount)) {
+        size.decrementAndGet();
         return task;
       }
 
@@ -65,6 +71,7 @@ public final class ActorTaskQueue extends ActorTaskQueueHead {
       if (node != empty && node != null) {
         final ActorTask t = node.task;
         if (t.claim(node.stateCount)) {
+          size.decrementAndGet();
           task = t;
           break;
         }
@@ -102,6 +109,11 @@ public final class ActorTaskQueue extends ActorTaskQueueHead {
     return next == empty ? null : next;
   }
 
+  /** @return the approximate number of tasks in the queue */
+  public int size() {
+    return size.get();
+  }
+
   public boolean isEmpty() {
     return head == tail;
   }
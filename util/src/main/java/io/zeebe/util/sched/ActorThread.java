@@ -25,12 +25,12 @@ package io.zeebe.util.sched;
 import io.zeebe.util.BoundedArrayQueue;
 import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.clock.DefaultActorClock;
+import io.zeebe.util.sched.metrics.ActorThreadMetrics;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import org.agrona.UnsafeAccess;
-import org.agrona.concurrent.BackoffIdleStrategy;
+import org.agrona.concurrent.IdleStrategy;
 import org.agrona.concurrent.ManyToManyConcurrentArrayQueue;
 import org.slf4j.MDC;
 import sun.misc.Unsafe;
@@ -39,10 +39,14 @@ import sun.misc.Unsafe;
 public class ActorThread extends Thread implements Consumer<Runnable> {
   static final Unsafe UNSAFE = UnsafeAccess.UNSAFE;
   private static final long STATE_OFFSET;
+  private static final long EXECUTION_START_OFFSET;
+  private static final long NOT_EXECUTING = Long.MIN_VALUE;
 
   static {
     try {
       STATE_OFFSET = UNSAFE.objectFieldOffset(ActorThread.class.getDeclaredField("state"));
+      EXECUTION_START_OFFSET =
+          UNSAFE.objectFieldOffset(ActorThread.class.getDeclaredField("executionStartNanos"));
     } catch (final Exception e) {
       throw new RuntimeException(e);
     }
@@ -51,7 +55,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   public final ManyToManyConcurrentArrayQueue<Runnable> submittedCallbacks =
       new ManyToManyConcurrentArrayQueue<>(1024 * 24);
   protected final ActorTimerQueue timerJobQueue;
-  protected ActorTaskRunnerIdleStrategy idleStrategy = new ActorTaskRunnerIdleStrategy();
+  protected ActorTaskRunnerIdleStrategy idleStrategy;
   ActorTask currentTask;
   private final CompletableFuture<Void> terminationFuture = new CompletableFuture<>();
   private final ActorClock clock;
@@ -59,7 +63,10 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   private final TaskScheduler taskScheduler;
   private final BoundedArrayQueue<ActorJob> jobs = new BoundedArrayQueue<>(2048);
   private final ActorThreadGroup actorThreadGroup;
+  private final ActorThreadMetrics metrics;
   private volatile ActorThreadState state;
+  // only written by this thread, read by other threads to detect if it is blocked
+  private volatile long executionStartNanos = NOT_EXECUTING;
 
   public ActorThread(
       final String name,
@@ -75,6 +82,8 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     this.timerJobQueue = timerQueue != null ? timerQueue : new ActorTimerQueue(this.clock);
     this.actorThreadGroup = threadGroup;
     this.taskScheduler = taskScheduler;
+    this.metrics = new ActorThreadMetrics(name);
+    this.idleStrategy = new ActorTaskRunnerIdleStrategy();
   }
 
   private void doWork() {
@@ -103,6 +112,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
     boolean resubmit = false;
 
+    UNSAFE.putOrderedLong(this, EXECUTION_START_OFFSET, System.nanoTime());
     try {
       resubmit = currentTask.execute(this);
     } catch (final Exception e) {
@@ -113,6 +123,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
       // TODO: resubmit on exception?
       //                resubmit = true;
     } finally {
+      UNSAFE.putOrderedLong(this, EXECUTION_START_OFFSET, NOT_EXECUTING);
       MDC.remove("actor-name");
 
       clock.update();
@@ -127,6 +138,18 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     idleStrategy.hintWorkAvailable();
   }
 
+  /**
+   * Can be called from any thread.
+   *
+   * @param nowNanos the current time in nanoseconds, see {@link System#nanoTime()}
+   * @param thresholdNanos the duration in nanoseconds after which the thread is considered blocked
+   * @return true if this thread executes the same task since at least the given duration
+   */
+  public boolean isExecutingLongerThan(final long nowNanos, final long thresholdNanos) {
+    final long startNanos = executionStartNanos;
+    return startNanos != NOT_EXECUTING && nowNanos - startNanos >= thresholdNanos;
+  }
+
   /** Must be called from this thread, schedules a job to be run later. */
   public void scheduleTimer(final TimerSubscription timer) {
     timerJobQueue.schedule(timer, clock);
@@ -256,16 +279,19 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   }
 
   protected class ActorTaskRunnerIdleStrategy {
-    final BackoffIdleStrategy backoff =
-        new BackoffIdleStrategy(100, 100, 1, TimeUnit.MILLISECONDS.toNanos(1));
+    // the time is also reported while the thread stays busy or idle, not only when it switches
+    private static final long REPORT_INTERVAL_NANOS = 100_000_000L;
+
+    final IdleStrategy strategy = actorThreadGroup.newIdleStrategy();
     boolean isIdle;
 
-    long idleTimeStart;
-    long busyTimeStart;
+    // the start of the time which is not reported yet
+    long periodStart;
 
     void init() {
       isIdle = true;
-      idleTimeStart = System.nanoTime();
+      clock.update();
+      periodStart = clock.getNanoTime();
     }
 
     public void hintWorkAvailable() {
@@ -273,21 +299,27 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     }
 
     protected void onIdle() {
-      if (!isIdle) {
-        clock.update();
-        idleTimeStart = clock.getNanoTime();
-        isIdle = true;
-      }
-
-      backoff.idle();
+      updateTime(true);
+      strategy.idle();
     }
 
     protected void onTaskExecuted() {
-      backoff.reset();
+      strategy.reset();
+      updateTime(false);
+    }
+
+    private void updateTime(final boolean idle) {
+      final long now = clock.getNanoTime();
+
+      if (idle != isIdle || now - periodStart >= REPORT_INTERVAL_NANOS) {
+        if (isIdle) {
+          metrics.idleTime(now - periodStart);
+        } else {
+          metrics.busyTime(now - periodStart);
+        }
 
-      if (isIdle) {
-        busyTimeStart = clock.getNanoTime();
-        isIdle = false;
+        periodStart = now;
+        isIdle = idle;
       }
     }
   }
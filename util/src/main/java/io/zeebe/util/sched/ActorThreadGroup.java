@@ -10,26 +10,45 @@ package io.zeebe.util.sched;
 import io.zeebe.util.sched.ActorScheduler.ActorSchedulerBuilder;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.agrona.concurrent.IdleStrategy;
 
 /**
  * A thread group is a group of threads which process the same kind of tasks (ie. blocking I/O vs.
  * CPU bound).
  */
 public abstract class ActorThreadGroup {
+  // a scheduling latency is ignored if no task was scheduled since then, e.g. after a burst
+  private static final long SCHEDULING_LATENCY_EXPIRY_NANOS = TimeUnit.SECONDS.toNanos(1);
+
   protected final String groupName;
   protected final ActorThread[] threads;
   protected final MultiLevelWorkstealingGroup tasks;
   protected final int numOfThreads;
+  protected final boolean isPartitionAffinityEnabled;
+  private final Supplier<IdleStrategy> idleStrategySupplier;
+  // written by all threads of the group, a lost update only delays the average a bit
+  private volatile long schedulingLatencyNanos;
+  private volatile long lastSchedulingNanos;
 
   public ActorThreadGroup(
       final String groupName,
       final int numOfThreads,
       final int numOfQueuesPerThread,
+      final Supplier<IdleStrategy> idleStrategySupplier,
+      final boolean isPartitionAffinityEnabled,
       final ActorSchedulerBuilder builder) {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
+    this.idleStrategySupplier = idleStrategySupplier;
+    this.isPartitionAffinityEnabled = isPartitionAffinityEnabled;
 
-    this.tasks = new MultiLevelWorkstealingGroup(numOfThreads, numOfQueuesPerThread);
+    final int affineTaskStealThreshold =
+        isPartitionAffinityEnabled ? builder.getAffineTaskStealThreshold() : 0;
+    this.tasks =
+        new MultiLevelWorkstealingGroup(
+            numOfThreads, numOfQueuesPerThread, affineTaskStealThreshold);
 
     threads = new ActorThread[numOfThreads];
 
@@ -57,12 +76,22 @@ public abstract class ActorThreadGroup {
 
   public void submit(final ActorTask actorTask) {
     final int level = getLevel(actorTask);
+    actorTask.onSubmitted();
 
     final ActorThread current = ActorThread.current();
-    if (current != null && current.getActorThreadGroup() == this) {
+    final int activeThreadCount = getActiveThreadCount();
+    if (isPartitionAffinityEnabled && actorTask.hasPartitionAffinity()) {
+      // submit the task always to its home thread to keep the partition's data in its caches
+      // - the home thread depends on the fixed number of threads, so that it doesn't move
+      final int threadId = Math.floorMod(actorTask.getPartitionAffinity(), numOfThreads);
+      tasks.submit(actorTask, level, threadId);
+      if (current != threads[threadId]) {
+        threads[threadId].hintWorkAvailable();
+      }
+    } else if (current != null && current.getActorThreadGroup() == this) {
       tasks.submit(actorTask, level, current.getRunnerId());
     } else {
-      final int threadId = ThreadLocalRandom.current().nextInt(numOfThreads);
+      final int threadId = ThreadLocalRandom.current().nextInt(activeThreadCount);
       tasks.submit(actorTask, level, threadId);
       threads[threadId].hintWorkAvailable();
     }
@@ -70,6 +99,58 @@ public abstract class ActorThreadGroup {
 
   protected abstract int getLevel(ActorTask actorTask);
 
+  /**
+   * @return the number of threads of the group which are started; tasks are only submitted to these
+   *     threads
+   */
+  protected int getActiveThreadCount() {
+    return numOfThreads;
+  }
+
+  /** @return a new instance of the idle strategy for a thread of the group */
+  public IdleStrategy newIdleStrategy() {
+    return idleStrategySupplier.get();
+  }
+
+  /**
+   * Called by a thread of the group when it executes a task whose scheduling latency is sampled.
+   *
+   * @param nowNanos the current time in nanoseconds, see {@link System#nanoTime()}
+   * @param latencyNanos the time the task waited in the queue
+   */
+  void observeSchedulingLatency(final long nowNanos, final long latencyNanos) {
+    // exponentially weighted moving average, the weight of a new sample is 1/8
+    final long averageNanos = schedulingLatencyNanos;
+    schedulingLatencyNanos = averageNanos + ((latencyNanos - averageNanos) >> 3);
+    lastSchedulingNanos = nowNanos;
+  }
+
+  /**
+   * Can be called from any thread.
+   *
+   * @return the average time a task waited in the queue until a thread of the group executed it, or
+   *     0 if no task was sampled within the last second
+   */
+  public long getSchedulingLatencyNanos() {
+    if (System.nanoTime() - lastSchedulingNanos >= SCHEDULING_LATENCY_EXPIRY_NANOS) {
+      return 0;
+    }
+    return schedulingLatencyNanos;
+  }
+
+  /**
+   * Can be called from any thread.
+   *
+   * @return the number of tasks and callbacks which wait for a thread of the group
+   */
+  public int getQueuedTaskCount() {
+    int queuedTasks = tasks.getQueuedTaskCount();
+    for (int t = 0; t < getActiveThreadCount(); t++) {
+      queuedTasks += threads[t].submittedCallbacks.size();
+    }
+    return queuedTasks;
+  }
+
   public String getGroupName() {
     return groupName;
   }
@@ -79,16 +160,18 @@ public abstract class ActorThreadGroup {
   }
 
   public void start() {
-    for (final ActorThread actorThread : threads) {
-      actorThread.start();
+    final int activeThreadCount = getActiveThreadCount();
+    for (int t = 0; t < activeThreadCount; t++) {
+      threads[t].start();
     }
   }
 
   @SuppressWarnings("unchecked")
   public CompletableFuture<Void> closeAsync() {
-    final CompletableFuture<Void>[] terminationFutures = new CompletableFuture[numOfThreads];
+    final int activeThreadCount = getActiveThreadCount();
+    final CompletableFuture<Void>[] terminationFutures = new CompletableFuture[activeThreadCount];
 
-    for (int i = 0; i < numOfThreads; i++) {
+    for (int i = 0; i < activeThreadCount; i++) {
       try {
         terminationFutures[i] = threads[i].close();
       } catch (final IllegalStateException e) {
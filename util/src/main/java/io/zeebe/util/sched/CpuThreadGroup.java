@@ -17,6 +17,8 @@ public final class CpuThreadGroup extends ActorThreadGroup {
         String.format("%s-%s", builder.getSchedulerName(), "zb-actors"),
         builder.getCpuBoundActorThreadCount(),
         builder.getPriorityQuotas().length,
+        builder.getCpuBoundIdleStrategy(),
+        builder.isPartitionAffinityEnabled(),
         builder);
   }
 
@@ -7,16 +7,40 @@
  */
 package io.zeebe.util.sched;
 
+import io.zeebe.util.Loggers;
 import io.zeebe.util.sched.ActorScheduler.ActorSchedulerBuilder;
+import java.util.concurrent.CompletableFuture;
 
+/**
+ * Thread group of the io bound actors. The group starts with {@link
+ * ActorSchedulerBuilder#getIoBoundActorThreadCount()} threads. If a task is submitted while all
+ * started threads execute a task longer than {@link
+ * ActorSchedulerBuilder#getIoBoundBlockingThreshold()} (e.g. because they wait on the file system),
+ * then an additional thread is started which can steal the task, so that a blocking actor does not
+ * delay the other io bound actors. The group grows up to {@link
+ * ActorSchedulerBuilder#getMaxIoBoundActorThreadCount()} threads and does not shrink; the
+ * additional threads are parked by their idle strategy if there is no work.
+ *
+ * <p>The io bound actors have no partition affinity, even if it is enabled in the scheduler. An
+ * affine actor could not be stolen by an additional thread while its home thread is blocked.
+ */
 public final class IoThreadGroup extends ActorThreadGroup {
 
+  private final long blockingThresholdNanos;
+  private volatile int activeThreadCount;
+  private boolean isClosed;
+
   public IoThreadGroup(final ActorSchedulerBuilder builder) {
     super(
         String.format("%s-%s", builder.getSchedulerName(), "zb-fs-workers"),
-        builder.getIoBoundActorThreadCount(),
+        Math.max(builder.getIoBoundActorThreadCount(), builder.getMaxIoBoundActorThreadCount()),
         1,
+        builder.getIoBoundIdleStrategy(),
+        false,
         builder);
+
+    this.activeThreadCount = builder.getIoBoundActorThreadCount();
+    this.blockingThresholdNanos = builder.getIoBoundBlockingThreshold().toNanos();
   }
 
   @Override
@@ -29,4 +53,61 @@ public final class IoThreadGroup extends ActorThreadGroup {
   protected int getLevel(final ActorTask actorTask) {
     return 0;
   }
+
+  @Override
+  protected int getActiveThreadCount() {
+    return activeThreadCount;
+  }
+
+  @Override
+  public void submit(final ActorTask actorTask) {
+    super.submit(actorTask);
+
+    if (activeThreadCount < numOfThreads && areActiveThreadsBlocked()) {
+      startAdditionalThread();
+    }
+  }
+
+  @Override
+  public synchronized CompletableFuture<Void> closeAsync() {
+    isClosed = true;
+    return super.closeAsync();
+  }
+
+  private boolean areActiveThreadsBlocked() {
+    final ActorThread current = ActorThread.current();
+    final long now = System.nanoTime();
+    final int threadCount = activeThreadCount;
+
+    boolean hasBlockedThreads = false;
+    for (int t = 0; t < threadCount; t++) {
+      final ActorThread thread = threads[t];
+
+      // the current thread submits the task and will pick up work afterwards
+      if (thread != current) {
+        if (!thread.isExecutingLongerThan(now, blockingThresholdNanos)) {
+          return false;
+        }
+        hasBlockedThreads = true;
+      }
+    }
+
+    return hasBlockedThreads;
+  }
+
+  private synchronized void startAdditionalThread() {
+    final int threadCount = activeThreadCount;
+    if (!isClosed && threadCount < numOfThreads) {
+      final ActorThread thread = threads[threadCount];
+      thread.start();
+      activeThreadCount = threadCount + 1;
+
+      Loggers.ACTOR_LOGGER.debug(
+          "All io threads of group {} are blocked, started additional thread {} ({}/{})",
+          groupName,
+          thread.getName(),
+          threadCount + 1,
+          numOfThreads);
+    }
+  }
 }
@@ -14,10 +14,11 @@ package io.zeebe.util.sched;
 public final class MultiLevelWorkstealingGroup {
   private final WorkStealingGroup[] workStealingGroups;
 
-  public MultiLevelWorkstealingGroup(final int numOfThreads, final int levels) {
+  public MultiLevelWorkstealingGroup(
+      final int numOfThreads, final int levels, final int affineTaskStealThreshold) {
     workStealingGroups = new WorkStealingGroup[levels];
     for (int i = 0; i < levels; i++) {
-      workStealingGroups[i] = new WorkStealingGroup(numOfThreads);
+      workStealingGroups[i] = new WorkStealingGroup(numOfThreads, affineTaskStealThreshold);
     }
   }
 
@@ -28,4 +29,13 @@ public final class MultiLevelWorkstealingGroup {
   public void submit(final ActorTask task, final int level, final int threadId) {
     workStealingGroups[level].submit(task, threadId);
   }
+
+  /** @return the number of tasks in the queues of all threads and levels */
+  public int getQueuedTaskCount() {
+    int queuedTasks = 0;
+    for (final WorkStealingGroup workStealingGroup : workStealingGroups) {
+      queuedTasks += workStealingGroup.getQueuedTaskCount();
+    }
+    return queuedTasks;
+  }
 }
@@ -11,13 +11,19 @@ import static io.zeebe.util.sched.ActorTask.TaskSchedulingState.QUEUED;
 
 import java.util.concurrent.ThreadLocalRandom;
 
-/** Workstealing group maintains a queue per thread. */
+/**
+ * Workstealing group maintains a queue per thread. Tasks with a partition affinity are only stolen
+ * if the queue of the other thread contains at least the given number of tasks, so that they stay
+ * on their home thread as long as the thread is not overloaded.
+ */
 public final class WorkStealingGroup {
   private final int numOfThreads;
   private final ActorTaskQueue[] taskQueues;
+  private final int affineTaskStealThreshold;
 
-  public WorkStealingGroup(final int numOfThreads) {
+  public WorkStealingGroup(final int numOfThreads, final int affineTaskStealThreshold) {
     this.numOfThreads = numOfThreads;
+    this.affineTaskStealThreshold = affineTaskStealThreshold;
     this.taskQueues = new ActorTaskQueue[numOfThreads];
     for (int i = 0; i < numOfThreads; i++) {
       taskQueues[i] = new ActorTaskQueue();
@@ -51,6 +57,15 @@ public final class WorkStealingGroup {
     return nextTask;
   }
 
+  /** @return the number of tasks in the queues of all threads */
+  public int getQueuedTaskCount() {
+    int queuedTasks = 0;
+    for (int i = 0; i < numOfThreads; i++) {
+      queuedTasks += taskQueues[i].size();
+    }
+    return queuedTasks;
+  }
+
   /**
    * Work stealing: when this runner (aka. the "thief") has no more tasks to run, it attempts to
    * take ("steal") a task from another runner (aka. the "victim").
@@ -80,7 +95,9 @@ public final class WorkStealingGroup {
       final int runnerId = i % numOfThreads;
 
       if (runnerId != currentThread.getRunnerId()) {
-        final ActorTask stolenActor = taskQueues[runnerId].trySteal();
+        final ActorTaskQueue victimQueue = taskQueues[runnerId];
+        final boolean canStealAffineTasks = victimQueue.size() >= affineTaskStealThreshold;
+        final ActorTask stolenActor = victimQueue.trySteal(canStealAffineTasks);
 
         if (stolenActor != null) {
           return stolenActor;
@@ -48,8 +48,9 @@ public final class CompletableActorFuture<V> implements ActorFuture<V>, BiConsum
   private final ManyToOneConcurrentLinkedQueue<ActorTask> blockedTasks =
       new ManyToOneConcurrentLinkedQueue<>();
   private final ReentrantLock completionLock = new ReentrantLock();
+  // the condition is reused when the future is reset, waiters check the state after each signal
+  private final Condition isDoneCondition = completionLock.newCondition();
   private volatile int state = CLOSED;
-  private Condition isDoneCondition;
 
   public CompletableActorFuture() {
     setAwaitingResult();
@@ -75,7 +76,6 @@ public final class CompletableActorFuture<V> implements ActorFuture<V>, BiConsum
 
   public void setAwaitingResult() {
     state = AWAITING_RESULT;
-    isDoneCondition = completionLock.newCondition();
   }
 
   public static <V> CompletableActorFuture<V> completed(final V result) {
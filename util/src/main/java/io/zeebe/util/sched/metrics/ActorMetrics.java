@@ -0,0 +1,142 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+
+/**
+ * Metrics of the tasks of an actor. The counters are updated on every execution of the task, while
+ * the latencies are only observed for every {@link #SAMPLE_INTERVAL}th submission or job to keep
+ * the overhead low. The label children are resolved once per actor, so recording the metrics does
+ * not allocate.
+ */
+public final class ActorMetrics {
+
+  public static final int SAMPLE_INTERVAL = 16;
+
+  private static final int SAMPLE_MASK = SAMPLE_INTERVAL - 1;
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+  private static final Counter EXECUTION_TIME =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_task_execution_time_seconds")
+          .help("Time the tasks of the actor occupied an actor thread")
+          .labelNames("actorName")
+          .register();
+
+  private static final Counter EXECUTION_COUNT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_task_execution_count")
+          .help("Number of executions of the tasks of the actor")
+          .labelNames("actorName")
+          .register();
+
+  private static final Counter RESUBMISSION_COUNT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_task_resubmission_count")
+          .help(
+              "Number of executions after which the task was resubmitted, because it had more work")
+          .labelNames("actorName")
+          .register();
+
+  private static final Counter PREEMPTION_COUNT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_task_preemption_count")
+          .help(
+              "Number of executions after which the task was resubmitted, because it used its budget")
+          .labelNames("actorName")
+          .register();
+
+  private static final Counter JOBS_EXECUTED =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_jobs_executed_total")
+          .help("Number of jobs executed by the actor")
+          .labelNames("actorName")
+          .register();
+
+  private static final Histogram SCHEDULING_LATENCY =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("actor_task_scheduling_latency")
+          .help("Time between the submission of the task and its execution in seconds (sampled)")
+          .buckets(.00001, .00005, .0001, .0005, .001, .005, .01, .05, .1, .5, 1)
+          .labelNames("actorName")
+          .register();
+
+  private static final Histogram JOB_EXECUTION_TIME =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("actor_job_execution_time")
+          .help("Time of the execution of a job of the actor in seconds (sampled)")
+          .buckets(.00001, .00005, .0001, .0005, .001, .005, .01, .05, .1, .5, 1)
+          .labelNames("actorName")
+          .register();
+
+  private final Counter.Child executionTime;
+  private final Counter.Child executionCount;
+  private final Counter.Child resubmissionCount;
+  private final Counter.Child preemptionCount;
+  private final Counter.Child jobsExecuted;
+  private final Histogram.Child schedulingLatency;
+  private final Histogram.Child jobExecutionTime;
+
+  // is only updated by the thread which submits or executes the task - the counter is not exact if
+  // the task is submitted concurrently, but this is good enough for sampling
+  private int submissions;
+  private int jobs;
+
+  public ActorMetrics(final String actorName) {
+    executionTime = EXECUTION_TIME.labels(actorName);
+    executionCount = EXECUTION_COUNT.labels(actorName);
+    resubmissionCount = RESUBMISSION_COUNT.labels(actorName);
+    preemptionCount = PREEMPTION_COUNT.labels(actorName);
+    jobsExecuted = JOBS_EXECUTED.labels(actorName);
+    schedulingLatency = SCHEDULING_LATENCY.labels(actorName);
+    jobExecutionTime = JOB_EXECUTION_TIME.labels(actorName);
+  }
+
+  public boolean shouldSampleSubmission() {
+    return (++submissions & SAMPLE_MASK) == 0;
+  }
+
+  public boolean shouldSampleJob() {
+    return (++jobs & SAMPLE_MASK) == 0;
+  }
+
+  public void observeSchedulingLatency(final long latencyNanos) {
+    schedulingLatency.observe(latencyNanos / NANOS_PER_SECOND);
+  }
+
+  public void observeJobExecutionTime(final long executionTimeNanos) {
+    jobExecutionTime.observe(executionTimeNanos / NANOS_PER_SECOND);
+  }
+
+  public void taskPreempted() {
+    preemptionCount.inc();
+  }
+
+  public void taskExecuted(
+      final long executionTimeNanos, final int executedJobs, final boolean resubmitted) {
+    executionTime.inc(executionTimeNanos / NANOS_PER_SECOND);
+    executionCount.inc();
+
+    if (executedJobs > 0) {
+      jobsExecuted.inc(executedJobs);
+    }
+
+    if (resubmitted) {
+      resubmissionCount.inc();
+    }
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched.metrics;
+
+import io.prometheus.client.Counter;
+
+/**
+ * Metrics of an actor thread. The idle and busy times are recorded when the thread switches between
+ * executing tasks and waiting for tasks, so the ratio of the thread's utilization can be derived
+ * from their rates.
+ */
+public final class ActorThreadMetrics {
+
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+  private static final Counter IDLE_TIME =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_thread_idle_time_seconds")
+          .help("Time the actor thread was waiting for tasks")
+          .labelNames("thread")
+          .register();
+
+  private static final Counter BUSY_TIME =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_thread_busy_time_seconds")
+          .help("Time the actor thread was executing tasks")
+          .labelNames("thread")
+          .register();
+
+  private final Counter.Child idleTime;
+  private final Counter.Child busyTime;
+
+  public ActorThreadMetrics(final String threadName) {
+    idleTime = IDLE_TIME.labels(threadName);
+    busyTime = BUSY_TIME.labels(threadName);
+  }
+
+  public void idleTime(final long idleTimeNanos) {
+    // the time can be negative if a controlled clock is used
+    if (idleTimeNanos > 0) {
+      idleTime.inc(idleTimeNanos / NANOS_PER_SECOND);
+    }
+  }
+
+  public void busyTime(final long busyTimeNanos) {
+    if (busyTimeNanos > 0) {
+      busyTime.inc(busyTimeNanos / NANOS_PER_SECOND);
+    }
+  }
+}
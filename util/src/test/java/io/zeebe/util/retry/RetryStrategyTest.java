@@ -76,6 +76,27 @@ public final class RetryStrategyTest {
     assertThat(resultFuture.get()).isTrue();
   }
 
+  @Test
+  public void shouldRunAgainAfterCompletion() throws Exception {
+    // given
+    final AtomicInteger count = new AtomicInteger(0);
+    actorControl.run(() -> resultFuture = retryStrategy.runWithRetry(() -> true));
+    schedulerRule.workUntilDone();
+
+    // when
+    actorControl.run(
+        () -> {
+          resultFuture = retryStrategy.runWithRetry(() -> count.incrementAndGet() == 2);
+        });
+
+    schedulerRule.workUntilDone();
+
+    // then
+    assertThat(count.get()).isEqualTo(2);
+    assertThat(resultFuture.isDone()).isTrue();
+    assertThat(resultFuture.get()).isTrue();
+  }
+
   @Test
   public void shouldStopWhenAbortConditionReturnsTrue() throws Exception {
     // given
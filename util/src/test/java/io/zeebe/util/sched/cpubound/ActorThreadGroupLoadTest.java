@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched.cpubound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorScheduler;
+import io.zeebe.util.sched.ActorThreadGroup;
+import io.zeebe.util.sched.future.ActorFuture;
+import io.zeebe.util.sched.metrics.ActorMetrics;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class ActorThreadGroupLoadTest {
+
+  private static final int ACTOR_COUNT = 10;
+
+  private ActorScheduler scheduler;
+  private ActorThreadGroup threadGroup;
+
+  @Before
+  public void setUp() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    scheduler.start();
+
+    threadGroup = scheduler.getCpuBoundThreadGroup();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    scheduler.stop().get();
+  }
+
+  @Test
+  public void shouldCountQueuedTasks() throws Exception {
+    // given
+    final List<TestActor> actors = submitActors();
+    final CountDownLatch blockingLatch = new CountDownLatch(1);
+    final ActorFuture<Void> blockingJob = actors.get(0).block(blockingLatch);
+
+    // when
+    final List<ActorFuture<Void>> jobs = new ArrayList<>();
+    for (int i = 1; i < ACTOR_COUNT; i++) {
+      jobs.add(actors.get(i).runJob());
+    }
+
+    // then
+    assertThat(threadGroup.getQueuedTaskCount()).isEqualTo(ACTOR_COUNT - 1);
+
+    blockingLatch.countDown();
+    blockingJob.join();
+    jobs.forEach(ActorFuture::join);
+
+    assertThat(threadGroup.getQueuedTaskCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldObserveSchedulingLatency() throws Exception {
+    // given
+    final List<TestActor> actors = submitActors();
+
+    // when
+    for (int i = 0; i < ActorMetrics.SAMPLE_INTERVAL; i++) {
+      final CountDownLatch blockingLatch = new CountDownLatch(1);
+      final ActorFuture<Void> blockingJob = actors.get(0).block(blockingLatch);
+      final ActorFuture<Void> job = actors.get(1).runJob();
+
+      Thread.sleep(1);
+      blockingLatch.countDown();
+      blockingJob.join();
+      job.join();
+    }
+
+    // then
+    assertThat(threadGroup.getSchedulingLatencyNanos()).isPositive();
+  }
+
+  private List<TestActor> submitActors() {
+    final List<TestActor> actors = new ArrayList<>();
+    for (int i = 0; i < ACTOR_COUNT; i++) {
+      final TestActor actor = new TestActor();
+      scheduler.submitActor(actor).join();
+      actors.add(actor);
+    }
+    return actors;
+  }
+
+  private static final class TestActor extends Actor {
+
+    ActorFuture<Void> runJob() {
+      return actor.call(() -> {});
+    }
+
+    ActorFuture<Void> block(final CountDownLatch latch) {
+      final CountDownLatch blockingLatch = new CountDownLatch(1);
+      final ActorFuture<Void> future =
+          actor.call(
+              () -> {
+                blockingLatch.countDown();
+                latch.await(10, TimeUnit.SECONDS);
+                return null;
+              });
+
+      try {
+        // wait until the thread is blocked
+        blockingLatch.await(10, TimeUnit.SECONDS);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return future;
+    }
+  }
+}
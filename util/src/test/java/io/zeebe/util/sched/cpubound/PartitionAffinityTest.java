@@ -0,0 +1,116 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched.cpubound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorScheduler;
+import io.zeebe.util.sched.future.ActorFuture;
+import io.zeebe.util.sched.future.CompletableActorFuture;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class PartitionAffinityTest {
+
+  private static final int THREAD_COUNT = 4;
+  private static final int JOB_COUNT = 1_000;
+
+  private ActorScheduler scheduler;
+
+  @Before
+  public void setUp() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(THREAD_COUNT)
+            .setIoBoundActorThreadCount(1)
+            .setPartitionAffinityEnabled(true)
+            .build();
+    scheduler.start();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    scheduler.stop().get();
+  }
+
+  @Test
+  public void shouldExecuteActorsOfPartitionOnSameThread() {
+    // given
+    final PartitionActor firstActor = new PartitionActor(2);
+    final PartitionActor secondActor = new PartitionActor(2);
+    scheduler.submitActor(firstActor).join();
+    scheduler.submitActor(secondActor).join();
+
+    // when
+    final ActorFuture<Void> firstJobs = firstActor.runJobs();
+    final ActorFuture<Void> secondJobs = secondActor.runJobs();
+    firstJobs.join();
+    secondJobs.join();
+
+    // then
+    assertThat(firstActor.threads).hasSize(1);
+    assertThat(secondActor.threads).isEqualTo(firstActor.threads);
+  }
+
+  @Test
+  public void shouldExecuteActorsOfDifferentPartitionsOnDifferentThreads() {
+    // given
+    final PartitionActor firstActor = new PartitionActor(1);
+    final PartitionActor secondActor = new PartitionActor(2);
+    scheduler.submitActor(firstActor).join();
+    scheduler.submitActor(secondActor).join();
+
+    // when
+    final ActorFuture<Void> firstJobs = firstActor.runJobs();
+    final ActorFuture<Void> secondJobs = secondActor.runJobs();
+    firstJobs.join();
+    secondJobs.join();
+
+    // then
+    assertThat(firstActor.threads).hasSize(1);
+    assertThat(secondActor.threads).hasSize(1).doesNotContainAnyElementsOf(firstActor.threads);
+  }
+
+  private static final class PartitionActor extends Actor {
+
+    private final int partitionId;
+    private final Set<String> threads = new HashSet<>();
+    private final CompletableActorFuture<Void> jobsDone = new CompletableActorFuture<>();
+    private int executedJobs;
+
+    private PartitionActor(final int partitionId) {
+      this.partitionId = partitionId;
+    }
+
+    @Override
+    public int getPartitionAffinity() {
+      return partitionId;
+    }
+
+    ActorFuture<Void> runJobs() {
+      actor.run(this::runJob);
+      return jobsDone;
+    }
+
+    private void runJob() {
+      threads.add(Thread.currentThread().getName());
+
+      executedJobs += 1;
+      if (executedJobs < JOB_COUNT) {
+        // yield the thread after each job
+        actor.submit(this::runJob);
+      } else {
+        jobsDone.complete(null);
+      }
+    }
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched.cpubound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.prometheus.client.CollectorRegistry;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorCondition;
+import io.zeebe.util.sched.ActorPriority;
+import io.zeebe.util.sched.ActorScheduler;
+import io.zeebe.util.sched.future.ActorFuture;
+import io.zeebe.util.sched.future.CompletableActorFuture;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.After;
+import org.junit.Test;
+
+public final class TaskExecutionBudgetTest {
+
+  private static final int JOB_COUNT = 100;
+  private static final long JOB_DURATION_NANOS = TimeUnit.MICROSECONDS.toNanos(500);
+
+  private ActorScheduler scheduler;
+
+  @After
+  public void tearDown() throws Exception {
+    scheduler.stop().get();
+  }
+
+  @Test
+  public void shouldPreemptTaskWhenBudgetIsUsed() {
+    // given
+    startScheduler(Duration.ofMillis(1));
+
+    final BusyActor busyActor = new BusyActor("budget-test-busy");
+    final BusyActor otherActor = new BusyActor("budget-test-other");
+    scheduler.submitActor(busyActor).join();
+    scheduler.submitActor(otherActor).join();
+
+    // when
+    final ActorFuture<Void> busyJobs = busyActor.runJobs(JOB_COUNT);
+    final ActorFuture<Void> otherJobs = otherActor.runJobs(1);
+    otherJobs.join();
+
+    // then
+    assertThat(busyJobs.isDone()).isFalse();
+    busyJobs.join();
+    assertThat(getPreemptionCount("budget-test-busy")).isPositive();
+  }
+
+  @Test
+  public void shouldPreemptTaskWithBacklogOfExternallyTriggeredJobs() {
+    // given
+    startScheduler(Duration.ofMillis(1));
+
+    final BusyActor busyActor = new BusyActor("budget-test-signalled");
+    final BusyActor otherActor = new BusyActor("budget-test-signalled-other");
+    scheduler.submitActor(busyActor).join();
+    scheduler.submitActor(otherActor).join();
+
+    // when
+    final ActorFuture<Void> busyJobs = busyActor.signalJobs(JOB_COUNT);
+    final ActorFuture<Void> otherJobs = otherActor.signalJobs(1);
+    otherJobs.join();
+
+    // then
+    assertThat(busyJobs.isDone()).isFalse();
+    busyJobs.join();
+    assertThat(getPreemptionCount("budget-test-signalled")).isPositive();
+  }
+
+  @Test
+  public void shouldNotPreemptTaskIfBudgetIsDisabled() {
+    // given
+    startScheduler(Duration.ZERO);
+
+    final BusyActor busyActor = new BusyActor("budget-test-unlimited");
+    scheduler.submitActor(busyActor).join();
+
+    // when
+    busyActor.runJobs(JOB_COUNT).join();
+
+    // then
+    assertThat(getPreemptionCount("budget-test-unlimited")).isZero();
+  }
+
+  private void startScheduler(final Duration budget) {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setTaskExecutionBudget(ActorPriority.REGULAR, budget)
+            .build();
+    scheduler.start();
+  }
+
+  private static double getPreemptionCount(final String actorName) {
+    final Double value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_actor_task_preemption_count",
+            new String[] {"actorName"},
+            new String[] {actorName});
+    return value != null ? value : 0.0;
+  }
+
+  private static final class BusyActor extends Actor {
+
+    private final String name;
+    private final CompletableActorFuture<Void> jobsDone = new CompletableActorFuture<>();
+    private ActorCondition jobsAvailable;
+    private int remainingJobs;
+
+    private BusyActor(final String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    ActorFuture<Void> runJobs(final int jobCount) {
+      actor.call(
+          () -> {
+            remainingJobs = jobCount;
+            actor.run(this::runJob);
+          });
+      return jobsDone;
+    }
+
+    /**
+     * Triggers the jobs from outside of the actor. The jobs are not queued in the task, but are
+     * polled from the condition one after another.
+     */
+    ActorFuture<Void> signalJobs(final int jobCount) {
+      actor.call(() -> remainingJobs = jobCount).join();
+      for (int i = 0; i < jobCount; i++) {
+        jobsAvailable.signal();
+      }
+      return jobsDone;
+    }
+
+    @Override
+    protected void onActorStarted() {
+      jobsAvailable = actor.onCondition(name + "-jobs", this::runSignalledJob);
+    }
+
+    private void runSignalledJob() {
+      busyWait();
+
+      remainingJobs -= 1;
+      if (remainingJobs == 0) {
+        jobsDone.complete(null);
+      }
+    }
+
+    private void runJob() {
+      busyWait();
+
+      remainingJobs -= 1;
+      if (remainingJobs > 0) {
+        // the next job is executed immediately by the same task
+        actor.run(this::runJob);
+      } else {
+        jobsDone.complete(null);
+      }
+    }
+
+    private static void busyWait() {
+      final long deadline = System.nanoTime() + JOB_DURATION_NANOS;
+      while (System.nanoTime() < deadline) {
+        LockSupport.parkNanos(JOB_DURATION_NANOS / 10);
+      }
+    }
+  }
+}
@@ -67,6 +67,49 @@ public final class ActorFutureTest {
     assertThat(callbackInvocations).hasValue(1);
   }
 
+  @Test
+  public void shouldInvokeCallbacksOfConsecutiveFutures() {
+    // given
+    final List<CompletableActorFuture<Integer>> futures =
+        Arrays.asList(
+            new CompletableActorFuture<>(),
+            new CompletableActorFuture<>(),
+            new CompletableActorFuture<>());
+    final List<Integer> invocations = new ArrayList<>();
+
+    final Actor waitingActor =
+        new Actor() {
+          @Override
+          protected void onActorStarted() {
+            waitOn(0);
+          }
+
+          private void waitOn(final int index) {
+            actor.runOnCompletion(
+                futures.get(index),
+                (r, t) -> {
+                  invocations.add(r);
+                  if (index + 1 < futures.size()) {
+                    // the subscription of the completed future is reused afterwards
+                    waitOn(index + 1);
+                  }
+                });
+          }
+        };
+
+    schedulerRule.submitActor(waitingActor);
+    schedulerRule.workUntilDone();
+
+    // when
+    for (int i = 0; i < futures.size(); i++) {
+      futures.get(i).complete(i);
+      schedulerRule.workUntilDone();
+    }
+
+    // then
+    assertThat(invocations).containsExactly(0, 1, 2);
+  }
+
   @Test
   public void shouldInvokeCallbackOnBlockPhaseForFutureCompletion() {
     // given
@@ -0,0 +1,176 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched.iobound;
+
+import static io.zeebe.util.sched.SchedulingHints.ioBound;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorScheduler;
+import io.zeebe.util.sched.future.ActorFuture;
+import io.zeebe.util.sched.future.CompletableActorFuture;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+
+public final class IoThreadGroupTest {
+
+  private ActorScheduler scheduler;
+  private final CountDownLatch blockingLatch = new CountDownLatch(1);
+
+  @After
+  public void tearDown() throws Exception {
+    blockingLatch.countDown();
+    scheduler.stop().get();
+  }
+
+  @Test
+  public void shouldStartAdditionalThreadIfThreadsAreBlocked() {
+    // given
+    startScheduler(2);
+
+    final IoActor blockingActor = new IoActor();
+    final IoActor otherActor = new IoActor();
+    submitActors(blockingActor, otherActor);
+
+    final ActorFuture<Void> blocked = blockingActor.block(blockingLatch);
+
+    // when
+    final ActorFuture<Void> otherJob = otherActor.runAfterBlockingThreshold();
+
+    // then
+    otherJob.join();
+    assertThat(blocked.isDone()).isFalse();
+  }
+
+  @Test
+  public void shouldRunActorOfSamePartitionIfThreadsAreBlocked() {
+    // given
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setMaxIoBoundActorThreadCount(2)
+            .setIoBoundBlockingThreshold(Duration.ofMillis(10))
+            .setPartitionAffinityEnabled(true)
+            .build();
+    scheduler.start();
+
+    final IoActor blockingActor = new IoActor(2);
+    final IoActor otherActor = new IoActor(2);
+    submitActors(blockingActor, otherActor);
+
+    final ActorFuture<Void> blocked = blockingActor.block(blockingLatch);
+
+    // when
+    final ActorFuture<Void> otherJob = otherActor.runAfterBlockingThreshold();
+
+    // then
+    otherJob.join();
+    assertThat(blocked.isDone()).isFalse();
+  }
+
+  @Test
+  public void shouldNotStartMoreThreadsThanMaximum() throws Exception {
+    // given
+    startScheduler(1);
+
+    final IoActor blockingActor = new IoActor();
+    final IoActor otherActor = new IoActor();
+    submitActors(blockingActor, otherActor);
+
+    final ActorFuture<Void> blocked = blockingActor.block(blockingLatch);
+
+    // when
+    final ActorFuture<Void> otherJob = otherActor.runAfterBlockingThreshold();
+    Thread.sleep(100);
+
+    // then
+    assertThat(otherJob.isDone()).isFalse();
+
+    blockingLatch.countDown();
+    blocked.join();
+    otherJob.join();
+  }
+
+  private void submitActors(final IoActor... actors) {
+    for (final IoActor actor : actors) {
+      scheduler.submitActor(actor, ioBound()).join();
+      // the started future is completed before the started job of the actor is executed
+      actor.awaitStarted().join();
+    }
+  }
+
+  private void startScheduler(final int maxIoThreadCount) {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setMaxIoBoundActorThreadCount(maxIoThreadCount)
+            .setIoBoundBlockingThreshold(Duration.ofMillis(10))
+            .build();
+    scheduler.start();
+  }
+
+  private static final class IoActor extends Actor {
+
+    private final int partitionId;
+
+    IoActor() {
+      this(NO_PARTITION_AFFINITY);
+    }
+
+    IoActor(final int partitionId) {
+      this.partitionId = partitionId;
+    }
+
+    @Override
+    public int getPartitionAffinity() {
+      return partitionId;
+    }
+
+    ActorFuture<Void> awaitStarted() {
+      return actor.call(() -> null);
+    }
+
+    ActorFuture<Void> block(final CountDownLatch latch) {
+      final CompletableActorFuture<Void> future = new CompletableActorFuture<>();
+      final CountDownLatch blockingStarted = new CountDownLatch(1);
+      actor.run(
+          () -> {
+            blockingStarted.countDown();
+            try {
+              latch.await(30, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            future.complete(null);
+          });
+
+      try {
+        // the thread is only considered blocked if it executes the job already
+        blockingStarted.await(10, TimeUnit.SECONDS);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return future;
+    }
+
+    ActorFuture<Void> runAfterBlockingThreshold() {
+      try {
+        // give the blocking actor time to exceed the blocking threshold
+        Thread.sleep(50);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return actor.call(() -> null);
+    }
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.prometheus.client.CollectorRegistry;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.testing.ControlledActorSchedulerRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ActorMetricsTest {
+
+  @Rule
+  public final ControlledActorSchedulerRule schedulerRule = new ControlledActorSchedulerRule();
+
+  @Test
+  public void shouldCountExecutedJobs() {
+    // given
+    final String actorName = "metrics-test-jobs";
+    final var actor = new NamedActor(actorName);
+    schedulerRule.submitActor(actor);
+    schedulerRule.workUntilDone();
+
+    final double jobsBefore = getSampleValue("zeebe_actor_jobs_executed_total", actorName);
+
+    // when
+    for (int i = 0; i < ActorMetrics.SAMPLE_INTERVAL; i++) {
+      actor.runJob();
+    }
+    schedulerRule.workUntilDone();
+
+    // then
+    assertThat(getSampleValue("zeebe_actor_jobs_executed_total", actorName))
+        .isEqualTo(jobsBefore + ActorMetrics.SAMPLE_INTERVAL);
+    assertThat(getSampleValue("zeebe_actor_task_execution_count", actorName)).isPositive();
+    assertThat(getSampleValue("zeebe_actor_job_execution_time_count", actorName)).isPositive();
+  }
+
+  @Test
+  public void shouldSampleSchedulingLatency() {
+    // given
+    final String actorName = "metrics-test-latency";
+    final var actor = new NamedActor(actorName);
+    schedulerRule.submitActor(actor);
+    schedulerRule.workUntilDone();
+
+    // when
+    for (int i = 0; i < ActorMetrics.SAMPLE_INTERVAL; i++) {
+      actor.runJob();
+      schedulerRule.workUntilDone();
+    }
+
+    // then
+    assertThat(getSampleValue("zeebe_actor_task_scheduling_latency_count", actorName)).isPositive();
+  }
+
+  private static double getSampleValue(final String name, final String actorName) {
+    final Double value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            name, new String[] {"actorName"}, new String[] {actorName});
+    return value != null ? value : 0.0;
+  }
+
+  private static final class NamedActor extends Actor {
+
+    private final String name;
+
+    private NamedActor(final String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    void runJob() {
+      actor.run(() -> {});
+    }
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.prometheus.client.CollectorRegistry;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorScheduler;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.After;
+import org.junit.Test;
+
+public final class ActorThreadMetricsTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+  private ActorScheduler scheduler;
+
+  @After
+  public void tearDown() throws Exception {
+    scheduler.stop().get();
+  }
+
+  @Test
+  public void shouldReportIdleTimeWhileThreadStaysIdle() {
+    // given
+    startScheduler("idle-metrics-test");
+
+    // when
+    final boolean isReported =
+        awaitIncrease("zeebe_actor_thread_idle_time_seconds", "idle-metrics-test-zb-actors-0", 0);
+
+    // then
+    assertThat(isReported).isTrue();
+  }
+
+  @Test
+  public void shouldReportBusyTimeWhileThreadStaysBusy() {
+    // given
+    startScheduler("busy-metrics-test");
+    final BusyActor busyActor = new BusyActor();
+    scheduler.submitActor(busyActor).join();
+
+    final String threadName = "busy-metrics-test-zb-actors-0";
+    final double busyTimeBefore =
+        getSampleValue("zeebe_actor_thread_busy_time_seconds", threadName);
+
+    // when
+    busyActor.startJobs();
+    final boolean isReported =
+        awaitIncrease("zeebe_actor_thread_busy_time_seconds", threadName, busyTimeBefore);
+    busyActor.stopJobs();
+
+    // then
+    assertThat(isReported).isTrue();
+  }
+
+  private void startScheduler(final String schedulerName) {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setSchedulerName(schedulerName)
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    scheduler.start();
+  }
+
+  private static boolean awaitIncrease(
+      final String name, final String threadName, final double initialValue) {
+    final long deadline = System.nanoTime() + TIMEOUT.toNanos();
+
+    while (System.nanoTime() < deadline) {
+      if (getSampleValue(name, threadName) > initialValue) {
+        return true;
+      }
+      LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+    }
+    return false;
+  }
+
+  private static double getSampleValue(final String name, final String threadName) {
+    final Double value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            name, new String[] {"thread"}, new String[] {threadName});
+    return value != null ? value : 0.0;
+  }
+
+  private static final class BusyActor extends Actor {
+
+    private volatile boolean isRunning;
+
+    void startJobs() {
+      isRunning = true;
+      actor.call(() -> actor.run(this::runJob));
+    }
+
+    void stopJobs() {
+      isRunning = false;
+    }
+
+    private void runJob() {
+      final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(1);
+      while (System.nanoTime() < deadline) {
+        // keep the thread busy
+      }
+
+      if (isRunning) {
+        actor.run(this::runJob);
+      }
+    }
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db;
+
+/**
+ * Collects the statistics of the put, get and delete operations of a transaction, see {@link
+ * ZeebeDbTransaction#setStatistics(DbOperationStatistics)}. The number of puts and deletes is
+ * always counted, the time spent in the operations only if the statistics are timed, since reading
+ * the clock on every operation is not free. Iterators are not covered.
+ */
+public final class DbOperationStatistics {
+
+  private boolean timed;
+  private long operationNanos;
+  private long puts;
+  private long deletes;
+
+  /**
+   * Resets the collected statistics.
+   *
+   * @param timed {@code true} if the time spent in the operations should be measured
+   */
+  public void reset(final boolean timed) {
+    this.timed = timed;
+    operationNanos = 0;
+    puts = 0;
+    deletes = 0;
+  }
+
+  public boolean isTimed() {
+    return timed;
+  }
+
+  public void addOperationNanos(final long nanos) {
+    operationNanos += nanos;
+  }
+
+  public void onPut() {
+    puts++;
+  }
+
+  public void onDelete() {
+    deletes++;
+  }
+
+  /** @return the time spent in the put, get and delete operations, if timed */
+  public long getOperationNanos() {
+    return operationNanos;
+  }
+
+  public long getPuts() {
+    return puts;
+  }
+
+  public long getDeletes() {
+    return deletes;
+  }
+}
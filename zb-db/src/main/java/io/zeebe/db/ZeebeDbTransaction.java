@@ -38,4 +38,12 @@ public interface ZeebeDbTransaction {
    * @throws Exception if the underlying database has a non recoverable exception thrown
    */
   void rollback() throws Exception;
+
+  /**
+   * Sets the statistics which collect the operations of this transaction until they are replaced.
+   *
+   * @param statistics the statistics to collect the operations in, or {@code null} to stop
+   *     collecting
+   */
+  void setStatistics(DbOperationStatistics statistics);
 }
@@ -9,6 +9,7 @@ package io.zeebe.db.impl.rocksdb.transaction;
 
 import static io.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRocksDbExceptionRecoverable;
 
+import io.zeebe.db.DbOperationStatistics;
 import io.zeebe.db.TransactionOperation;
 import io.zeebe.db.ZeebeDbException;
 import io.zeebe.db.ZeebeDbTransaction;
@@ -23,6 +24,7 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   private final Transaction transaction;
   private final long nativeHandle;
   private boolean inCurrentTransaction;
+  private DbOperationStatistics statistics;
 
   public ZeebeTransaction(final Transaction transaction) {
     this.transaction = transaction;
@@ -40,8 +42,14 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
       final byte[] value,
       final int valueLength)
       throws Exception {
+    final long startTime = startOperation();
     RocksDbInternal.putWithHandle.invoke(
         transaction, nativeHandle, key, keyLength, value, valueLength, columnFamilyHandle, false);
+    endOperation(startTime);
+
+    if (statistics != null) {
+      statistics.onPut();
+    }
   }
 
   public byte[] get(
@@ -50,21 +58,41 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
       final byte[] key,
       final int keyLength)
       throws Exception {
-    return (byte[])
-        RocksDbInternal.getWithHandle.invoke(
-            transaction, nativeHandle, readOptionsHandle, key, keyLength, columnFamilyHandle);
+    final long startTime = startOperation();
+    final byte[] value =
+        (byte[])
+            RocksDbInternal.getWithHandle.invoke(
+                transaction, nativeHandle, readOptionsHandle, key, keyLength, columnFamilyHandle);
+    endOperation(startTime);
+    return value;
   }
 
   public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
       throws Exception {
+    final long startTime = startOperation();
     RocksDbInternal.removeWithHandle.invoke(
         transaction, nativeHandle, key, keyLength, columnFamilyHandle, false);
+    endOperation(startTime);
+
+    if (statistics != null) {
+      statistics.onDelete();
+    }
   }
 
   public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
     return transaction.getIterator(options, handle);
   }
 
+  private long startOperation() {
+    return statistics != null && statistics.isTimed() ? System.nanoTime() : 0L;
+  }
+
+  private void endOperation(final long startTime) {
+    if (statistics != null && statistics.isTimed()) {
+      statistics.addOperationNanos(System.nanoTime() - startTime);
+    }
+  }
+
   void resetTransaction() {
     inCurrentTransaction = true;
   }
@@ -112,6 +140,11 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  @Override
+  public void setStatistics(final DbOperationStatistics statistics) {
+    this.statistics = statistics;
+  }
+
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
     transaction.commit();
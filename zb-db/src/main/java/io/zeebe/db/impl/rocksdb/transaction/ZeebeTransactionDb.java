@@ -298,6 +298,38 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
         });
   }
 
+  protected <KeyType extends DbKey, ValueType extends DbValue> void whileTrue(
+      final long columnFamilyHandle,
+      final DbContext context,
+      final DbKey startAtKey,
+      final KeyType keyInstance,
+      final ValueType valueInstance,
+      final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    context.withPrefixKeyBuffer(
+        startKeyBuffer ->
+            ensureInOpenTransaction(
+                context,
+                transaction -> {
+                  try (final RocksIterator iterator =
+                      newIterator(columnFamilyHandle, context, defaultReadOptions)) {
+                    startAtKey.write(startKeyBuffer, 0);
+
+                    boolean shouldVisitNext = true;
+
+                    for (RocksDbInternal.seek(
+                            iterator,
+                            getNativeHandle(iterator),
+                            startKeyBuffer.byteArray(),
+                            startAtKey.getLength());
+                        iterator.isValid() && shouldVisitNext;
+                        iterator.next()) {
+                      shouldVisitNext =
+                          visit(context, keyInstance, valueInstance, visitor, iterator);
+                    }
+                  }
+                }));
+  }
+
   protected <KeyType extends DbKey, ValueType extends DbValue> void whileEqualPrefix(
       final long columnFamilyHandle,
       final DbContext context,
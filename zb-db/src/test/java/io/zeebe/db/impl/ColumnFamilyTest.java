@@ -288,6 +288,33 @@ public final class ColumnFamilyTest {
     assertThat(values).containsExactly((long) Short.MAX_VALUE, 255L, 123L);
   }
 
+  @Test
+  public void shouldUseWhileTrueFromKey() {
+    // given
+    putKeyValuePair(4567, 123);
+    putKeyValuePair(6734, 921);
+    putKeyValuePair(1213, 255);
+    putKeyValuePair(1, Short.MAX_VALUE);
+    putKeyValuePair(Short.MAX_VALUE, 1);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    final List<Long> values = new ArrayList<>();
+    key.wrapLong(1214);
+    columnFamily.whileTrue(
+        key,
+        (key, value) -> {
+          keys.add(key.getValue());
+          values.add(value.getValue());
+
+          return key.getValue() != 6734;
+        });
+
+    // then
+    assertThat(keys).containsExactly(4567L, 6734L);
+    assertThat(values).containsExactly(123L, 921L);
+  }
+
   @Test
   public void shouldDeleteWhileTrue() {
     // given